@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.4.5"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.example"
@@ -34,6 +35,10 @@ dependencies {
     annotationProcessor("org.projectlombok:lombok")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    // Lua 스크립트 테스트용 Redis 서버 (Docker 없이 실행, 클러스터 기능용 Jedis는 사용하지 않음)
+    testImplementation("com.github.codemonstur:embedded-redis:1.4.3") {
+        exclude(group = "redis.clients")
+    }
 
     //데이터베이스 관련 의존성
     runtimeOnly("com.mysql:mysql-connector-j")
@@ -57,6 +62,8 @@ dependencies {
 
     //JSON 데이터 역직렬화, 자바 객체 직렬화
     implementation ("com.fasterxml.jackson.core:jackson-databind")
+    // 리플렉션 대신 LambdaMetafactory로 getter 호출 (대용량 목록 응답 직렬화)
+    implementation("com.fasterxml.jackson.module:jackson-module-blackbird")
 
     //Valid
     implementation("org.springframework.boot:spring-boot-starter-validation")
@@ -66,6 +73,14 @@ dependencies {
 
     //redis 의존성
     implementation ("org.springframework.boot:spring-boot-starter-data-redis")
+    implementation("org.apache.commons:commons-pool2") // Lettuce 커넥션 풀
+
+    //캐시 의존성 (로컬 Caffeine + Redis 2단계 캐시)
+    implementation("org.springframework.boot:spring-boot-starter-cache")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    //메트릭 의존성
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     // excel
     implementation ("org.apache.poi:poi-ooxml:5.2.3")
@@ -117,6 +132,13 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+// 성능 측정 : ./gradlew jmh (src/jmh/java)
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+}
+
 tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
     mainClass.set("com.example.backend.BackendApplication")
 }
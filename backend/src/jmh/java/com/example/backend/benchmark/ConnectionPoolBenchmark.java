@@ -0,0 +1,132 @@
+package com.example.backend.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 동시 요청 64개에서 커넥션 풀 포화 비교 (조회 80%, 쓰기 20%).
+ * single : 모든 쿼리가 주 풀 하나를 나눠 씀
+ * routed : ReadReplicaDataSourceConfig 와 같이 readOnly 커넥션은 복제본 풀로 보냄
+ * DB 처리 시간은 고정 지연(쿼리당 2ms)으로 대신하므로 DB 부하가 아니라 풀 대기만 비교한다.
+ * 처리량이 poolSize / 2ms 근처에서 멈추면 풀이 병목이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(64)
+public class ConnectionPoolBenchmark {
+
+    private static final long QUERY_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final int READ_PERCENT = 80;
+
+    @Param({"10", "20"})
+    private int poolSize;
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private DataSource routed;
+
+    @Setup
+    public void setUp() {
+        primary = pool("primary");
+        replica = pool("replica");
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(replica);
+        routed = proxy;
+    }
+
+    @TearDown
+    public void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    private HikariDataSource pool(String name) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setDataSource(stub(DataSource.class, (proxy, method, args) ->
+                "getConnection".equals(method.getName()) ? stubConnection() : defaultValue(method.getReturnType())));
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(poolSize);
+        config.setConnectionTimeout(3000);
+        return new HikariDataSource(config);
+    }
+
+    @Benchmark
+    public boolean single() throws SQLException {
+        return query(primary);
+    }
+
+    @Benchmark
+    public boolean routed() throws SQLException {
+        return query(routed);
+    }
+
+    // 트랜잭션 시작 시 readOnly 표시 후 첫 쿼리 실행 (JpaTransactionManager 순서와 동일)
+    private boolean query(DataSource dataSource) throws SQLException {
+        boolean readOnly = ThreadLocalRandom.current().nextInt(100) < READ_PERCENT;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(readOnly);
+            try (Statement statement = connection.createStatement()) {
+                return statement.execute("select 1");
+            }
+        }
+    }
+
+    private static Connection stubConnection() {
+        Statement statement = stub(Statement.class, (proxy, method, args) -> {
+            if ("execute".equals(method.getName())) {
+                TimeUnit.NANOSECONDS.sleep(QUERY_NANOS);
+            }
+            return defaultValue(method.getReturnType());
+        });
+        return stub(Connection.class, (proxy, method, args) -> switch (method.getName()) {
+            case "createStatement" -> statement;
+            case "isValid", "getAutoCommit" -> true;
+            case "getTransactionIsolation" -> Connection.TRANSACTION_REPEATABLE_READ;
+            default -> defaultValue(method.getReturnType());
+        });
+    }
+
+    private static <T> T stub(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName() + "Stub";
+                    default -> handler.invoke(proxy, method, args);
+                }));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.domain.item.dto.response.ItemResponseDto;
+import com.example.backend.enums.Status;
+import com.example.backend.global.config.CompactPageSerializer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 품목 5천 건 관리페이지의 목록 응답 직렬화 비교.
+ * list : /items/all 전체 목록 (기본 ObjectMapper vs Blackbird, gzip 포함 비용)
+ * page : 20건 페이지 응답 (기본 PageImpl 직렬화 vs CompactPageSerializer)
+ * 응답 크기(원본/gzip)는 각 벤치마크 결과의 bytes 보조 지표로 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemListSerializationBenchmark {
+
+    private static final int ITEM_COUNT = 5_000;
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper defaultMapper;
+    private ObjectMapper blackbirdMapper;
+    private ObjectMapper compactPageMapper;
+
+    private List<ItemResponseDto> items;
+    private Page<ItemResponseDto> page;
+
+    private int listBytes;
+    private int listGzipBytes;
+    private int defaultPageBytes;
+    private int defaultPageGzipBytes;
+    private int compactPageBytes;
+    private int compactPageGzipBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        defaultMapper = baseMapper();
+        blackbirdMapper = baseMapper().registerModule(new BlackbirdModule());
+        compactPageMapper = baseMapper().registerModule(new BlackbirdModule())
+                .registerModule(new SimpleModule().addSerializer(new CompactPageSerializer()));
+
+        items = new ArrayList<>(ITEM_COUNT);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            items.add(ItemResponseDto.builder()
+                    .id((long) i)
+                    .name("비품" + i)
+                    .categoryName("카테고리" + (i % 30))
+                    .serialNumber("SN-" + (100_000 + i))
+                    .minimumQuantity(5L)
+                    .totalQuantity((long) (i % 200))
+                    .availableQuantity((long) (i % 150))
+                    .purchaseSource("구매처" + (i % 12))
+                    .location("3층 창고 " + (i % 8) + "번 선반")
+                    .isReturnRequired(i % 2 == 0)
+                    .image("https://bucket.s3.ap-northeast-2.amazonaws.com/items/" + i + ".png")
+                    .categoryId((long) (i % 30))
+                    .managementId(1L)
+                    .createdAt(now.minusDays(i % 365))
+                    .modifiedAt(now)
+                    .status(Status.ACTIVE)
+                    .build());
+        }
+        page = new PageImpl<>(items.subList(0, PAGE_SIZE),
+                PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")), ITEM_COUNT);
+
+        byte[] list = blackbirdMapper.writeValueAsBytes(items);
+        byte[] defaultPage = defaultMapper.writeValueAsBytes(page);
+        byte[] compactPage = compactPageMapper.writeValueAsBytes(page);
+        listBytes = list.length;
+        listGzipBytes = gzip(list).length;
+        defaultPageBytes = defaultPage.length;
+        defaultPageGzipBytes = gzip(defaultPage).length;
+        compactPageBytes = compactPage.length;
+        compactPageGzipBytes = gzip(compactPage).length;
+    }
+
+    // Spring Boot 기본 설정과 같게 날짜는 ISO 문자열로
+    private ObjectMapper baseMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return objectMapper;
+    }
+
+    private byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] listDefaultSerialize(PayloadSize payloadSize) throws JsonProcessingException {
+        payloadSize.bytes = listBytes;
+        return defaultMapper.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public byte[] listBlackbirdSerialize(PayloadSize payloadSize) throws JsonProcessingException {
+        payloadSize.bytes = listBytes;
+        return blackbirdMapper.writeValueAsBytes(items);
+    }
+
+    // 압축까지 포함한 응답 CPU 비용
+    @Benchmark
+    public byte[] listBlackbirdGzip(PayloadSize payloadSize) throws IOException {
+        payloadSize.bytes = listGzipBytes;
+        return gzip(blackbirdMapper.writeValueAsBytes(items));
+    }
+
+    @Benchmark
+    public byte[] pageDefaultSerialize(PayloadSize payloadSize) throws JsonProcessingException {
+        payloadSize.bytes = defaultPageBytes;
+        return defaultMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] pageCompactSerialize(PayloadSize payloadSize) throws JsonProcessingException {
+        payloadSize.bytes = compactPageBytes;
+        return compactPageMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] pageDefaultGzip(PayloadSize payloadSize) throws IOException {
+        payloadSize.bytes = defaultPageGzipBytes;
+        return gzip(defaultMapper.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public byte[] pageCompactGzip(PayloadSize payloadSize) throws IOException {
+        payloadSize.bytes = compactPageGzipBytes;
+        return gzip(compactPageMapper.writeValueAsBytes(page));
+    }
+}
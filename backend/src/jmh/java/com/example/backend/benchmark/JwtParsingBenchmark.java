@@ -0,0 +1,74 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.enums.ApprovalStatus;
+import com.example.backend.global.security.jwt.util.JwtTokenizer;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 요청 한 번당 JWT 처리 비용 비교.
+ * legacy : 호출마다 Key/파서를 새로 만들고, 필터 검증 + 인증 객체 생성 + TokenService 조회(2회)로 4번 파싱
+ * cached : 미리 만든 파서로 필터에서 한 번만 파싱하고 Claims 재사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParsingBenchmark {
+
+    private static final String ACCESS_SECRET = "benchmark-access-secret-key-must-be-at-least-32-bytes";
+    private static final String REFRESH_SECRET = "benchmark-refresh-secret-key-must-be-at-least-32-bytes";
+
+    private JwtTokenizer jwtTokenizer;
+    private byte[] accessSecretBytes;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenizer = new JwtTokenizer(ACCESS_SECRET, REFRESH_SECRET, 604_800_000L, 1_800_000L);
+        accessSecretBytes = ACCESS_SECRET.getBytes(StandardCharsets.UTF_8);
+        accessToken = jwtTokenizer.createAccessToken(1L, "user@example.com", "홍길동", "USER",
+                1L, 1L, ApprovalStatus.APPROVED, 0L);
+    }
+
+    private Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(accessSecretBytes))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Long legacyPerRequest() {
+        legacyParse(accessToken); // validateAccessToken
+        legacyParse(accessToken); // getAuthentication
+        legacyParse(accessToken); // TokenService.getIdFromToken (존재 확인)
+        return ((Number) legacyParse(accessToken).get("userId")).longValue(); // TokenService.getIdFromToken (반환)
+    }
+
+    @Benchmark
+    public Long cachedPerRequest() {
+        Claims claims = jwtTokenizer.parseAccessToken(accessToken);
+        return jwtTokenizer.getUserId(claims);
+    }
+
+    @Benchmark
+    public Claims legacySingleParse() {
+        return legacyParse(accessToken);
+    }
+
+    @Benchmark
+    public Claims cachedSingleParse() {
+        return jwtTokenizer.parseAccessToken(accessToken);
+    }
+}
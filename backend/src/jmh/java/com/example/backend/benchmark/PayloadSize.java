@@ -0,0 +1,16 @@
+package com.example.backend.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 벤치마크가 만든 페이로드 크기를 결과 표에 보조 지표(bytes)로 함께 출력.
+ * 측정 대상 코드에 영향을 주지 않도록 크기는 Setup에서 미리 계산하고, 벤치마크에서는 값만 기록한다.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class PayloadSize {
+
+    public long bytes;
+}
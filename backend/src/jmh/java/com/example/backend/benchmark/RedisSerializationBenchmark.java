@@ -0,0 +1,176 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.domain.analysis.dto.CategorySummaryDTO;
+import com.example.backend.domain.department.dto.response.DepartmentResponseDTO;
+import com.example.backend.global.redis.RedisSerializers;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 분석/참조 데이터 캐시 직렬화 비교 : @class 타입 정보를 포함한 JSON vs 타입 지정 JSON vs Hash 필드.
+ * 페이로드 크기는 직렬화 벤치마크 결과의 bytes 보조 지표로 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisSerializationBenchmark {
+
+    private static final String TOTAL_PREFIX = "total:";
+    private static final String TYPES_PREFIX = "types:";
+
+    @Param({"10", "100"})
+    private int size;
+
+    private RedisSerializer<Object> genericSerializer;
+    private RedisSerializer<Object> typedCategorySerializer;
+    private RedisSerializer<Object> typedDepartmentSerializer;
+
+    private Map<String, CategorySummaryDTO> categorySummary;
+    private List<DepartmentResponseDTO> departments;
+
+    private byte[] genericCategoryBytes;
+    private byte[] typedCategoryBytes;
+    private Map<String, String> categoryHash;
+    private int categoryHashBytes;
+    private byte[] genericDepartmentBytes;
+    private byte[] typedDepartmentBytes;
+
+    @Setup
+    public void setUp() {
+        genericSerializer = new GenericJackson2JsonRedisSerializer(defaultTypingObjectMapper());
+        typedCategorySerializer = RedisSerializers.typed(RedisSerializers.compactObjectMapper().getTypeFactory()
+                .constructMapType(HashMap.class, String.class, CategorySummaryDTO.class));
+        typedDepartmentSerializer = RedisSerializers.typed(RedisSerializers.listOf(DepartmentResponseDTO.class));
+
+        categorySummary = new HashMap<>();
+        departments = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            categorySummary.put("카테고리" + i, new CategorySummaryDTO(i * 37L, i % 13));
+            departments.add(new DepartmentResponseDTO((long) i, "부서" + i, 1L, (long) (i % 20)));
+        }
+
+        genericCategoryBytes = genericSerializer.serialize(categorySummary);
+        typedCategoryBytes = typedCategorySerializer.serialize(categorySummary);
+        categoryHash = toHash(categorySummary);
+        categoryHashBytes = hashBytes(categoryHash);
+        genericDepartmentBytes = genericSerializer.serialize(departments);
+        typedDepartmentBytes = typedDepartmentSerializer.serialize(departments);
+    }
+
+    // 기존 캐시 설정과 같은 방식 (NON_FINAL 타입 정보 포함)
+    private ObjectMapper defaultTypingObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
+        objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        objectMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("com.example.backend.")
+                        .allowIfSubType("java.util.")
+                        .allowIfSubType("java.lang.")
+                        .build(),
+                ObjectMapper.DefaultTyping.NON_FINAL);
+        return objectMapper;
+    }
+
+    private Map<String, String> toHash(Map<String, CategorySummaryDTO> summary) {
+        Map<String, String> hash = new HashMap<>();
+        summary.forEach((name, dto) -> {
+            hash.put(TOTAL_PREFIX + name, String.valueOf(dto.getTotalQuantity()));
+            hash.put(TYPES_PREFIX + name, String.valueOf(dto.getItemTypeCount()));
+        });
+        return hash;
+    }
+
+    private int hashBytes(Map<String, String> hash) {
+        int bytes = 0;
+        for (Map.Entry<String, String> entry : hash.entrySet()) {
+            bytes += entry.getKey().getBytes(StandardCharsets.UTF_8).length;
+            bytes += entry.getValue().getBytes(StandardCharsets.UTF_8).length;
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] categoryGenericSerialize(PayloadSize payloadSize) {
+        payloadSize.bytes = genericCategoryBytes.length;
+        return genericSerializer.serialize(categorySummary);
+    }
+
+    @Benchmark
+    public byte[] categoryTypedSerialize(PayloadSize payloadSize) {
+        payloadSize.bytes = typedCategoryBytes.length;
+        return typedCategorySerializer.serialize(categorySummary);
+    }
+
+    @Benchmark
+    public Map<String, String> categoryHashSerialize(PayloadSize payloadSize) {
+        payloadSize.bytes = categoryHashBytes;
+        return toHash(categorySummary);
+    }
+
+    @Benchmark
+    public Object categoryGenericDeserialize() {
+        return genericSerializer.deserialize(genericCategoryBytes);
+    }
+
+    @Benchmark
+    public Object categoryTypedDeserialize() {
+        return typedCategorySerializer.deserialize(typedCategoryBytes);
+    }
+
+    @Benchmark
+    public Map<String, CategorySummaryDTO> categoryHashDeserialize() {
+        Map<String, CategorySummaryDTO> result = new HashMap<>();
+        categoryHash.forEach((field, value) -> {
+            long count = Long.parseLong(value);
+            if (field.startsWith(TOTAL_PREFIX)) {
+                result.computeIfAbsent(field.substring(TOTAL_PREFIX.length()), k -> new CategorySummaryDTO())
+                        .setTotalQuantity(count);
+            } else {
+                result.computeIfAbsent(field.substring(TYPES_PREFIX.length()), k -> new CategorySummaryDTO())
+                        .setItemTypeCount(count);
+            }
+        });
+        return result;
+    }
+
+    @Benchmark
+    public byte[] departmentGenericSerialize(PayloadSize payloadSize) {
+        payloadSize.bytes = genericDepartmentBytes.length;
+        return genericSerializer.serialize(departments);
+    }
+
+    @Benchmark
+    public byte[] departmentTypedSerialize(PayloadSize payloadSize) {
+        payloadSize.bytes = typedDepartmentBytes.length;
+        return typedDepartmentSerializer.serialize(departments);
+    }
+
+    @Benchmark
+    public Object departmentGenericDeserialize() {
+        return genericSerializer.deserialize(genericDepartmentBytes);
+    }
+
+    @Benchmark
+    public Object departmentTypedDeserialize() {
+        return typedDepartmentSerializer.deserialize(typedDepartmentBytes);
+    }
+}
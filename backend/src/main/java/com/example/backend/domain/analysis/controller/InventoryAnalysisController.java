@@ -2,16 +2,25 @@ package com.example.backend.domain.analysis.controller;
 
 import com.example.backend.domain.analysis.dto.CategorySummaryDTO;
 import com.example.backend.domain.analysis.dto.ItemUsageFrequencyDTO;
+import com.example.backend.domain.analysis.dto.MonthlyInventoryBreakdownDTO;
 import com.example.backend.domain.analysis.dto.MonthlyInventoryDTO;
+import com.example.backend.domain.analysis.service.AnalysisSnapshotService;
 import com.example.backend.domain.analysis.service.InventoryAnalysisService;
 import com.example.backend.enums.Outbound;
+import com.example.backend.global.cache.ResourceVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -26,6 +35,27 @@ import java.util.Map;
 public class InventoryAnalysisController {
 
     private final InventoryAnalysisService analysisService;
+    private final AnalysisSnapshotService snapshotService;
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER','USER')")
+    @Operation(
+            summary = "대시보드 분석 통합 스냅샷",
+            description = "카테고리 요약, Outbound 통계, 최근 30일 사용 빈도 상위 10개, 올해 월별 입출고 요약을 한 번에 반환합니다. "
+                    + "If-None-Match 헤더가 현재 ETag와 일치하면(약한 비교) 304를 반환합니다."
+    )
+    @GetMapping(value = "/snapshot", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> getSnapshot(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        AnalysisSnapshotService.Snapshot snapshot = snapshotService.getSnapshot(analysisService.getManagementIdFromToken());
+
+        if (ResourceVersionService.matches(ifNoneMatch, snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(snapshot.body());
+    }
 
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER','USER')")
     @Operation(summary = "카테고리별 수량 및 종류 분석", description = "모든 카테고리에 대해 비품의 총 수량과 종류 수를 집계합니다.")
@@ -35,11 +65,19 @@ public class InventoryAnalysisController {
     }
 
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER','USER')")
-    @Operation(summary = "품목별 사용 빈도 상위 N개", description = "Redis ZSet을 기반으로 출고된 품목의 사용 빈도 상위 N개를 조회합니다.")
+    @Operation(summary = "품목별 사용 빈도 상위 N개", description = "최근 days일(1~90, 기본 30일) 동안 출고된 품목의 사용 빈도 상위 N개를 조회합니다.")
     @GetMapping("/item-usage")
     public ResponseEntity<List<ItemUsageFrequencyDTO>> getItemUsageRanking(
-            @RequestParam(defaultValue = "10") int topN) {
-        return ResponseEntity.ok(analysisService.getItemUsageRanking(topN));
+            @RequestParam(defaultValue = "10") int topN,
+            @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(analysisService.getItemUsageRanking(topN, days));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "품목 사용 빈도 재생성", description = "최근 90일 출고 내역으로 일자별 사용 빈도 데이터를 다시 생성합니다.")
+    @PostMapping("/item-usage/rebuild")
+    public ResponseEntity<Integer> rebuildItemUsage() {
+        return ResponseEntity.ok(analysisService.rebuildItemUsage());
     }
 
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER','USER')")
@@ -50,9 +88,32 @@ public class InventoryAnalysisController {
         return ResponseEntity.ok(analysisService.getMonthlyInventorySummary(year));
     }
 
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER','USER')")
+    @Operation(summary = "카테고리별 월별 입출고 수량 요약", description = "월별 집계 테이블을 기준으로 카테고리별 입고/출고(지급, 대여) 수량을 제공합니다.")
+    @GetMapping("/monthly-summary/categories")
+    public ResponseEntity<List<MonthlyInventoryBreakdownDTO>> getMonthlyCategorySummary(
+            @RequestParam(defaultValue = "2025") int year) {
+        return ResponseEntity.ok(analysisService.getMonthlyCategorySummary(year));
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER','USER')")
+    @Operation(summary = "비품별 월별 입출고 수량 요약", description = "월별 집계 테이블을 기준으로 비품별 입고/출고(지급, 대여) 수량을 제공합니다.")
+    @GetMapping("/monthly-summary/items")
+    public ResponseEntity<List<MonthlyInventoryBreakdownDTO>> getMonthlyItemSummary(
+            @RequestParam(defaultValue = "2025") int year) {
+        return ResponseEntity.ok(analysisService.getMonthlyItemSummary(year));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "월별 입출고 집계 재생성", description = "현재 관리페이지의 기존 입고/출고 내역으로 월별 집계를 다시 생성합니다.")
+    @PostMapping("/monthly-summary/rebuild")
+    public ResponseEntity<Integer> rebuildMonthlySummary() {
+        return ResponseEntity.ok(analysisService.rebuildMonthlySummary());
+    }
+
     @Operation(
             summary = "전체 아이템 인스턴스 Outbound 통계",
-            description = "모든 아이템 인스턴스에 대해 Outbound 상태(AVAILABLE, LEND 등)별 개수를 반환합니다. 결과는 Redis 캐시를 사용하며 약 10분간 유지됩니다."
+            description = "모든 아이템 인스턴스에 대해 Outbound 상태(AVAILABLE, LEND 등)별 개수를 반환합니다. Redis Hash 카운터를 증감 방식으로 유지하며, 10분마다 DB와 대조해 보정합니다."
     )
     @ApiResponse(
             responseCode = "200",
@@ -60,11 +121,7 @@ public class InventoryAnalysisController {
     )
     @GetMapping("/outbound-summary")
     public ResponseEntity<Map<Outbound, Long>> getGlobalOutboundSummary() {
-        Map<Outbound, Long> cached = analysisService.getCachedOutboundSummary();
-        if (cached != null) return ResponseEntity.ok(cached);
-
-        Map<Outbound, Long> fresh = analysisService.loadAndCacheOutboundSummary();
-        return ResponseEntity.ok(fresh);
+        return ResponseEntity.ok(analysisService.getOutboundSummary());
     }
 
 }
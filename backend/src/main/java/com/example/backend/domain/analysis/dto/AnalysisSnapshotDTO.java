@@ -0,0 +1,28 @@
+package com.example.backend.domain.analysis.dto;
+
+import com.example.backend.enums.Outbound;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "대시보드 분석 통합 스냅샷 DTO")
+public class AnalysisSnapshotDTO {
+
+    @Schema(description = "카테고리별 총 수량 및 종류 수")
+    private Map<String, CategorySummaryDTO> categorySummary;
+
+    @Schema(description = "개별자산 Outbound 상태별 개수")
+    private Map<Outbound, Long> outboundSummary;
+
+    @Schema(description = "최근 30일 품목 사용 빈도 상위 10개")
+    private List<ItemUsageFrequencyDTO> itemUsage;
+
+    @Schema(description = "올해 월별 입출고 수량 요약")
+    private List<MonthlyInventoryDTO> monthlySummary;
+}
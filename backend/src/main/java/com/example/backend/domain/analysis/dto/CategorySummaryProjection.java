@@ -0,0 +1,8 @@
+package com.example.backend.domain.analysis.dto;
+
+public interface CategorySummaryProjection {
+    //카테고리별 총 수량 및 종류 수 집계
+    String getCategoryName();
+    Long getTotalQuantity();
+    Long getItemTypeCount();
+}
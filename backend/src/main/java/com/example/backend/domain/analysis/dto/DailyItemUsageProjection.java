@@ -0,0 +1,9 @@
+package com.example.backend.domain.analysis.dto;
+
+public interface DailyItemUsageProjection {
+    //관리페이지/품목/일자(yyyyMMdd)별 출고 수량
+    Long getManagementId();
+    Long getItemId();
+    String getUsageDay();
+    Long getQuantity();
+}
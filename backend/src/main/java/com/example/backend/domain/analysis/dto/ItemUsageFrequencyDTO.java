@@ -12,9 +12,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 @Schema(description = "품목별 사용 빈도 DTO")
 public class ItemUsageFrequencyDTO {
 
+    @Schema(description = "품목 ID", example = "1")
+    private Long itemId;
+
     @Schema(description = "품목 이름", example = "모니터")
     private String itemName;
 
-    @Schema(description = "출고 기준 누적 사용 수량", example = "150")
+    @Schema(description = "조회 기간 내 출고 기준 사용 수량", example = "150")
     private long usageCount;
 }
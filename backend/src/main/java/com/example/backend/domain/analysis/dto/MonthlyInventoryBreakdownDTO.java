@@ -0,0 +1,35 @@
+package com.example.backend.domain.analysis.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.YearMonth;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "카테고리/비품별 월별 입고 및 출고 수량 통계 DTO")
+public class MonthlyInventoryBreakdownDTO {
+
+    @Schema(description = "해당 연월 (예: 2025-03)", example = "2025-03")
+    private YearMonth month;
+
+    @Schema(description = "카테고리 또는 비품 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "카테고리 또는 비품 이름", example = "모니터")
+    private String name;
+
+    @Schema(description = "해당 월의 입고 수량 총합", example = "120")
+    private long inboundQuantity;
+
+    @Schema(description = "해당 월의 출고 수량 총합", example = "100")
+    private long outboundQuantity;
+
+    @Schema(description = "해당 월의 지급 출고 수량", example = "70")
+    private long issueQuantity;
+
+    @Schema(description = "해당 월의 대여 출고 수량", example = "30")
+    private long lendQuantity;
+}
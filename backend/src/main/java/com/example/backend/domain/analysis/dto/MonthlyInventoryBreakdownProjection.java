@@ -0,0 +1,7 @@
+package com.example.backend.domain.analysis.dto;
+
+public interface MonthlyInventoryBreakdownProjection extends MonthlyInventoryProjection {
+    //카테고리/비품별 월별 입출고 집계
+    Long getTargetId();
+    String getTargetName();
+}
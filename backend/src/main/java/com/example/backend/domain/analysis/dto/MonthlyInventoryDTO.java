@@ -21,4 +21,10 @@ public class MonthlyInventoryDTO {
 
     @Schema(description = "해당 월의 출고 수량 총합", example = "100")
     private long outboundQuantity;
+
+    @Schema(description = "해당 월의 지급 출고 수량", example = "70")
+    private long issueQuantity;
+
+    @Schema(description = "해당 월의 대여 출고 수량", example = "30")
+    private long lendQuantity;
 }
@@ -0,0 +1,10 @@
+package com.example.backend.domain.analysis.dto;
+
+public interface MonthlyInventoryProjection {
+    //월별 입출고 집계
+    String getSummaryMonth();
+    Long getInboundQuantity();
+    Long getOutboundQuantity();
+    Long getIssueQuantity();
+    Long getLendQuantity();
+}
@@ -0,0 +1,67 @@
+package com.example.backend.domain.analysis.entity;
+
+import com.example.backend.global.auditable.Auditable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+// 관리페이지 · 비품 · 카테고리 · 월 단위 입출고 수량 집계 (입고/출고 저장 시 누적)
+@Entity
+@Table(name = "inventory_monthly_summaries",
+        uniqueConstraints = {
+                // 같은 비품이라도 입출고 당시 카테고리별로 따로 집계 (카테고리별 합계가 섞이지 않도록)
+                @UniqueConstraint(name = "uk_inventory_monthly_summary_category",
+                        columnNames = {"management_id", "item_id", "category_id", "summary_month"})
+        },
+        indexes = {
+                @Index(name = "idx_inventory_monthly_summary_month", columnList = "management_id, summary_month")
+        })
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+public class InventoryMonthlySummary extends Auditable {
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "management_id", nullable = false)
+    private Long managementId;
+
+    // 비품이 지정되지 않은 입고는 0 (비품별 집계에서는 제외, 월별/카테고리별 합계에는 포함)
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    // yyyy-MM
+    @Column(name = "summary_month", nullable = false, length = 7)
+    private String summaryMonth;
+
+    @Column(name = "inbound_quantity", nullable = false)
+    private long inboundQuantity;
+
+    @Column(name = "outbound_quantity", nullable = false)
+    private long outboundQuantity;
+
+    // 출고 유형별 수량 (지급, 대여)
+    @Column(name = "issue_quantity", nullable = false)
+    private long issueQuantity;
+
+    @Column(name = "lend_quantity", nullable = false)
+    private long lendQuantity;
+}
@@ -0,0 +1,42 @@
+package com.example.backend.domain.analysis.event;
+
+import com.example.backend.domain.analysis.service.AnalysisSnapshotService;
+import com.example.backend.domain.analysis.service.InventoryAnalysisService;
+import com.example.backend.enums.AnalysisCacheType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisCacheEventListener {
+
+    private final InventoryAnalysisService analysisService;
+    private final AnalysisSnapshotService snapshotService;
+
+    // 해당 관리페이지의 캐시 키만 삭제
+    @EventListener
+    public void handleInvalidation(AnalysisCacheInvalidationEvent event) {
+        for (AnalysisCacheType cacheType : event.getCacheTypes()) {
+            try {
+                switch (cacheType) {
+                    case CATEGORY_SUMMARY -> analysisService.evictCategorySummary(event.getManagementDashboardId());
+                    case OUTBOUND_SUMMARY -> analysisService.evictOutboundSummary(event.getManagementDashboardId());
+                    case SNAPSHOT -> { }
+                }
+            } catch (Exception e) {
+                log.warn("분석 캐시 무효화 실패 (dashboard={}, cache={}): {}",
+                        event.getManagementDashboardId(), cacheType, e.getMessage());
+            }
+        }
+
+        // 어떤 분석 데이터가 바뀌어도 스냅샷은 다시 만들어야 함
+        try {
+            snapshotService.evict(event.getManagementDashboardId());
+        } catch (Exception e) {
+            log.warn("분석 스냅샷 무효화 실패 (dashboard={}): {}", event.getManagementDashboardId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.backend.domain.analysis.event;
+
+import com.example.backend.enums.AnalysisCacheType;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class AnalysisCacheInvalidationEvent {
+    Long managementDashboardId;
+    Set<AnalysisCacheType> cacheTypes;
+}
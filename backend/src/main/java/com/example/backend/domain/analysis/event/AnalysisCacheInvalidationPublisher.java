@@ -0,0 +1,65 @@
+package com.example.backend.domain.analysis.event;
+
+import com.example.backend.enums.AnalysisCacheType;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 분석 캐시 무효화 요청을 트랜잭션 단위로 모아서 커밋 이후 관리페이지별 이벤트 한 번으로 발행
+@Component
+@RequiredArgsConstructor
+public class AnalysisCacheInvalidationPublisher {
+
+    private static final Object PENDING_KEY = AnalysisCacheInvalidationPublisher.class.getName() + ".PENDING";
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void invalidate(Long managementDashboardId, AnalysisCacheType... cacheTypes) {
+        if (managementDashboardId == null || cacheTypes.length == 0) return;
+
+        // 트랜잭션 밖에서는 바로 발행
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(new AnalysisCacheInvalidationEvent(managementDashboardId, EnumSet.of(cacheTypes[0], cacheTypes)));
+            return;
+        }
+
+        getPending().computeIfAbsent(managementDashboardId, id -> EnumSet.noneOf(AnalysisCacheType.class))
+                .addAll(Set.of(cacheTypes));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Set<AnalysisCacheType>> getPending() {
+        Map<Long, Set<AnalysisCacheType>> pending =
+                (Map<Long, Set<AnalysisCacheType>>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending != null) return pending;
+
+        Map<Long, Set<AnalysisCacheType>> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(PENDING_KEY, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // 카운터 증감(CounterCacheWriter) 반영 이후에 무효화해야 다시 만들어지는 스냅샷이 반영된 값을 읽음
+            @Override
+            public int getOrder() {
+                return Ordered.LOWEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                created.forEach((managementDashboardId, cacheTypes) ->
+                        eventPublisher.publishEvent(new AnalysisCacheInvalidationEvent(managementDashboardId, cacheTypes)));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+            }
+        });
+        return created;
+    }
+}
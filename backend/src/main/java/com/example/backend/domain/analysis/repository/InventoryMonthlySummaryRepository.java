@@ -0,0 +1,153 @@
+package com.example.backend.domain.analysis.repository;
+
+import com.example.backend.domain.analysis.dto.MonthlyInventoryBreakdownProjection;
+import com.example.backend.domain.analysis.dto.MonthlyInventoryProjection;
+import com.example.backend.domain.analysis.entity.InventoryMonthlySummary;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface InventoryMonthlySummaryRepository extends JpaRepository<InventoryMonthlySummary, Long> {
+
+    // 입고/출고 저장 시 해당 월 집계에 수량 누적 (행이 없으면 생성)
+    // 카테고리도 유니크 키에 포함되므로 비품의 카테고리가 바뀌면 새 카테고리 행에 따로 쌓임
+    @Modifying
+    @Query(value = """
+        INSERT INTO inventory_monthly_summaries
+            (management_id, item_id, category_id, summary_month,
+             inbound_quantity, outbound_quantity, issue_quantity, lend_quantity,
+             created_at, modified_at)
+        VALUES (:managementId, :itemId, :categoryId, :summaryMonth,
+                :inbound, :outbound, :issue, :lend,
+                NOW(), NOW())
+        ON DUPLICATE KEY UPDATE
+            inbound_quantity  = inbound_quantity + VALUES(inbound_quantity),
+            outbound_quantity = outbound_quantity + VALUES(outbound_quantity),
+            issue_quantity    = issue_quantity + VALUES(issue_quantity),
+            lend_quantity     = lend_quantity + VALUES(lend_quantity),
+            modified_at       = NOW()
+    """, nativeQuery = true)
+    int accumulate(@Param("managementId") Long managementId,
+                   @Param("itemId") Long itemId,
+                   @Param("categoryId") Long categoryId,
+                   @Param("summaryMonth") String summaryMonth,
+                   @Param("inbound") long inbound,
+                   @Param("outbound") long outbound,
+                   @Param("issue") long issue,
+                   @Param("lend") long lend);
+
+    // 관리페이지 월별 합계
+    @Query("""
+        SELECT s.summaryMonth          AS summaryMonth,
+               SUM(s.inboundQuantity)  AS inboundQuantity,
+               SUM(s.outboundQuantity) AS outboundQuantity,
+               SUM(s.issueQuantity)    AS issueQuantity,
+               SUM(s.lendQuantity)     AS lendQuantity
+          FROM InventoryMonthlySummary s
+         WHERE s.managementId = :managementId
+           AND s.summaryMonth BETWEEN :fromMonth AND :toMonth
+         GROUP BY s.summaryMonth
+    """)
+    List<MonthlyInventoryProjection> sumByMonth(@Param("managementId") Long managementId,
+                                                @Param("fromMonth") String fromMonth,
+                                                @Param("toMonth") String toMonth);
+
+    // 카테고리별 월별 합계
+    @Query("""
+        SELECT s.summaryMonth          AS summaryMonth,
+               c.id                    AS targetId,
+               c.name                  AS targetName,
+               SUM(s.inboundQuantity)  AS inboundQuantity,
+               SUM(s.outboundQuantity) AS outboundQuantity,
+               SUM(s.issueQuantity)    AS issueQuantity,
+               SUM(s.lendQuantity)     AS lendQuantity
+          FROM InventoryMonthlySummary s
+          JOIN Category c ON c.id = s.categoryId
+         WHERE s.managementId = :managementId
+           AND s.summaryMonth BETWEEN :fromMonth AND :toMonth
+         GROUP BY s.summaryMonth, c.id, c.name
+         ORDER BY s.summaryMonth, c.name
+    """)
+    List<MonthlyInventoryBreakdownProjection> sumByMonthAndCategory(@Param("managementId") Long managementId,
+                                                                   @Param("fromMonth") String fromMonth,
+                                                                   @Param("toMonth") String toMonth);
+
+    // 비품별 월별 합계
+    @Query("""
+        SELECT s.summaryMonth          AS summaryMonth,
+               i.id                    AS targetId,
+               i.name                  AS targetName,
+               SUM(s.inboundQuantity)  AS inboundQuantity,
+               SUM(s.outboundQuantity) AS outboundQuantity,
+               SUM(s.issueQuantity)    AS issueQuantity,
+               SUM(s.lendQuantity)     AS lendQuantity
+          FROM InventoryMonthlySummary s
+          JOIN Item i ON i.id = s.itemId
+         WHERE s.managementId = :managementId
+           AND s.summaryMonth BETWEEN :fromMonth AND :toMonth
+         GROUP BY s.summaryMonth, i.id, i.name
+         ORDER BY s.summaryMonth, i.name
+    """)
+    List<MonthlyInventoryBreakdownProjection> sumByMonthAndItem(@Param("managementId") Long managementId,
+                                                               @Param("fromMonth") String fromMonth,
+                                                               @Param("toMonth") String toMonth);
+
+    // 관리페이지 하나의 입출고 내역으로 집계 다시 채우기 (deleteByManagementId 직후 같은 트랜잭션에서 실행)
+    // 비품이 없는 입고는 item_id 0으로 모음 (recordInbound와 동일)
+    @Modifying
+    @Query(value = """
+        INSERT INTO inventory_monthly_summaries
+            (management_id, item_id, category_id, summary_month,
+             inbound_quantity, outbound_quantity, issue_quantity, lend_quantity,
+             created_at, modified_at)
+        SELECT t.management_id, t.item_id, t.category_id, t.summary_month,
+               SUM(t.inbound_qty), SUM(t.outbound_qty), SUM(t.issue_qty), SUM(t.lend_qty),
+               NOW(), NOW()
+          FROM (SELECT management_id, COALESCE(item_id, 0) AS item_id, category_id,
+                       DATE_FORMAT(created_at, '%Y-%m') AS summary_month,
+                       quantity AS inbound_qty, 0 AS outbound_qty, 0 AS issue_qty, 0 AS lend_qty
+                  FROM inventory_ins
+                 WHERE management_id = :managementId
+                UNION ALL
+                SELECT management_id, item_id, category_id,
+                       DATE_FORMAT(created_at, '%Y-%m') AS summary_month,
+                       0, quantity,
+                       CASE WHEN outbound_type = 'ISSUE' THEN quantity ELSE 0 END,
+                       CASE WHEN outbound_type = 'LEND' THEN quantity ELSE 0 END
+                  FROM inventory_outs
+                 WHERE management_id = :managementId) t
+         GROUP BY t.management_id, t.item_id, t.category_id, t.summary_month
+    """, nativeQuery = true)
+    int rebuildFromHistory(@Param("managementId") Long managementId);
+
+    // 카테고리가 빠진 이전 유니크 키 (ddl-auto update는 기존 제약을 지우지 않으므로 직접 확인)
+    @Query(value = """
+        SELECT COUNT(*) FROM information_schema.statistics
+         WHERE table_schema = DATABASE()
+           AND table_name = 'inventory_monthly_summaries'
+           AND index_name = 'uk_inventory_monthly_summary'
+    """, nativeQuery = true)
+    long countLegacyUniqueKey();
+
+    @Modifying
+    @Query(value = "ALTER TABLE inventory_monthly_summaries DROP INDEX uk_inventory_monthly_summary", nativeQuery = true)
+    void dropLegacyUniqueKey();
+
+    @Modifying
+    @Query(value = "DELETE FROM inventory_monthly_summaries WHERE management_id = :managementId", nativeQuery = true)
+    int deleteByManagementId(@Param("managementId") Long managementId);
+
+    boolean existsByManagementId(Long managementId);
+
+    // 입출고 내역이 있는 관리페이지 (최초 채우기 대상)
+    @Query(value = """
+        SELECT management_id FROM inventory_ins
+        UNION
+        SELECT management_id FROM inventory_outs
+    """, nativeQuery = true)
+    List<Long> findManagementIdsWithHistory();
+}
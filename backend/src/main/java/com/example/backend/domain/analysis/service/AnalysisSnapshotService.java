@@ -0,0 +1,101 @@
+package com.example.backend.domain.analysis.service;
+
+import com.example.backend.domain.analysis.dto.AnalysisSnapshotDTO;
+import com.example.backend.global.datasource.PrimaryReads;
+import com.example.backend.global.redis.CounterCacheWriter;
+import com.example.backend.global.redis.RedisKeyNamespace;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 대시보드 분석 통합 스냅샷 : analysis_snapshot:{관리페이지 ID} 에 "ETag\nJSON" 형태로 저장.
+ * 분석 데이터 변경 이벤트가 오면(카운터 증감이 반영된 뒤) 삭제되고, 변경이 없어도 TTL(기본 60초)이 지나면 다시 만들어진다.
+ * 조회는 Redis GET 한 번으로 ETag와 본문을 함께 가져온다.
+ */
+@Service
+public class AnalysisSnapshotService {
+
+    private static final int USAGE_TOP_N = 10;
+    private static final int USAGE_DAYS = 30;
+
+    private final InventoryAnalysisService analysisService;
+    private final OutboundCounterService outboundCounterService;
+    private final ItemUsageService itemUsageService;
+    private final InventoryMonthlySummaryService monthlySummaryService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CounterCacheWriter counterCacheWriter;
+    private final ObjectMapper objectMapper;
+    private final Duration snapshotTtl;
+
+    public AnalysisSnapshotService(InventoryAnalysisService analysisService,
+                                   OutboundCounterService outboundCounterService,
+                                   ItemUsageService itemUsageService,
+                                   InventoryMonthlySummaryService monthlySummaryService,
+                                   StringRedisTemplate stringRedisTemplate,
+                                   CounterCacheWriter counterCacheWriter,
+                                   ObjectMapper objectMapper,
+                                   @Value("${analysis.snapshot.ttl-seconds:60}") long ttlSeconds) {
+        this.analysisService = analysisService;
+        this.outboundCounterService = outboundCounterService;
+        this.itemUsageService = itemUsageService;
+        this.monthlySummaryService = monthlySummaryService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.counterCacheWriter = counterCacheWriter;
+        this.objectMapper = objectMapper;
+        this.snapshotTtl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public record Snapshot(String etag, String body) {
+    }
+
+    private String getSnapshotKey(Long managementId) {
+        return RedisKeyNamespace.ANALYSIS_SNAPSHOT.key(managementId);
+    }
+
+    public Snapshot getSnapshot(Long managementId) {
+        String cached = stringRedisTemplate.opsForValue().get(getSnapshotKey(managementId));
+        if (cached != null) {
+            int separator = cached.indexOf('\n');
+            if (separator > 0) {
+                return new Snapshot(cached.substring(0, separator), cached.substring(separator + 1));
+            }
+        }
+        return build(managementId);
+    }
+
+    // 관리페이지 ID 기준 스냅샷 삭제 (다음 조회 시 다시 생성), 삭제 전에 만들기 시작한 스냅샷은 저장되지 않음
+    public void evict(Long managementId) {
+        counterCacheWriter.evict(getSnapshotKey(managementId));
+    }
+
+    private Snapshot build(Long managementId) {
+        long generation = counterCacheWriter.generation(getSnapshotKey(managementId));
+        // 캐시되는 값이므로 복제 지연 없이 주 DB에서 조회
+        AnalysisSnapshotDTO dto = PrimaryReads.call(() -> new AnalysisSnapshotDTO(
+                analysisService.getCategorySummary(managementId),
+                outboundCounterService.getSummary(managementId),
+                itemUsageService.getRanking(managementId, USAGE_TOP_N, USAGE_DAYS),
+                monthlySummaryService.getMonthlySummary(managementId, LocalDate.now().getYear())
+        ));
+
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("분석 스냅샷 직렬화 실패 (dashboard=" + managementId + ")", e);
+        }
+
+        // 본문 해시를 ETag로 사용하므로 TTL 만료로 다시 만들어져도 데이터가 같으면 ETag는 그대로
+        // 약한 ETag : 강한 ETag가 있는 응답은 Tomcat이 압축하지 않음 (If-None-Match 비교도 약한 비교)
+        String etag = "W/\"" + DigestUtils.md5DigestAsHex(body.getBytes(StandardCharsets.UTF_8)) + "\"";
+        counterCacheWriter.replaceValue(getSnapshotKey(managementId), generation, snapshotTtl, etag + "\n" + body);
+        return new Snapshot(etag, body);
+    }
+}
@@ -1,182 +1,233 @@
 package com.example.backend.domain.analysis.service;
 
 import com.example.backend.domain.analysis.dto.CategorySummaryDTO;
+import com.example.backend.domain.analysis.dto.CategorySummaryProjection;
 import com.example.backend.domain.analysis.dto.ItemUsageFrequencyDTO;
+import com.example.backend.domain.analysis.dto.MonthlyInventoryBreakdownDTO;
 import com.example.backend.domain.analysis.dto.MonthlyInventoryDTO;
-import com.example.backend.domain.inventory.inventoryIn.entity.InventoryIn;
-import com.example.backend.domain.inventory.inventoryIn.repository.InventoryInRepository;
-import com.example.backend.domain.inventory.inventoryOut.entity.InventoryOut;
-import com.example.backend.domain.inventory.inventoryOut.repository.InventoryOutRepository;
+import com.example.backend.domain.analysis.event.AnalysisCacheInvalidationPublisher;
 import com.example.backend.domain.item.entity.Item;
 import com.example.backend.domain.item.repository.ItemRepository;
-import com.example.backend.domain.itemInstance.repository.ItemInstanceRepository;
-import com.example.backend.domain.user.repository.UserRepository;
+import com.example.backend.enums.AnalysisCacheType;
 import com.example.backend.enums.Outbound;
 import com.example.backend.enums.Status;
-import com.example.backend.global.exception.BusinessLogicException;
-import com.example.backend.global.exception.ExceptionCode;
+import com.example.backend.global.datasource.PrimaryReads;
+import com.example.backend.global.redis.CounterCacheWriter;
+import com.example.backend.global.redis.RedisKeyNamespace;
 import com.example.backend.global.security.jwt.service.TokenService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.YearMonth;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class InventoryAnalysisService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private static final Duration CATEGORY_SUMMARY_TTL = Duration.ofMinutes(30);
+
+    // 카테고리 요약 Hash 필드 : total:{카테고리명}, types:{카테고리명}, 빈 관리페이지도 캐시되도록 _loaded 표시
+    private static final String CATEGORY_TOTAL_PREFIX = "total:";
+    private static final String CATEGORY_TYPES_PREFIX = "types:";
+    private static final String CATEGORY_LOADED_FIELD = "_loaded";
+
+    private final RedisTemplate<String, Long> counterRedisTemplate;
     private final ItemRepository itemRepository;
-    private final InventoryInRepository inventoryInRepository;
-    private final InventoryOutRepository inventoryOutRepository;
-    private final ItemInstanceRepository itemInstanceRepository;
+    private final InventoryMonthlySummaryService monthlySummaryService;
+    private final ItemUsageService itemUsageService;
+    private final OutboundCounterService outboundCounterService;
+    private final AnalysisCacheInvalidationPublisher cacheInvalidationPublisher;
+    private final CounterCacheWriter counterCacheWriter;
     private final TokenService tokenService;
-    private final UserRepository userRepository;
+
+    // 관리페이지별로 진행 중인 카테고리 요약 집계 (같은 서버의 동시 캐시 미스는 한 번만 집계)
+    private final ConcurrentMap<Long, CompletableFuture<Map<String, CategorySummaryDTO>>> categorySummaryLoads =
+            new ConcurrentHashMap<>();
 
     // Redis 키 생성기
     private String getCategorySummaryKey(Long managementId) {
-        return "category_summary:" + managementId;
+        return RedisKeyNamespace.CATEGORY_SUMMARY.key(managementId);
     }
 
-    private String getItemUsageKey(Long managementId) {
-        return "item_usage_frequency:" + managementId;
+    // accessToken의 관리페이지 클레임을 사용 (요청마다 사용자 조회하지 않음)
+    public Long getManagementIdFromToken() {
+        return tokenService.getManagementDashboardIdFromToken();
     }
 
-    private String getOutboundKey(Long managementId) {
-        return "item_instances:outbound_count:" + managementId;
-    }
-
-    private Long getManagementIdFromToken() {
-        Long userId = tokenService.getIdFromToken();
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND))
-                .getManagementDashboard().getId();
+    public Map<String, CategorySummaryDTO> getCategorySummary() {
+        return getCategorySummary(getManagementIdFromToken());
     }
 
-    public Map<String, CategorySummaryDTO> getCategorySummary() {
-        Long managementId = getManagementIdFromToken();
+    public Map<String, CategorySummaryDTO> getCategorySummary(Long managementId) {
         String key = getCategorySummaryKey(managementId);
 
-        Map<String, CategorySummaryDTO> cached = (Map<String, CategorySummaryDTO>)
-                redisTemplate.opsForValue().get(key);
-        if (cached != null) return cached;
+        Map<String, Long> cached = counterHashOperations().entries(key);
+        if (!cached.isEmpty()) return toCategorySummary(cached);
 
-        List<Item> items = itemRepository.findAllByManagementDashboardIdAndStatus(managementId, Status.ACTIVE);
+        return loadCategorySummary(managementId, key);
+    }
 
-        Map<String, CategorySummaryDTO> result = items.stream()
-                .collect(Collectors.groupingBy(
-                        item -> item.getCategory().getName(),
-                        Collectors.collectingAndThen(Collectors.toList(), list -> {
-                            long totalQty = list.stream().mapToLong(Item::getTotalQuantity).sum();
-                            long typeCount = list.stream().map(Item::getName).distinct().count();
-                            return new CategorySummaryDTO(totalQty, typeCount);
-                        })
+    // 캐시 미스 시 한 요청만 DB 집계 후 캐시를 채우고, 같은 관리페이지의 동시 요청은 그 결과를 함께 사용
+    private Map<String, CategorySummaryDTO> loadCategorySummary(Long managementId, String key) {
+        CompletableFuture<Map<String, CategorySummaryDTO>> created = new CompletableFuture<>();
+        CompletableFuture<Map<String, CategorySummaryDTO>> inFlight = categorySummaryLoads.putIfAbsent(managementId, created);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                // 먼저 시작한 집계가 실패하면 직접 집계
+                return summarizeCategories(managementId);
+            }
+        }
+
+        try {
+            long generation = counterCacheWriter.generation(key);
+            Map<String, CategorySummaryDTO> result = summarizeCategories(managementId);
+            // 집계 도중 반영된 증감이 있으면 캐시하지 않고 이번 응답에만 사용
+            if (!cacheCategorySummary(key, generation, result)) {
+                log.debug("카테고리 요약 집계 중 변경 발생, 캐시하지 않음 (dashboard={})", managementId);
+            }
+            created.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            categorySummaryLoads.remove(managementId, created);
+        }
+    }
+
+    // 캐시를 채우는 집계이므로 복제 지연 없이 주 DB에서 조회
+    private Map<String, CategorySummaryDTO> summarizeCategories(Long managementId) {
+        return PrimaryReads.call(() -> itemRepository.summarizeByCategory(managementId, Status.ACTIVE)).stream()
+                .collect(Collectors.toMap(
+                        CategorySummaryProjection::getCategoryName,
+                        row -> new CategorySummaryDTO(row.getTotalQuantity(), row.getItemTypeCount())
                 ));
+    }
+
+    private boolean cacheCategorySummary(String key, long generation, Map<String, CategorySummaryDTO> summary) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(CATEGORY_LOADED_FIELD, "1");
+        summary.forEach((categoryName, dto) -> {
+            fields.put(CATEGORY_TOTAL_PREFIX + categoryName, String.valueOf(dto.getTotalQuantity()));
+            fields.put(CATEGORY_TYPES_PREFIX + categoryName, String.valueOf(dto.getItemTypeCount()));
+        });
+        return counterCacheWriter.replaceHash(key, generation, CATEGORY_SUMMARY_TTL, fields);
+    }
+
+    private HashOperations<String, String, Long> counterHashOperations() {
+        return counterRedisTemplate.opsForHash();
+    }
 
-        redisTemplate.opsForValue().set(key, result, Duration.ofMinutes(30));
+    private Map<String, CategorySummaryDTO> toCategorySummary(Map<String, Long> entries) {
+        Map<String, CategorySummaryDTO> result = new HashMap<>();
+        entries.forEach((name, count) -> {
+            if (name.startsWith(CATEGORY_TOTAL_PREFIX)) {
+                result.computeIfAbsent(name.substring(CATEGORY_TOTAL_PREFIX.length()), k -> new CategorySummaryDTO())
+                        .setTotalQuantity(count);
+            } else if (name.startsWith(CATEGORY_TYPES_PREFIX)) {
+                result.computeIfAbsent(name.substring(CATEGORY_TYPES_PREFIX.length()), k -> new CategorySummaryDTO())
+                        .setItemTypeCount(count);
+            }
+        });
         return result;
     }
 
-    public void increaseItemUsage(String itemName, long quantity) {
-        Long managementId = getManagementIdFromToken();
-        redisTemplate.opsForZSet().incrementScore(getItemUsageKey(managementId), itemName, quantity);
+    // 비품 등록 시 : 총 수량 증가, 같은 이름의 비품이 없으면 종류 수 증가
+    public void applyItemAdded(Item item) {
+        long typeDelta = hasSameNameItem(item) ? 0 : 1;
+        applyCategoryDelta(item, item.getTotalQuantity(), typeDelta);
     }
 
-    public List<ItemUsageFrequencyDTO> getItemUsageRanking(int topN) {
-        Long managementId = getManagementIdFromToken();
-        Set<ZSetOperations.TypedTuple<Object>> zset =
-                redisTemplate.opsForZSet().reverseRangeWithScores(getItemUsageKey(managementId), 0, topN - 1);
+    // 비품 삭제 시 : 총 수량 감소, 같은 이름의 비품이 더 없으면 종류 수 감소
+    public void applyItemRemoved(Item item) {
+        long typeDelta = hasSameNameItem(item) ? 0 : -1;
+        applyCategoryDelta(item, -item.getTotalQuantity(), typeDelta);
+    }
 
-        if (zset == null) return Collections.emptyList();
+    // 비품 총 수량 변경 시
+    public void applyItemQuantityDelta(Item item, long quantityDelta) {
+        if (quantityDelta == 0) return;
+        applyCategoryDelta(item, quantityDelta, 0);
+    }
 
-        return zset.stream()
-                .map(tuple -> new ItemUsageFrequencyDTO(
-                        (String) tuple.getValue(),
-                        tuple.getScore() != null ? tuple.getScore().longValue() : 0
-                ))
-                .collect(Collectors.toList());
+    // 관리페이지 ID 기준 캐시 삭제 (토큰 없이 스케줄러/이벤트 리스너에서도 사용)
+    public void evictCategorySummary(Long managementId) {
+        counterCacheWriter.evict(getCategorySummaryKey(managementId));
     }
 
-    public List<MonthlyInventoryDTO> getMonthlyInventorySummary(int year) {
-        Long managementId = getManagementIdFromToken();
-        LocalDateTime start = LocalDate.of(year, 1, 1).atStartOfDay();
-        LocalDateTime end = LocalDate.of(year, 12, 31).atTime(23, 59, 59);
-
-        List<InventoryIn> ins = inventoryInRepository.findByCreatedAtBetweenAndManagementDashboardId(start, end, managementId);
-        List<InventoryOut> outs = inventoryOutRepository.findByCreatedAtBetweenAndManagementDashboardId(start, end, managementId);
-
-        Map<YearMonth, Long> inboundMap = ins.stream()
-                .collect(Collectors.groupingBy(
-                        i -> YearMonth.from(i.getCreatedAt()),
-                        Collectors.summingLong(InventoryIn::getQuantity)));
-
-        Map<YearMonth, Long> outboundMap = outs.stream()
-                .collect(Collectors.groupingBy(
-                        o -> YearMonth.from(o.getCreatedAt()),
-                        Collectors.summingLong(InventoryOut::getQuantity)));
-
-        return IntStream.rangeClosed(1, 12)
-                .mapToObj(month -> {
-                    YearMonth ym = YearMonth.of(year, month);
-                    return new MonthlyInventoryDTO(
-                            ym,
-                            inboundMap.getOrDefault(ym, 0L),
-                            outboundMap.getOrDefault(ym, 0L)
-                    );
-                }).collect(Collectors.toList());
-    }
-
-    public Map<Outbound, Long> getCachedOutboundSummary() {
-        Long managementId = getManagementIdFromToken();
-        Map<Object, Object> entries = redisTemplate.opsForHash().entries(getOutboundKey(managementId));
-        if (entries == null || entries.isEmpty()) return null;
-
-        return entries.entrySet().stream()
-                .collect(Collectors.toMap(
-                        e -> Outbound.valueOf((String) e.getKey()),
-                        e -> Long.parseLong((String) e.getValue())
-                ));
+    public void evictOutboundSummary(Long managementId) {
+        outboundCounterService.evict(managementId);
     }
 
-    public Map<Outbound, Long> loadAndCacheOutboundSummary() {
-        Long managementId = getManagementIdFromToken();
-        List<Object[]> results = itemInstanceRepository.countAllByOutboundGroupAndManagementIdAndStatus(managementId,Status.ACTIVE);
+    private boolean hasSameNameItem(Item item) {
+        return itemRepository.existsByManagementDashboardIdAndCategoryNameAndNameAndStatusAndIdNot(
+                item.getManagementDashboard().getId(), item.getCategory().getName(), item.getName(), Status.ACTIVE, item.getId());
+    }
 
-        Map<Outbound, Long> mapped = results.stream()
-                .collect(Collectors.toMap(
-                        r -> (Outbound) r[0],
-                        r -> (Long) r[1]
-                ));
+    private void applyCategoryDelta(Item item, long quantityDelta, long typeDelta) {
+        String key = getCategorySummaryKey(item.getManagementDashboard().getId());
+        String categoryName = item.getCategory().getName();
 
-        Map<String, String> redisMap = mapped.entrySet().stream()
-                .collect(Collectors.toMap(
-                        e -> e.getKey().name(),
-                        e -> String.valueOf(e.getValue())
-                ));
+        // 캐시가 없으면 다음 조회 때 DB에서 다시 집계하므로 반영하지 않음, 종류 수가 0이 되면 해당 카테고리 필드 제거
+        Map<String, Long> fieldDeltas = new LinkedHashMap<>();
+        fieldDeltas.put(CATEGORY_TOTAL_PREFIX + categoryName, quantityDelta);
+        fieldDeltas.put(CATEGORY_TYPES_PREFIX + categoryName, typeDelta);
+        counterCacheWriter.incrementHash(key, fieldDeltas, true);
+        cacheInvalidationPublisher.invalidate(item.getManagementDashboard().getId(), AnalysisCacheType.SNAPSHOT);
+    }
 
-        redisTemplate.opsForHash().putAll(getOutboundKey(managementId), redisMap);
-        redisTemplate.expire(getOutboundKey(managementId), Duration.ofMinutes(10));
-        return mapped;
+    // 출고 커밋 이후 출고일 버킷에 품목 ID 기준으로 누적
+    public void increaseItemUsage(Long managementId, Long itemId, long quantity, LocalDate usageDate) {
+        itemUsageService.increase(managementId, itemId, quantity, usageDate);
+        cacheInvalidationPublisher.invalidate(managementId, AnalysisCacheType.SNAPSHOT);
     }
 
-    public void clearCategoryCache() {
-        redisTemplate.delete(getCategorySummaryKey(getManagementIdFromToken()));
+    public List<ItemUsageFrequencyDTO> getItemUsageRanking(int topN, int days) {
+        return itemUsageService.getRanking(getManagementIdFromToken(), topN, days);
+    }
+
+    public int rebuildItemUsage() {
+        return itemUsageService.rebuild();
     }
 
-    public void clearGlobalOutboundCache() {
-        redisTemplate.delete(getOutboundKey(getManagementIdFromToken()));
+    public List<MonthlyInventoryDTO> getMonthlyInventorySummary(int year) {
+        return monthlySummaryService.getMonthlySummary(getManagementIdFromToken(), year);
+    }
+
+    public List<MonthlyInventoryBreakdownDTO> getMonthlyCategorySummary(int year) {
+        return monthlySummaryService.getMonthlySummaryByCategory(getManagementIdFromToken(), year);
+    }
+
+    public List<MonthlyInventoryBreakdownDTO> getMonthlyItemSummary(int year) {
+        return monthlySummaryService.getMonthlySummaryByItem(getManagementIdFromToken(), year);
+    }
+
+    public int rebuildMonthlySummary() {
+        return monthlySummaryService.rebuild(getManagementIdFromToken());
+    }
+
+    public Map<Outbound, Long> getOutboundSummary() {
+        return outboundCounterService.getSummary(getManagementIdFromToken());
+    }
+
+    public void clearCategoryCache() {
+        evictCategorySummary(getManagementIdFromToken());
     }
 }
@@ -0,0 +1,51 @@
+package com.example.backend.domain.analysis.service;
+
+import com.example.backend.global.redis.RedisLockService;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class InventoryMonthlySummaryBackfill {
+
+    private static final String BACKFILL_LOCK = "monthly_summary:backfill";
+    private static final Duration BACKFILL_LOCK_TTL = Duration.ofMinutes(30);
+
+    private final InventoryMonthlySummaryService monthlySummaryService;
+    private final RedisLockService redisLockService;
+
+    // 집계 테이블 도입 이전의 입출고 내역을 서버 시작 시 한 번 채워줌 (여러 서버가 동시에 시작해도 한 곳에서만 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            boolean ran = redisLockService.runWithLock(BACKFILL_LOCK, BACKFILL_LOCK_TTL, this::backfillMissing);
+            if (!ran) {
+                log.info("다른 서버에서 월별 입출고 집계를 채우는 중");
+            }
+        } catch (Exception e) {
+            log.error("월별 입출고 집계 채우기 실패", e);
+        }
+    }
+
+    // 관리페이지마다 별도 트랜잭션으로 재생성 (한 번의 긴 트랜잭션으로 전체 테이블을 잡지 않도록)
+    // 이전 유니크 키로 쌓인 집계는 카테고리가 섞였을 수 있으므로 이번 한 번은 전체 재생성
+    private void backfillMissing() {
+        List<Long> managementIds = monthlySummaryService.dropLegacyUniqueKey()
+                ? monthlySummaryService.findManagementIdsWithHistory()
+                : monthlySummaryService.findManagementIdsToBackfill();
+
+        for (Long managementId : managementIds) {
+            try {
+                monthlySummaryService.rebuild(managementId);
+            } catch (Exception e) {
+                log.warn("월별 입출고 집계 채우기 실패 (dashboard={}): {}", managementId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.backend.domain.analysis.service;
+
+import com.example.backend.domain.analysis.dto.MonthlyInventoryBreakdownDTO;
+import com.example.backend.domain.analysis.dto.MonthlyInventoryBreakdownProjection;
+import com.example.backend.domain.analysis.dto.MonthlyInventoryDTO;
+import com.example.backend.domain.analysis.dto.MonthlyInventoryProjection;
+import com.example.backend.domain.analysis.event.AnalysisCacheInvalidationPublisher;
+import com.example.backend.domain.analysis.repository.InventoryMonthlySummaryRepository;
+import com.example.backend.domain.inventory.inventoryIn.entity.InventoryIn;
+import com.example.backend.domain.inventory.inventoryOut.entity.InventoryOut;
+import com.example.backend.enums.AnalysisCacheType;
+import com.example.backend.enums.Outbound;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 월별 입출고 집계 테이블 관리 : 입고/출고 저장 시 같은 트랜잭션에서 누적하고, 조회는 집계 테이블만 사용
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class InventoryMonthlySummaryService {
+
+    // 비품이 지정되지 않은 입고의 item_id (재생성 쿼리의 COALESCE(item_id, 0)과 동일)
+    static final long UNASSIGNED_ITEM_ID = 0L;
+
+    private final InventoryMonthlySummaryRepository summaryRepository;
+    private final AnalysisCacheInvalidationPublisher cacheInvalidationPublisher;
+
+    // 입고 저장 시 호출
+    @Transactional
+    public void recordInbound(InventoryIn inventoryIn) {
+        summaryRepository.accumulate(
+                inventoryIn.getManagementDashboard().getId(),
+                inventoryIn.getItem() != null ? inventoryIn.getItem().getId() : UNASSIGNED_ITEM_ID,
+                inventoryIn.getCategory().getId(),
+                toSummaryMonth(inventoryIn.getCreatedAt()),
+                inventoryIn.getQuantity(), 0, 0, 0
+        );
+        cacheInvalidationPublisher.invalidate(inventoryIn.getManagementDashboard().getId(), AnalysisCacheType.SNAPSHOT);
+    }
+
+    // 출고 저장 시 호출
+    @Transactional
+    public void recordOutbound(InventoryOut inventoryOut) {
+        long quantity = inventoryOut.getQuantity();
+
+        summaryRepository.accumulate(
+                inventoryOut.getManagementDashboard().getId(),
+                inventoryOut.getItem().getId(),
+                inventoryOut.getCategory().getId(),
+                toSummaryMonth(inventoryOut.getCreatedAt()),
+                0,
+                quantity,
+                inventoryOut.getOutbound() == Outbound.ISSUE ? quantity : 0,
+                inventoryOut.getOutbound() == Outbound.LEND ? quantity : 0
+        );
+        cacheInvalidationPublisher.invalidate(inventoryOut.getManagementDashboard().getId(), AnalysisCacheType.SNAPSHOT);
+    }
+
+    // 관리페이지 월별 합계 (1월 ~ 12월)
+    public List<MonthlyInventoryDTO> getMonthlySummary(Long managementId, int year) {
+        Map<String, MonthlyInventoryProjection> byMonth = summaryRepository
+                .sumByMonth(managementId, firstMonth(year), lastMonth(year))
+                .stream()
+                .collect(Collectors.toMap(MonthlyInventoryProjection::getSummaryMonth, Function.identity()));
+
+        return IntStream.rangeClosed(1, 12)
+                .mapToObj(month -> {
+                    YearMonth ym = YearMonth.of(year, month);
+                    MonthlyInventoryProjection row = byMonth.get(ym.toString());
+                    if (row == null) {
+                        return new MonthlyInventoryDTO(ym, 0L, 0L, 0L, 0L);
+                    }
+                    return new MonthlyInventoryDTO(
+                            ym,
+                            valueOf(row.getInboundQuantity()),
+                            valueOf(row.getOutboundQuantity()),
+                            valueOf(row.getIssueQuantity()),
+                            valueOf(row.getLendQuantity())
+                    );
+                }).collect(Collectors.toList());
+    }
+
+    // 카테고리별 월별 합계
+    public List<MonthlyInventoryBreakdownDTO> getMonthlySummaryByCategory(Long managementId, int year) {
+        return toBreakdown(summaryRepository.sumByMonthAndCategory(managementId, firstMonth(year), lastMonth(year)));
+    }
+
+    // 비품별 월별 합계
+    public List<MonthlyInventoryBreakdownDTO> getMonthlySummaryByItem(Long managementId, int year) {
+        return toBreakdown(summaryRepository.sumByMonthAndItem(managementId, firstMonth(year), lastMonth(year)));
+    }
+
+    // 관리페이지 하나의 집계를 입출고 내역으로 재생성
+    // 삭제한 행과 읽은 입출고 내역에 락이 걸리므로 같은 관리페이지의 동시 누적은 재생성 커밋 이후에 반영됨
+    @Transactional
+    public int rebuild(Long managementId) {
+        int deleted = summaryRepository.deleteByManagementId(managementId);
+        int inserted = summaryRepository.rebuildFromHistory(managementId);
+        cacheInvalidationPublisher.invalidate(managementId, AnalysisCacheType.SNAPSHOT);
+        log.info("월별 입출고 집계 재생성 (dashboard={}): 삭제 {}건, 생성 {}건", managementId, deleted, inserted);
+        return inserted;
+    }
+
+    // 카테고리 없이 만들어진 이전 유니크 키가 남아 있으면 삭제
+    // 반환값 : 삭제 여부 (삭제했으면 카테고리가 섞인 행이 남아 있을 수 있으므로 전체 재생성 필요)
+    @Transactional
+    public boolean dropLegacyUniqueKey() {
+        if (summaryRepository.countLegacyUniqueKey() == 0) {
+            return false;
+        }
+        summaryRepository.dropLegacyUniqueKey();
+        log.info("월별 입출고 집계 이전 유니크 키 삭제 (카테고리 포함 키로 변경)");
+        return true;
+    }
+
+    // 입출고 내역이 있는 모든 관리페이지
+    public List<Long> findManagementIdsWithHistory() {
+        return summaryRepository.findManagementIdsWithHistory();
+    }
+
+    // 입출고 내역은 있는데 집계가 없는 관리페이지 (집계 테이블 도입 이전 데이터, 이전 채우기가 중간에 실패한 경우)
+    public List<Long> findManagementIdsToBackfill() {
+        return summaryRepository.findManagementIdsWithHistory().stream()
+                .filter(managementId -> !summaryRepository.existsByManagementId(managementId))
+                .collect(Collectors.toList());
+    }
+
+    private List<MonthlyInventoryBreakdownDTO> toBreakdown(List<MonthlyInventoryBreakdownProjection> rows) {
+        return rows.stream()
+                .map(row -> new MonthlyInventoryBreakdownDTO(
+                        YearMonth.parse(row.getSummaryMonth()),
+                        row.getTargetId(),
+                        row.getTargetName(),
+                        valueOf(row.getInboundQuantity()),
+                        valueOf(row.getOutboundQuantity()),
+                        valueOf(row.getIssueQuantity()),
+                        valueOf(row.getLendQuantity())
+                ))
+                .collect(Collectors.toList());
+    }
+
+    private String toSummaryMonth(LocalDateTime createdAt) {
+        return YearMonth.from(createdAt != null ? createdAt : LocalDateTime.now()).toString();
+    }
+
+    private String firstMonth(int year) {
+        return YearMonth.of(year, 1).toString();
+    }
+
+    private String lastMonth(int year) {
+        return YearMonth.of(year, 12).toString();
+    }
+
+    private long valueOf(Long value) {
+        return value == null ? 0L : value;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.backend.domain.analysis.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ItemUsageRebuildScheduler {
+
+    private final ItemUsageService itemUsageService;
+
+    // 서버 시작 시 Redis가 비워졌는지 확인 후 출고 내역으로 재생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildIfMissing();
+    }
+
+    // 운영 중 Redis가 비워진 경우를 위해 주기적으로 확인 (표시 키를 선점한 서버 한 곳에서만 재생성)
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void checkPeriodically() {
+        rebuildIfMissing();
+    }
+
+    private void rebuildIfMissing() {
+        try {
+            itemUsageService.rebuildIfMissing();
+        } catch (Exception e) {
+            log.error("품목 사용 빈도 재생성 실패", e);
+        }
+    }
+}
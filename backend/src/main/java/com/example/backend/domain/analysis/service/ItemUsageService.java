@@ -0,0 +1,236 @@
+package com.example.backend.domain.analysis.service;
+
+import com.example.backend.domain.analysis.dto.DailyItemUsageProjection;
+import com.example.backend.domain.analysis.dto.ItemUsageFrequencyDTO;
+import com.example.backend.domain.inventory.inventoryOut.repository.InventoryOutRepository;
+import com.example.backend.domain.item.entity.Item;
+import com.example.backend.domain.item.repository.ItemRepository;
+import com.example.backend.global.datasource.PrimaryReads;
+import com.example.backend.global.exception.BusinessLogicException;
+import com.example.backend.global.exception.ExceptionCode;
+import com.example.backend.global.redis.CounterCacheWriter;
+import com.example.backend.global.redis.RedisKeyNamespace;
+import com.example.backend.global.redis.RedisLockService;
+import com.example.backend.global.redis.RedisService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+/**
+ * 품목 사용 빈도 : 관리페이지/일자별 ZSET(member = 품목 ID, score = 출고 수량)에 누적하고,
+ * 조회 시 기간(최근 N일)만큼 ZUNIONSTORE로 합쳐 잠시 캐시한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ItemUsageService {
+
+    public static final int MAX_WINDOW_DAYS = 90;
+
+    // 가장 긴 조회 기간보다 조금 더 보관
+    private static final Duration DAILY_TTL = Duration.ofDays(MAX_WINDOW_DAYS + 2);
+    private static final Duration WINDOW_TTL = Duration.ofSeconds(60);
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // Redis가 비워졌는지 판단하는 표시 키 (재생성 시작 시 SETNX로 선점, 완료 시 날짜 기록)
+    private static final String REBUILT_MARKER_KEY = RedisKeyNamespace.ITEM_USAGE.key("rebuilt");
+    private static final String REBUILDING_MARKER = "building";
+
+    // 일자별 버킷 전체의 증감/재생성 범위 (CounterCacheWriter의 세대/진행 중 표시 키)
+    private static final String USAGE_SCOPE = RedisKeyNamespace.ITEM_USAGE.key("buckets");
+
+    private static final String REBUILD_LOCK = "item_usage:rebuild";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+    // 재생성 도중 출고가 반영되면 교체하지 않고 다시 집계
+    private static final int REBUILD_ATTEMPTS = 3;
+
+    private static final int LEGACY_CLEANUP_BATCH_SIZE = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisService redisService;
+    private final CounterCacheWriter counterCacheWriter;
+    private final RedisLockService redisLockService;
+    private final InventoryOutRepository inventoryOutRepository;
+    private final ItemRepository itemRepository;
+
+    private String getDailyKey(Long managementId, LocalDate day) {
+        return RedisKeyNamespace.ITEM_USAGE.key(managementId + ":" + day.format(DAY_FORMAT));
+    }
+
+    private String getWindowKey(Long managementId, int days, LocalDate today) {
+        return RedisKeyNamespace.ITEM_USAGE.key(managementId + ":window:" + days + ":" + today.format(DAY_FORMAT));
+    }
+
+    // 출고 시 해당 일자 버킷에 누적 (트랜잭션 안에서는 커밋 이후 반영)
+    public void increase(Long managementId, Long itemId, long quantity, LocalDate day) {
+        counterCacheWriter.incrementZSet(USAGE_SCOPE, getDailyKey(managementId, day), String.valueOf(itemId), quantity, DAILY_TTL);
+    }
+
+    // 최근 days일 동안 사용 빈도 상위 topN
+    public List<ItemUsageFrequencyDTO> getRanking(Long managementId, int topN, int days) {
+        if (days < 1 || days > MAX_WINDOW_DAYS) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_USAGE_WINDOW);
+        }
+
+        LocalDate today = LocalDate.now();
+        String windowKey = getWindowKey(managementId, days, today);
+
+        // 집계 키가 있으면 조회 한 번으로 끝남
+        Set<ZSetOperations.TypedTuple<String>> zset =
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(windowKey, 0, topN - 1);
+        if ((zset == null || zset.isEmpty()) && !Boolean.TRUE.equals(stringRedisTemplate.hasKey(windowKey))) {
+            zset = buildWindow(managementId, days, today, windowKey, topN);
+        }
+        if (zset == null || zset.isEmpty()) return Collections.emptyList();
+
+        List<Long> itemIds = zset.stream()
+                .map(tuple -> Long.valueOf(tuple.getValue()))
+                .collect(Collectors.toList());
+        Map<Long, String> names = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Item::getName));
+
+        return zset.stream()
+                .map(tuple -> {
+                    Long itemId = Long.valueOf(tuple.getValue());
+                    return new ItemUsageFrequencyDTO(
+                            itemId,
+                            names.get(itemId),
+                            tuple.getScore() != null ? tuple.getScore().longValue() : 0
+                    );
+                })
+                .collect(Collectors.toList());
+    }
+
+    // 일자별 버킷 합치기 + TTL 설정 + 상위 N개 조회를 MULTI로 한 번에 실행 (TTL 없는 집계 키가 남지 않음)
+    @SuppressWarnings("unchecked")
+    private Set<ZSetOperations.TypedTuple<String>> buildWindow(Long managementId, int days, LocalDate today,
+                                                              String windowKey, int topN) {
+        List<String> dailyKeys = IntStream.range(0, days)
+                .mapToObj(i -> getDailyKey(managementId, today.minusDays(i)))
+                .collect(Collectors.toList());
+
+        List<Object> results = stringRedisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            public List<Object> execute(RedisOperations operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.multi();
+                ops.opsForZSet().unionAndStore(dailyKeys.get(0), dailyKeys.subList(1, dailyKeys.size()), windowKey);
+                ops.expire(windowKey, WINDOW_TTL);
+                ops.opsForZSet().reverseRangeWithScores(windowKey, 0, topN - 1);
+                return ops.exec();
+            }
+        });
+        if (results == null || results.size() < 3) return Collections.emptySet();
+        return (Set<ZSetOperations.TypedTuple<String>>) results.get(2);
+    }
+
+    // Redis가 비워졌으면 (표시 키 없음) 출고 내역으로 다시 채움, 표시 키를 먼저 선점한 서버만 실행
+    public void rebuildIfMissing() {
+        Boolean claimed = stringRedisTemplate.opsForValue()
+                .setIfAbsent(REBUILT_MARKER_KEY, REBUILDING_MARKER, REBUILD_LOCK_TTL);
+        if (!Boolean.TRUE.equals(claimed)) return;
+
+        boolean rebuilt = false;
+        try {
+            rebuilt = redisLockService.runWithLock(REBUILD_LOCK, REBUILD_LOCK_TTL, this::rebuildBuckets);
+        } finally {
+            // 실패하면 다음 확인 때 다시 시도 (다른 재생성이 먼저 완료해 날짜를 기록했으면 그대로 둠)
+            if (!rebuilt && REBUILDING_MARKER.equals(stringRedisTemplate.opsForValue().get(REBUILT_MARKER_KEY))) {
+                stringRedisTemplate.delete(REBUILT_MARKER_KEY);
+            }
+        }
+    }
+
+    // 최근 90일 출고 내역으로 일자별 버킷 재생성 (관리자 요청)
+    public int rebuild() {
+        int[] bucketCount = new int[1];
+        boolean ran = redisLockService.runWithLock(REBUILD_LOCK, REBUILD_LOCK_TTL, () -> bucketCount[0] = rebuildBuckets());
+        if (!ran) {
+            throw new BusinessLogicException(ExceptionCode.ANALYSIS_REBUILD_IN_PROGRESS);
+        }
+        return bucketCount[0];
+    }
+
+    private int rebuildBuckets() {
+        LocalDate today = LocalDate.now();
+        int bucketCount = -1;
+        for (int attempt = 1; attempt <= REBUILD_ATTEMPTS && bucketCount < 0; attempt++) {
+            bucketCount = tryRebuildBuckets(today);
+        }
+        if (bucketCount < 0) {
+            // 기존 버킷은 그대로 두고 실패 처리 (표시 키가 없으므로 다음 주기에 다시 시도)
+            throw new IllegalStateException("출고가 계속 반영되어 품목 사용 빈도를 교체하지 못했습니다.");
+        }
+
+        // 이전 방식(전체 기간, 품목명 기준) 키는 SCAN으로 나눠서 정리
+        long legacyRemoved = redisService.unlinkKeys(RedisKeyNamespace.LEGACY_ITEM_USAGE.pattern(), LEGACY_CLEANUP_BATCH_SIZE);
+        if (legacyRemoved > 0) {
+            log.info("이전 품목 사용 빈도 키 {}개 삭제", legacyRemoved);
+        }
+        stringRedisTemplate.opsForValue().set(REBUILT_MARKER_KEY, today.format(DAY_FORMAT));
+        return bucketCount;
+    }
+
+    // 임시 키에 버킷을 만든 뒤, 그 사이 반영된 출고가 없을 때만 RENAME으로 한 번에 교체 (교체하지 못하면 -1)
+    private int tryRebuildBuckets(LocalDate today) {
+        long generation = counterCacheWriter.generation(USAGE_SCOPE);
+        // 캐시를 채우는 집계이므로 복제 지연 없이 주 DB에서 조회
+        List<DailyItemUsageProjection> rows = PrimaryReads.call(() -> inventoryOutRepository.sumDailyUsageSince(
+                today.minusDays(MAX_WINDOW_DAYS - 1).atStartOfDay()));
+
+        Map<String, Map<String, Double>> buckets = new HashMap<>();
+        for (DailyItemUsageProjection row : rows) {
+            String key = RedisKeyNamespace.ITEM_USAGE.key(row.getManagementId() + ":" + row.getUsageDay());
+            buckets.computeIfAbsent(key, k -> new HashMap<>())
+                    .put(String.valueOf(row.getItemId()), row.getQuantity().doubleValue());
+        }
+
+        String temporaryPrefix = RedisKeyNamespace.ITEM_USAGE.key("rebuild:" + UUID.randomUUID() + ":");
+        Map<String, String> temporaryToTarget = new LinkedHashMap<>();
+        buckets.keySet().forEach(key -> temporaryToTarget.put(temporaryPrefix + key, key));
+
+        // 버킷마다 ZADD/EXPIRE 두 번씩 왕복하지 않도록 파이프라인으로 전송 (RENAME 시 TTL도 함께 옮겨짐)
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                buckets.forEach((key, scores) -> {
+                    LocalDate day = LocalDate.parse(key.substring(key.lastIndexOf(':') + 1), DAY_FORMAT);
+                    Set<ZSetOperations.TypedTuple<String>> tuples = scores.entrySet().stream()
+                            .map(e -> ZSetOperations.TypedTuple.of(e.getKey(), e.getValue()))
+                            .collect(Collectors.toSet());
+
+                    String temporaryKey = temporaryPrefix + key;
+                    ops.opsForZSet().add(temporaryKey, tuples);
+                    // 버킷 날짜 기준으로 남은 보관 기간만큼만 유지
+                    ops.expire(temporaryKey, DAILY_TTL.minusDays(today.toEpochDay() - day.toEpochDay()));
+                });
+                return null;
+            }
+        });
+
+        if (!counterCacheWriter.replaceZSets(USAGE_SCOPE, generation, temporaryToTarget)) {
+            log.info("품목 사용 빈도 재생성 중 출고 반영, 다시 집계합니다.");
+            return -1;
+        }
+        log.info("품목 사용 빈도 재생성: 버킷 {}개, 행 {}개", buckets.size(), rows.size());
+        return buckets.size();
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.backend.domain.analysis.service;
+
+import com.example.backend.domain.analysis.event.AnalysisCacheInvalidationPublisher;
+import com.example.backend.domain.itemInstance.repository.ItemInstanceRepository;
+import com.example.backend.enums.AnalysisCacheType;
+import com.example.backend.enums.Outbound;
+import com.example.backend.enums.Status;
+import com.example.backend.global.datasource.PrimaryReads;
+import com.example.backend.global.redis.CounterCacheWriter;
+import com.example.backend.global.redis.RedisKeyNamespace;
+import com.example.backend.global.redis.RedisLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 개별자산 Outbound 상태별 개수 : item_instances:outbound_count:{관리페이지 ID} Hash에 HINCRBY로 증감 반영.
+ * 트랜잭션 안의 변경은 관리페이지별로 모아 커밋 이후 한 번에 반영하고(CounterCacheWriter), 주기적으로 DB와 비교해 보정한다.
+ */
+@Service
+@Slf4j
+public class OutboundCounterService {
+
+    private static final Duration COUNTER_TTL = Duration.ofDays(1);
+
+    // 캐시가 만들어진 관리페이지 목록 (보정 대상)
+    private static final String TRACKED_DASHBOARDS_KEY = RedisKeyNamespace.OUTBOUND_COUNT.key("dashboards");
+
+    private static final String RECONCILE_LOCK = "outbound_counter:reconcile";
+    private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(5);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisTemplate<String, Long> counterRedisTemplate;
+    private final ItemInstanceRepository itemInstanceRepository;
+    private final AnalysisCacheInvalidationPublisher cacheInvalidationPublisher;
+    private final CounterCacheWriter counterCacheWriter;
+    private final RedisLockService redisLockService;
+    private final DistributionSummary driftSummary;
+    private final Counter correctedCounter;
+
+    public OutboundCounterService(StringRedisTemplate stringRedisTemplate,
+                                  RedisTemplate<String, Long> counterRedisTemplate,
+                                  ItemInstanceRepository itemInstanceRepository,
+                                  AnalysisCacheInvalidationPublisher cacheInvalidationPublisher,
+                                  CounterCacheWriter counterCacheWriter,
+                                  RedisLockService redisLockService,
+                                  MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.counterRedisTemplate = counterRedisTemplate;
+        this.itemInstanceRepository = itemInstanceRepository;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.counterCacheWriter = counterCacheWriter;
+        this.redisLockService = redisLockService;
+        this.driftSummary = DistributionSummary.builder("analysis.outbound_counter.drift")
+                .description("보정 시 Redis 카운터와 DB 집계의 차이 (상태별 차이 절댓값 합)")
+                .register(meterRegistry);
+        this.correctedCounter = Counter.builder("analysis.outbound_counter.corrected")
+                .description("DB 집계와 달라 보정된 관리페이지 수")
+                .register(meterRegistry);
+    }
+
+    private String getOutboundKey(Long managementId) {
+        return RedisKeyNamespace.OUTBOUND_COUNT.key(managementId);
+    }
+
+    // 개별자산 생성
+    public void applyCreated(Long managementId, Outbound outbound) {
+        addDelta(managementId, outbound, 1);
+    }
+
+    // 개별자산 삭제 (ACTIVE → STOP)
+    public void applyRemoved(Long managementId, Outbound outbound) {
+        addDelta(managementId, outbound, -1);
+    }
+
+    // 여러 개별자산 삭제 (상태별로 모아 한 번에 반영)
+    public void applyRemoved(Long managementId, Collection<Outbound> outbounds) {
+        if (managementId == null || outbounds.isEmpty()) return;
+        Map<Outbound, Long> deltas = new EnumMap<>(Outbound.class);
+        for (Outbound outbound : outbounds) {
+            if (outbound != null) deltas.merge(outbound, -1L, Long::sum);
+        }
+        addDeltas(managementId, deltas);
+    }
+
+    // 개별자산 상태 변경
+    public void applyTransition(Long managementId, Outbound from, Outbound to) {
+        if (from == to) return;
+        addDelta(managementId, from, -1);
+        addDelta(managementId, to, 1);
+    }
+
+    public Map<Outbound, Long> getSummary(Long managementId) {
+        try {
+            Map<String, Long> entries = counterHashOperations().entries(getOutboundKey(managementId));
+            if (!entries.isEmpty()) return toSummary(entries);
+        } catch (IllegalArgumentException | ConversionException e) {
+            // 이전 형식(JDK 직렬화)으로 저장된 값이면 DB 기준으로 다시 채움
+            log.warn("Outbound 카운터 형식 오류, 다시 집계합니다. (dashboard={})", managementId);
+        }
+        return load(managementId);
+    }
+
+    // DB 집계로 Hash를 채우고 보정 대상으로 등록 (집계 도중 증감이 반영됐으면 저장하지 않고 이번 응답에만 사용)
+    public Map<Outbound, Long> load(Long managementId) {
+        long generation = counterCacheWriter.generation(getOutboundKey(managementId));
+        Map<Outbound, Long> counts = countFromDb(managementId);
+        if (writeCounts(managementId, generation, counts)) {
+            stringRedisTemplate.opsForSet().add(TRACKED_DASHBOARDS_KEY, String.valueOf(managementId));
+        }
+        return counts;
+    }
+
+    public void evict(Long managementId) {
+        counterCacheWriter.evict(getOutboundKey(managementId));
+    }
+
+    // 주기적으로 DB와 비교해 차이가 있으면 보정 (여러 서버 중 락을 얻은 한 곳에서만 실행)
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void reconcile() {
+        boolean ran = redisLockService.runWithLock(RECONCILE_LOCK, RECONCILE_LOCK_TTL, this::reconcileTracked);
+        if (!ran) {
+            log.debug("다른 서버에서 Outbound 카운터 보정 중");
+        }
+    }
+
+    private void reconcileTracked() {
+        Set<String> dashboardIds = stringRedisTemplate.opsForSet().members(TRACKED_DASHBOARDS_KEY);
+        if (dashboardIds == null) return;
+
+        for (String id : dashboardIds) {
+            try {
+                reconcile(Long.valueOf(id));
+            } catch (Exception e) {
+                log.warn("Outbound 카운터 보정 실패 (dashboard={}): {}", id, e.getMessage());
+            }
+        }
+    }
+
+    private void reconcile(Long managementId) {
+        String key = getOutboundKey(managementId);
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            // 만료된 캐시는 다음 조회 때 다시 만들어짐
+            stringRedisTemplate.opsForSet().remove(TRACKED_DASHBOARDS_KEY, String.valueOf(managementId));
+            return;
+        }
+
+        long generation = counterCacheWriter.generation(key);
+        Map<Outbound, Long> cached;
+        try {
+            cached = toSummary(counterHashOperations().entries(key));
+        } catch (IllegalArgumentException | ConversionException e) {
+            cached = Map.of();
+        }
+        Map<Outbound, Long> actual = countFromDb(managementId);
+
+        long drift = 0;
+        for (Outbound outbound : Outbound.values()) {
+            drift += Math.abs(cached.getOrDefault(outbound, 0L) - actual.getOrDefault(outbound, 0L));
+        }
+        if (drift == 0) {
+            driftSummary.record(0);
+            return;
+        }
+
+        // 비교 도중 증감이 반영됐으면 차이가 아니라 시점 차이일 수 있으므로 다음 주기에 다시 비교
+        if (!writeCounts(managementId, generation, actual)) return;
+
+        driftSummary.record(drift);
+        correctedCounter.increment();
+        log.info("Outbound 카운터 보정 (dashboard={}, drift={})", managementId, drift);
+        cacheInvalidationPublisher.invalidate(managementId, AnalysisCacheType.SNAPSHOT);
+    }
+
+    // 캐시를 채우는 집계이므로 복제 지연 없이 주 DB에서 조회
+    private Map<Outbound, Long> countFromDb(Long managementId) {
+        Map<Outbound, Long> counts = new EnumMap<>(Outbound.class);
+        List<Object[]> rows = PrimaryReads.call(() ->
+                itemInstanceRepository.countAllByOutboundGroupAndManagementIdAndStatus(managementId, Status.ACTIVE));
+        for (Object[] row : rows) {
+            counts.put((Outbound) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private boolean writeCounts(Long managementId, long generation, Map<Outbound, Long> counts) {
+        // 0인 상태도 필드로 두어 비어 있는 관리페이지도 캐시되도록 함
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (Outbound outbound : Outbound.values()) {
+            fields.put(outbound.name(), String.valueOf(counts.getOrDefault(outbound, 0L)));
+        }
+        return counterCacheWriter.replaceHash(getOutboundKey(managementId), generation, COUNTER_TTL, fields);
+    }
+
+    // 0인 상태는 응답에서 제외 (기존 GROUP BY 응답과 동일)
+    private Map<Outbound, Long> toSummary(Map<String, Long> entries) {
+        Map<Outbound, Long> summary = new EnumMap<>(Outbound.class);
+        entries.forEach((field, count) -> {
+            if (count != 0) {
+                summary.put(Outbound.valueOf(field), count);
+            }
+        });
+        return summary;
+    }
+
+    private HashOperations<String, String, Long> counterHashOperations() {
+        return counterRedisTemplate.opsForHash();
+    }
+
+    private void addDelta(Long managementId, Outbound outbound, long delta) {
+        if (outbound == null) return;
+        addDeltas(managementId, Map.of(outbound, delta));
+    }
+
+    // 증감은 커밋 이후 반영되고, 스냅샷 무효화는 그 다음에 실행됨 (CounterCacheWriter 참고)
+    private void addDeltas(Long managementId, Map<Outbound, Long> deltas) {
+        if (managementId == null || deltas.isEmpty()) return;
+
+        Map<String, Long> fieldDeltas = new LinkedHashMap<>();
+        deltas.forEach((outbound, delta) -> fieldDeltas.put(outbound.name(), delta));
+        counterCacheWriter.incrementHash(getOutboundKey(managementId), fieldDeltas, false);
+        cacheInvalidationPublisher.invalidate(managementId, AnalysisCacheType.SNAPSHOT);
+    }
+}
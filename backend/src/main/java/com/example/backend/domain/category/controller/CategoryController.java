@@ -7,6 +7,8 @@ import com.example.backend.domain.category.service.CategoryService;
 import com.example.backend.enums.RoleType;
 import com.example.backend.global.exception.BusinessLogicException;
 import com.example.backend.global.exception.ExceptionCode;
+import com.example.backend.enums.VersionedResource;
+import com.example.backend.global.cache.ResourceVersionService;
 import com.example.backend.global.security.jwt.service.TokenService;
 import com.example.backend.domain.user.entity.User;
 import com.example.backend.domain.user.service.UserService;
@@ -17,6 +19,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -33,6 +36,7 @@ public class CategoryController {
     private final CategoryService categoryService;
     private final TokenService tokenService;
     private final UserService userService;
+    private final ResourceVersionService resourceVersionService;
 
     // 카테고리 생성 (매니저만 가능)
     @PostMapping
@@ -54,12 +58,17 @@ public class CategoryController {
             summary = "전체 카테고리 조회",
             description = "대시보드 내 전체 카테고리 조회를 처리합니다."
     )
-    public ResponseEntity<List<CategoryResponseDTO>> getAllCategories() {
-        User user = getAuthorizedUser();
-
-        List<CategoryResponseDTO> response = categoryService.findAllCategories(user);
+    public ResponseEntity<List<CategoryResponseDTO>> getAllCategories(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 토큰에 관리페이지가 없으면(부서를 통한 관리페이지) ETag 없이 조회
+        Long dashboardId = tokenService.findManagementDashboardIdFromClaims();
+        if (dashboardId == null) {
+            return ResponseEntity.ok(categoryService.findAllCategories(getAuthorizedUser()));
+        }
 
-        return ResponseEntity.ok(response);
+        String etag = resourceVersionService.weakETag(VersionedResource.CATEGORIES, dashboardId, null);
+        return resourceVersionService.conditionalGet(ifNoneMatch, etag,
+                () -> categoryService.findAllCategories(getAuthorizedUser()));
     }
 
     // 특정 카테고리 조회 (로그인한 유저 + 자신의 관리 페이지에 속할 때만 조회 가능)
@@ -1,6 +1,7 @@
 package com.example.backend.domain.category.entity;
 
 import com.example.backend.global.auditable.Auditable;
+import com.example.backend.global.cache.ResourceVersionEntityListener;
 import com.example.backend.domain.item.entity.Item;
 import com.example.backend.domain.managementDashboard.entity.ManagementDashboard;
 import jakarta.persistence.*;
@@ -15,6 +16,7 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 
 @Entity
+@EntityListeners(ResourceVersionEntityListener.class)
 @Table(name = "categories")
 @Getter
 @Setter
@@ -5,6 +5,7 @@ import com.example.backend.domain.category.dto.request.CategoryUpdateRequestDTO;
 import com.example.backend.domain.category.dto.response.CategoryResponseDTO;
 import com.example.backend.domain.category.entity.Category;
 import com.example.backend.domain.category.repository.CategoryRepository;
+import com.example.backend.global.cache.CacheNames;
 import com.example.backend.global.exception.BusinessLogicException;
 import com.example.backend.global.exception.ExceptionCode;
 import com.example.backend.domain.managementDashboard.entity.ManagementDashboard;
@@ -12,10 +13,15 @@ import com.example.backend.domain.managementDashboard.repository.ManagementDashb
 import com.example.backend.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,8 +31,9 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final ManagementDashboardRepository managementDashboardRepository;
+    private final CacheManager cacheManager;
 
-    private Long getDashboardId(User user) {
+    public Long getDashboardId(User user) {
         // 우선적으로 User의 ManagementDashboard가 있으면 그것을 사용
         if (user.getManagementDashboard() != null) {
             log.info("User 직접 참조하는 ManagementDashboard ID: {}", user.getManagementDashboard().getId());
@@ -46,6 +53,7 @@ public class CategoryService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.CATEGORIES, key = "@categoryService.getDashboardId(#user)")
     public CategoryResponseDTO createCategory(CategoryCreateRequestDTO dto, User user) {
         Long dashboardId = getDashboardId(user);
         ManagementDashboard dashboard = managementDashboardRepository.findById(dashboardId)
@@ -65,6 +73,7 @@ public class CategoryService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.CATEGORIES, key = "@categoryService.getDashboardId(#user)")
     public CategoryResponseDTO updateCategory(Long id, CategoryUpdateRequestDTO dto, User user) {
         Long dashboardId = getDashboardId(user);
 
@@ -82,6 +91,7 @@ public class CategoryService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.CATEGORIES, key = "@categoryService.getDashboardId(#user)")
     public void deleteCategory(Long id, User user) {
         Long dashboardId = getDashboardId(user);
 
@@ -95,13 +105,20 @@ public class CategoryService {
         categoryRepository.delete(category);
     }
 
+    @Cacheable(cacheNames = CacheNames.CATEGORIES, key = "@categoryService.getDashboardId(#user)")
     public List<CategoryResponseDTO> findAllCategories(User user) {
         Long dashboardId = getDashboardId(user);
         List<Category> categories = categoryRepository.findByManagementDashboardId(dashboardId);
 
         return categories.stream()
                 .map(CategoryResponseDTO::fromEntity)
-                .toList();
+                .collect(Collectors.toList());
+    }
+
+    // 비품 등록/카테고리 변경으로 카테고리별 비품 수가 바뀌었을 때 호출
+    // 같은 클래스 안에서 호출돼도 적용되도록 캐시를 직접 비움 (트랜잭션 안이면 커밋 이후 삭제)
+    public void evictCategories(Long dashboardId) {
+        Objects.requireNonNull(cacheManager.getCache(CacheNames.CATEGORIES)).evict(dashboardId);
     }
 
 
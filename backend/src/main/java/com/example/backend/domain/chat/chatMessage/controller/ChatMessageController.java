@@ -1,6 +1,7 @@
 package com.example.backend.domain.chat.chatMessage.controller;
 
 import com.example.backend.domain.chat.chatMessage.dto.request.ChatMessageRequestDto;
+import com.example.backend.domain.chat.chatMessage.dto.response.ChatMessageCursorResponseDto;
 import com.example.backend.domain.chat.chatMessage.dto.response.ChatResponseDto;
 import com.example.backend.domain.chat.chatMessage.entity.ChatMessage;
 import com.example.backend.domain.chat.chatMessage.service.ChatMessageService;
@@ -76,6 +77,41 @@ public class ChatMessageController {
         );
     }
 
+    @GetMapping("/{roomId}/history")
+    @Operation(
+            summary = "채팅방 메시지 커서 조회",
+            description = "before(메시지 id) 이전의 메시지를 최신순으로 limit 개 조회합니다. before가 없으면 가장 최근 메시지부터 조회합니다. "
+                    + "응답의 nextCursor를 다음 요청의 before로 사용합니다."
+    )
+    public ResponseEntity<ApiResponse<ChatMessageCursorResponseDto>> getChatMessageHistory(
+            @PathVariable Long roomId,
+            @RequestParam(name = "before", required = false) Long before,
+            @RequestParam(name = "limit", defaultValue = "50") int limit) {
+
+        ChatMessageCursorResponseDto response = chatMessageService.getChatMessageBefore(roomId, before, limit);
+
+        return ResponseEntity.ok(
+                ApiResponse.of(HttpStatus.OK.value(), "채팅방 메시지 커서 조회", response)
+        );
+    }
+
+    @GetMapping("/{roomId}/since")
+    @Operation(
+            summary = "재연결 시 누락 메시지 조회",
+            description = "after(메시지 id) 이후의 메시지를 오래된 순으로 limit 개 조회합니다. "
+                    + "hasNext가 true면 nextCursor를 다음 요청의 after로 사용합니다."
+    )
+    public ResponseEntity<ApiResponse<ChatMessageCursorResponseDto>> getChatMessageSince(
+            @PathVariable Long roomId,
+            @RequestParam(name = "after") Long after,
+            @RequestParam(name = "limit", defaultValue = "50") int limit) {
+
+        ChatMessageCursorResponseDto response = chatMessageService.getChatMessageSince(roomId, after, limit);
+
+        return ResponseEntity.ok(
+                ApiResponse.of(HttpStatus.OK.value(), "누락 메시지 조회", response)
+        );
+    }
 
 
-}
\ No newline at end of file
+}
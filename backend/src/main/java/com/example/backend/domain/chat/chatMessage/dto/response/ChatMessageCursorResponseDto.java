@@ -0,0 +1,17 @@
+package com.example.backend.domain.chat.chatMessage.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ChatMessageCursorResponseDto {
+
+    private List<ChatResponseDto> messages; // 조회된 메시지 목록
+    private Long nextCursor;                // 다음 조회 시 사용할 메시지 id (before 또는 after 값)
+    private boolean hasNext;                // 추가로 조회할 메시지가 있는지 여부
+
+}
@@ -0,0 +1,15 @@
+package com.example.backend.domain.chat.chatMessage.dto.response;
+
+import com.example.backend.enums.ChatMessageStatus;
+import java.time.LocalDateTime;
+
+public interface ChatMessageProjection {
+    //커서 기반 메시지 조회 결과 (User 엔티티 로딩 없이 필요한 컬럼만 조회)
+    Long getId();
+    Long getRoomId();
+    Long getUserId();
+    String getSender();
+    String getMessage();
+    LocalDateTime getCreateDate();
+    ChatMessageStatus getChatStatus();
+}
@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class ChatResponseDto {
 
+    private Long messageId;      // 메시지 번호 (커서 조회용)
     private Long roomId;         // 방 번호
     private String sender;       // 보낸 사람 닉네임
     private Long userId;
@@ -20,6 +21,7 @@ public class ChatResponseDto {
     private ChatMessageStatus chatStatus; //메시지 타입
 
     public ChatResponseDto(ChatMessage chatMessage) {
+        this.messageId = chatMessage.getId();
         this.roomId = chatMessage.getChatRoom().getId();
         this.sender = chatMessage.getUser().getName();
         this.message = chatMessage.getMessage();
@@ -27,4 +29,14 @@ public class ChatResponseDto {
         this.chatStatus = chatMessage.getMessageStatus();
         this.userId  = chatMessage.getUser().getId();
     }
-}
\ No newline at end of file
+
+    public ChatResponseDto(ChatMessageProjection projection) {
+        this.messageId = projection.getId();
+        this.roomId = projection.getRoomId();
+        this.sender = projection.getSender();
+        this.message = projection.getMessage();
+        this.createDate = projection.getCreateDate();
+        this.chatStatus = projection.getChatStatus();
+        this.userId = projection.getUserId();
+    }
+}
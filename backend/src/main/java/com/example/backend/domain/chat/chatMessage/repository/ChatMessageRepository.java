@@ -1,20 +1,86 @@
 package com.example.backend.domain.chat.chatMessage.repository;
 
+import com.example.backend.domain.chat.chatMessage.dto.response.ChatMessageProjection;
 import com.example.backend.domain.chat.chatMessage.entity.ChatMessage;
 import com.example.backend.domain.chat.chatroom.entity.ChatRoom;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
-    // 채팅방에 해당하는 모든 메시지 삭제
-    void deleteAllByChatRoom(ChatRoom chatRoom);
+    // 채팅방에 해당하는 모든 메시지 삭제 (엔티티를 읽지 않고 DELETE 한 번으로 처리)
+    @Modifying
+    @Query("DELETE FROM ChatMessage cm WHERE cm.chatRoom = :chatRoom")
+    void deleteAllByChatRoom(@Param("chatRoom") ChatRoom chatRoom);
+
+    // 여러 채팅방의 메시지 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM ChatMessage cm WHERE cm.chatRoom.id IN :roomIds")
+    int deleteAllByChatRoomIdIn(@Param("roomIds") List<Long> roomIds);
 
     Page<ChatMessage> findByChatRoom(ChatRoom chatRoom, Pageable pageable);
     Optional<ChatMessage> findTopByChatRoomOrderByCreatedAtDesc(ChatRoom chatRoom);
 
+    // 커서 조회 - 가장 최근 메시지부터 (count 쿼리 없음, (chat_room_id, id) 인덱스 사용)
+    @Query("""
+        SELECT cm.id            AS id,
+               cm.chatRoom.id   AS roomId,
+               u.id             AS userId,
+               u.name           AS sender,
+               cm.message       AS message,
+               cm.createdAt     AS createDate,
+               cm.messageStatus AS chatStatus
+          FROM ChatMessage cm
+          JOIN cm.user u
+         WHERE cm.chatRoom.id = :roomId
+         ORDER BY cm.id DESC
+    """)
+    List<ChatMessageProjection> findLatestByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+    // 커서 조회 - before(메시지 id) 이전 메시지
+    @Query("""
+        SELECT cm.id            AS id,
+               cm.chatRoom.id   AS roomId,
+               u.id             AS userId,
+               u.name           AS sender,
+               cm.message       AS message,
+               cm.createdAt     AS createDate,
+               cm.messageStatus AS chatStatus
+          FROM ChatMessage cm
+          JOIN cm.user u
+         WHERE cm.chatRoom.id = :roomId
+           AND cm.id < :before
+         ORDER BY cm.id DESC
+    """)
+    List<ChatMessageProjection> findByRoomIdBefore(@Param("roomId") Long roomId,
+                                                   @Param("before") Long before,
+                                                   Pageable pageable);
+
+    // 재연결 시 누락 메시지 조회 - after(메시지 id) 이후 메시지, 오래된 순
+    @Query("""
+        SELECT cm.id            AS id,
+               cm.chatRoom.id   AS roomId,
+               u.id             AS userId,
+               u.name           AS sender,
+               cm.message       AS message,
+               cm.createdAt     AS createDate,
+               cm.messageStatus AS chatStatus
+          FROM ChatMessage cm
+          JOIN cm.user u
+         WHERE cm.chatRoom.id = :roomId
+           AND cm.id > :after
+         ORDER BY cm.id ASC
+    """)
+    List<ChatMessageProjection> findByRoomIdAfter(@Param("roomId") Long roomId,
+                                                  @Param("after") Long after,
+                                                  Pageable pageable);
+
 }
@@ -4,6 +4,8 @@ package com.example.backend.domain.chat.chatMessage.service;
 import static com.example.backend.enums.ChatMessageStatus.ENTER;
 
 import com.example.backend.domain.chat.chatMessage.dto.request.ChatMessageRequestDto;
+import com.example.backend.domain.chat.chatMessage.dto.response.ChatMessageCursorResponseDto;
+import com.example.backend.domain.chat.chatMessage.dto.response.ChatMessageProjection;
 import com.example.backend.domain.chat.chatMessage.dto.response.ChatResponseDto;
 import com.example.backend.domain.chat.chatMessage.entity.ChatMessage;
 import com.example.backend.domain.chat.chatMessage.repository.ChatMessageRepository;
@@ -26,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
@@ -35,6 +38,9 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class ChatMessageService {
 
+    // 커서 조회 시 한 번에 가져올 수 있는 최대 메시지 수
+    private static final int MAX_CURSOR_LIMIT = 100;
+
     private final ChatMessageRepository chatMessageRepository;
     private final ChatUserRepository chatUserRepository;
 
@@ -102,6 +108,8 @@ public class ChatMessageService {
                                 .build();
 
                         chatMessageRepository.save(enterMessage);
+                        // 입장 메시지도 채팅방 마지막 메시지, 안읽은 메시지 수에 반영
+                        chatRoomService.applyNewMessage(enterMessage);
 
                         if (!userList.getUser().getId().equals(user.getId())) {
                             eventPublisher.publishEvent(new NewChatEvent(
@@ -140,7 +148,11 @@ public class ChatMessageService {
             default -> throw new BusinessLogicException(ExceptionCode.INVALID_CHAT_ROOM_TYPE);
         }
         log.info("message확인 2 + " + chatMessage.getMessage());
-        return chatMessageRepository.save(chatMessage);
+        ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
+
+        //채팅방 목록 정렬, 새 메시지 표시용 정보 갱신
+        chatRoomService.applyNewMessage(savedMessage);
+        return savedMessage;
     }
 
     public Page<ChatMessage> getChatMessage(Long roomId, Pageable pageable){
@@ -155,5 +167,51 @@ public class ChatMessageService {
         return chatMessageRepository.findByChatRoom(chatRoom,pageable);
     }
 
+    // 커서 기반 메시지 조회 : before(메시지 id) 이전 메시지를 최신순으로 limit 개 조회
+    // before가 없으면 가장 최근 메시지부터 조회
+    public ChatMessageCursorResponseDto getChatMessageBefore(Long roomId, Long before, int limit) {
+        //참여중인 채팅방 아니면 메시지 조회 못함
+        chatRoomService.validChatRoomMember(roomId);
+
+        int size = normalizeLimit(limit);
+        // hasNext 판단을 위해 하나 더 조회
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        List<ChatMessageProjection> messages = (before == null)
+                ? chatMessageRepository.findLatestByRoomId(roomId, pageable)
+                : chatMessageRepository.findByRoomIdBefore(roomId, before, pageable);
+
+        return toCursorResponse(messages, size);
+    }
+
+    // 재연결 시 누락된 메시지 조회 : after(메시지 id) 이후 메시지를 오래된 순으로 limit 개 조회
+    public ChatMessageCursorResponseDto getChatMessageSince(Long roomId, Long after, int limit) {
+        //참여중인 채팅방 아니면 메시지 조회 못함
+        chatRoomService.validChatRoomMember(roomId);
+
+        int size = normalizeLimit(limit);
+        List<ChatMessageProjection> messages =
+                chatMessageRepository.findByRoomIdAfter(roomId, after, PageRequest.of(0, size + 1));
+
+        return toCursorResponse(messages, size);
+    }
+
+    private int normalizeLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_CURSOR_LIMIT));
+    }
+
+    private ChatMessageCursorResponseDto toCursorResponse(List<ChatMessageProjection> messages, int size) {
+        boolean hasNext = messages.size() > size;
+        List<ChatMessageProjection> content = hasNext ? messages.subList(0, size) : messages;
+
+        Long nextCursor = content.isEmpty() ? null : content.get(content.size() - 1).getId();
+
+        return ChatMessageCursorResponseDto.builder()
+                .messages(content.stream().map(ChatResponseDto::new).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
 
 }
@@ -12,6 +12,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +24,10 @@ import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
 @Entity
-@Table(name = "chat_users")
+@Table(name = "chat_users", indexes = {
+        // 유저별 채팅방 목록 조회용
+        @Index(name = "idx_chat_users_user_status", columnList = "user_id, chat_status")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -43,6 +47,10 @@ public class ChatUser extends Auditable {
     @Column(name = "last_enter_time")
     private LocalDateTime lastEnterTime;
 
+    // 마지막 입장 이후 다른 사용자가 보낸 메시지 수 (메시지 전송 시 증가, 입장 시 초기화)
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+
     @ManyToOne
     @JoinColumn(name = "user_id")
     private User user;
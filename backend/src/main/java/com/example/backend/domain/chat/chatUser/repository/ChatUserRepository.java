@@ -1,15 +1,20 @@
 package com.example.backend.domain.chat.chatUser.repository;
 
 import com.example.backend.domain.chat.chatUser.entity.ChatUser;
+import com.example.backend.domain.chat.chatroom.dto.response.ChatRoomUnreadProjection;
 import com.example.backend.domain.chat.chatroom.entity.ChatRoom;
 import com.example.backend.enums.ChatRoomType;
 import com.example.backend.enums.ChatStatus;
 import com.example.backend.domain.user.entity.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 
@@ -18,6 +23,13 @@ public interface ChatUserRepository extends JpaRepository<ChatUser, Long> {
 
     Optional<ChatUser> findByUserAndChatRoom(User user, ChatRoom chatRoom);
     List<ChatUser> findByChatRoom(ChatRoom chatRoom);
+
+    // 주어진 채팅방 중 아직 참여자가 남아있는 채팅방 id
+    @Query("SELECT DISTINCT cu.chatRoom.id FROM ChatUser cu WHERE cu.chatRoom.id IN :roomIds")
+    List<Long> findOccupiedChatRoomIds(@Param("roomIds") List<Long> roomIds);
+
+    // 엔티티 로딩 없이 채팅방 참여 여부만 확인
+    boolean existsByUserIdAndChatRoomId(Long userId, Long chatRoomId);
     void deleteById(Long id);
 
     List<ChatUser> findByUser(User user);
@@ -31,5 +43,40 @@ public interface ChatUserRepository extends JpaRepository<ChatUser, Long> {
             Pageable pageable
     );
 
+    // 메시지 전송 시 보낸 사람을 제외한 참여자의 안읽은 메시지 수 증가
+    @Modifying
+    @Query("""
+        UPDATE ChatUser cu
+           SET cu.unreadCount = cu.unreadCount + 1
+         WHERE cu.chatRoom.id = :roomId
+           AND cu.user.id <> :senderId
+    """)
+    int increaseUnreadCount(@Param("roomId") Long roomId, @Param("senderId") Long senderId);
+
+    // 채팅방 입장 시 마지막 입장 시간 갱신 + 안읽은 메시지 수 초기화
+    @Modifying
+    @Query("""
+        UPDATE ChatUser cu
+           SET cu.unreadCount = 0,
+               cu.lastEnterTime = :enterTime
+         WHERE cu.id = :chatUserId
+    """)
+    int resetUnreadCount(@Param("chatUserId") Long chatUserId, @Param("enterTime") LocalDateTime enterTime);
+
+    // 유저가 속한 채팅방 전체의 새 메시지 정보 한 번에 조회
+    @Query("""
+        SELECT cu.chatRoom.id  AS chatRoomId,
+               cu.chatStatus   AS chatStatus,
+               cu.unreadCount  AS unreadCount
+          FROM ChatUser cu
+         WHERE cu.user.id = :userId
+           AND cu.chatRoom.roomType = :roomType
+           AND cu.chatStatus IN :statuses
+    """)
+    List<ChatRoomUnreadProjection> findUnreadByUserIdAndRoomType(
+            @Param("userId") Long userId,
+            @Param("roomType") ChatRoomType roomType,
+            @Param("statuses") List<ChatStatus> statuses
+    );
 
 }
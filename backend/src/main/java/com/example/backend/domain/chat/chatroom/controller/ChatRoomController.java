@@ -2,11 +2,13 @@ package com.example.backend.domain.chat.chatroom.controller;
 
 
 import com.example.backend.domain.chat.chatroom.dto.request.ChatRoomRequestDto;
+import com.example.backend.domain.chat.chatroom.dto.response.ChatRoomNewMessageResponseDto;
 import com.example.backend.domain.chat.chatroom.dto.response.ChatRoomResponseDto;
 import com.example.backend.domain.chat.chatroom.dto.response.OpponentResponseDto;
 import com.example.backend.domain.chat.chatroom.dto.response.ParticipantsResponseDto;
 import com.example.backend.domain.chat.chatroom.entity.ChatRoom;
 import com.example.backend.domain.chat.chatroom.service.ChatRoomService;
+import com.example.backend.domain.chat.presence.service.ChatPresenceService;
 import com.example.backend.enums.ChatRoomType;
 import com.example.backend.domain.user.entity.User;
 import com.example.backend.global.utils.dto.ApiResponse;
@@ -14,6 +16,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -41,6 +44,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ChatRoomController {
 
     private final ChatRoomService chatRoomService;
+    private final ChatPresenceService chatPresenceService;
 
     @PostMapping
     @Operation(
@@ -220,6 +224,39 @@ public class ChatRoomController {
         );
     }
 
+    @GetMapping("/{roomId}/online")
+    @Operation(
+            summary = "채팅방 접속 중인 유저 조회",
+            description = "현재 해당 채팅방을 구독(보고) 중인 유저 id 목록을 반환합니다."
+    )
+    public ResponseEntity<ApiResponse<Set<Long>>> getOnlineUsers(@PathVariable Long roomId) {
+        chatRoomService.validChatRoomMember(roomId);
+        Set<Long> onlineUserIds = chatPresenceService.getOnlineUserIds(roomId);
+
+        return ResponseEntity.ok(
+                ApiResponse.of(HttpStatus.OK.value(), "채팅방 접속 유저 조회 성공", onlineUserIds)
+        );
+    }
+
+    @GetMapping("/new-messages")
+    @Operation(
+            summary = "유저의 채팅방 전체 새 메시지 여부 조회",
+            description = "현재 로그인한 사용자가 속한 해당 타입의 모든 채팅방에 대해 새 메시지 존재 여부와 안읽은 메시지 수를 한 번에 반환합니다."
+    )
+    public ResponseEntity<ApiResponse<List<ChatRoomNewMessageResponseDto>>> getNewMessageFlags(
+            @RequestParam ChatRoomType chatRoomType
+    ) {
+        List<ChatRoomNewMessageResponseDto> response = chatRoomService.getNewMessageFlags(chatRoomType);
+
+        return ResponseEntity.ok(
+                ApiResponse.of(
+                        HttpStatus.OK.value(),
+                        "새 메시지 존재 여부 조회 성공",
+                        response
+                )
+        );
+    }
+
     @PatchMapping("/{chatRoomId}/enter")
     @Operation(
             summary = "채팅방 입장 시간 업데이트",
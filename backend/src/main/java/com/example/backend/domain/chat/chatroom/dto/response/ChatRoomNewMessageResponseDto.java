@@ -0,0 +1,17 @@
+package com.example.backend.domain.chat.chatroom.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+public class ChatRoomNewMessageResponseDto {
+    private Long chatRoomId;
+    private boolean hasNewMessage; // 마지막 입장 이후 새 메시지 존재 여부
+    private int unreadCount;       // 마지막 입장 이후 안읽은 메시지 수
+
+}
@@ -3,6 +3,7 @@ package com.example.backend.domain.chat.chatroom.dto.response;
 
 import com.example.backend.domain.chat.chatroom.entity.ChatRoom;
 import com.example.backend.enums.ChatRoomType;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,11 +17,13 @@ public class ChatRoomResponseDto {
     private Long id;
     private String roomName;// 채팅방 이름
     private ChatRoomType roomType; // ONE_TO_ONE, GROUP, SUPPORT 등
+    private LocalDateTime lastMessageAt; // 마지막 메시지 시간
 
     public ChatRoomResponseDto(ChatRoom chatRoom){
         this.id = chatRoom.getId();
         this.roomName= chatRoom.getRoomName();
         this.roomType=chatRoom.getRoomType();
+        this.lastMessageAt = chatRoom.getLastMessageAt();
     }
 
 
@@ -0,0 +1,10 @@
+package com.example.backend.domain.chat.chatroom.dto.response;
+
+import com.example.backend.enums.ChatStatus;
+
+public interface ChatRoomUnreadProjection {
+    //유저별 채팅방 새 메시지 정보
+    Long getChatRoomId();
+    ChatStatus getChatStatus();
+    Integer getUnreadCount();
+}
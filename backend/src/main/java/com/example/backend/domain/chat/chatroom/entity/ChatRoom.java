@@ -13,8 +13,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -24,7 +27,13 @@ import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
 @Entity
-@Table(name = "chat_rooms")
+@Table(name = "chat_rooms", indexes = {
+        // 채팅방 목록 조회용 (채팅방 타입으로 거른 뒤 최신 메시지 순 정렬)
+        @Index(name = "idx_chat_rooms_room_type_last_message_at", columnList = "room_type, last_message_at")
+}, uniqueConstraints = {
+        // 같은 두 유저 사이의 1:1, 고객센터 채팅방 중복 생성 방지
+        @UniqueConstraint(name = "uk_chat_rooms_pair_key", columnNames = "pair_key")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -45,14 +54,32 @@ public class ChatRoom extends Auditable { // Auditable 상속
     @Enumerated(EnumType.STRING)
     private ChatRoomType roomType;
 
+    // 1:1, 고객센터 채팅방 조회용 키 (타입:작은 유저 id:큰 유저 id), 그룹 채팅방은 null
+    @Column(name = "pair_key", length = 64)
+    private String pairKey;
+
+    // 채팅방 목록 정렬용 마지막 메시지 정보 (메시지 전송 시 갱신)
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
 
     @OneToMany(mappedBy = "chatRoom", fetch = FetchType.EAGER)
     List<ChatUser> chatUserList = new ArrayList<>();
 
 
-    @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.REMOVE, orphanRemoval = true,  fetch = FetchType.EAGER)
+    // 채팅방 목록 조회 시 모든 메시지를 함께 읽지 않도록 LAZY
+    @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.REMOVE, orphanRemoval = true,  fetch = FetchType.LAZY)
     List<ChatMessage> chatMessageList = new ArrayList<>();
 
 
+    // 두 유저 순서와 상관없이 같은 키가 나오도록 작은 id를 앞에 둠
+    public static String createPairKey(ChatRoomType roomType, Long userId1, Long userId2) {
+        long minId = Math.min(userId1, userId2);
+        long maxId = Math.max(userId1, userId2);
+        return roomType.name() + ":" + minId + ":" + maxId;
+    }
 
-}
\ No newline at end of file
+}
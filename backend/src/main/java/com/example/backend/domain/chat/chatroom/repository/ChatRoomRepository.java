@@ -8,7 +8,9 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import java.time.LocalDateTime;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -61,15 +63,14 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
             Pageable pageable
     );
 
+    // 유저 본인의 ChatUser 한 건과 조인하므로 GROUP BY 없이 비정규화된 last_message_at 으로 정렬
     @Query("""
     SELECT cr FROM ChatRoom cr
     JOIN cr.chatUserList cu
-    LEFT JOIN ChatMessage cm ON cm.chatRoom = cr
     WHERE cu.user = :user AND cr.roomType = :roomType AND cu.chatStatus IN :statuses
-    GROUP BY cr.id
     ORDER BY 
-        MAX(CASE WHEN cu.chatStatus = 'CREATE' THEN 1 ELSE 0 END) DESC,
-        MAX(cm.createdAt) DESC NULLS LAST
+        CASE WHEN cu.chatStatus = 'CREATE' THEN 1 ELSE 0 END DESC,
+        cr.lastMessageAt DESC NULLS LAST
 """)
     Page<ChatRoom> findRoomsByUserAndRoomTypeOrderByCreatorFirstAndLatestMessage(
             @Param("user") User user,
@@ -78,6 +79,50 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
             Pageable pageable
     );
 
+    // 1:1, 고객센터 채팅방 존재 여부 단건 조회 (uk_chat_rooms_pair_key)
+    Optional<ChatRoom> findByPairKey(String pairKey);
+
+    // 메시지 전송 시 마지막 메시지 정보 갱신 (더 최신 메시지일 때만)
+    @Modifying
+    @Query("""
+    UPDATE ChatRoom cr
+       SET cr.lastMessageId = :messageId,
+           cr.lastMessageAt = :messageAt
+     WHERE cr.id = :roomId
+       AND (cr.lastMessageId IS NULL OR cr.lastMessageId < :messageId)
+""")
+    int updateLastMessage(
+            @Param("roomId") Long roomId,
+            @Param("messageId") Long messageId,
+            @Param("messageAt") LocalDateTime messageAt
+    );
+
+    // 컬럼 추가 이전에 생성된 채팅방의 마지막 메시지 정보 채우기
+    @Modifying
+    @Query(value = """
+    UPDATE chat_rooms cr
+       JOIN (SELECT chat_room_id, MAX(id) AS last_id, MAX(created_at) AS last_at
+               FROM chat_messages
+              GROUP BY chat_room_id) cm ON cm.chat_room_id = cr.id
+       SET cr.last_message_id = cm.last_id,
+           cr.last_message_at = cm.last_at
+     WHERE cr.last_message_id IS NULL
+""", nativeQuery = true)
+    int backfillLastMessage();
 
+    // pair_key 컬럼 추가 이전에 생성된 1:1, 고객센터 채팅방의 키 채우기
+    // 이미 중복 생성된 채팅방이 있으면 IGNORE로 먼저 채워진 한 건만 키를 가짐
+    @Modifying
+    @Query(value = """
+    UPDATE IGNORE chat_rooms cr
+      JOIN (SELECT chat_room_id, MIN(user_id) AS min_id, MAX(user_id) AS max_id
+              FROM chat_users
+             GROUP BY chat_room_id
+            HAVING COUNT(*) = 2) cu ON cu.chat_room_id = cr.id
+       SET cr.pair_key = CONCAT(cr.room_type, ':', cu.min_id, ':', cu.max_id)
+     WHERE cr.pair_key IS NULL
+       AND cr.room_type IN ('ONE_TO_ONE', 'SUPPORT')
+""", nativeQuery = true)
+    int backfillPairKey();
 
 }
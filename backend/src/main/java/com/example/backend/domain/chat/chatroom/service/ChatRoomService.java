@@ -6,6 +6,7 @@ import com.example.backend.domain.chat.chatMessage.repository.ChatMessageReposit
 import com.example.backend.domain.chat.chatUser.entity.ChatUser;
 import com.example.backend.domain.chat.chatUser.repository.ChatUserRepository;
 import com.example.backend.domain.chat.chatroom.dto.request.ChatRoomRequestDto;
+import com.example.backend.domain.chat.chatroom.dto.response.ChatRoomNewMessageResponseDto;
 import com.example.backend.domain.chat.chatroom.dto.response.OpponentResponseDto;
 import com.example.backend.domain.chat.chatroom.entity.ChatRoom;
 import com.example.backend.domain.chat.chatroom.repository.ChatRoomRepository;
@@ -22,12 +23,13 @@ import com.example.backend.global.utils.CreateRandomNumber;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -115,12 +117,23 @@ public class ChatRoomService {
 
     @Transactional
     public ChatRoom createRoomBase(List<User> users, String roomName, ChatRoomType type) {
+        //1:1, 고객센터 채팅방은 두 유저 기준 키를 저장해서 중복 생성을 막음
+        String pairKey = (type != ChatRoomType.GROUP && users.size() == 2)
+                ? ChatRoom.createPairKey(type, users.get(0).getId(), users.get(1).getId())
+                : null;
+
         ChatRoom chatRoom = ChatRoom.builder()
                 .roomName(roomName)
                 .roomType(type)
+                .pairKey(pairKey)
                 .build();
 
-        chatRoomRepository.save(chatRoom);
+        try {
+            chatRoomRepository.saveAndFlush(chatRoom);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 채팅방 생성 요청이 들어온 경우
+            throw new BusinessLogicException(ExceptionCode.CHAT_ROOM_ALREADY_EXISTS);
+        }
         createChatUsers(chatRoom, users, ChatStatus.CREATE);
         return chatRoom;
     }
@@ -185,11 +198,14 @@ public class ChatRoomService {
 
         chatUserRepository.deleteById(chatUser.getId());
 
+        // 1:1, 고객센터 채팅방은 한 명이라도 나가면 같은 상대와 새 채팅방을 만들 수 있도록 키 해제
+        if (chatRoom.getPairKey() != null) {
+            chatRoom.setPairKey(null);
+        }
+
         // 사용자가 모두 나갔으면 삭제 예약
         if (chatUserRepository.findByChatRoom(chatRoom).isEmpty()) {
-            String key = "chatroom:deletion:" + chatRoom.getId();
-            redisService.saveData(key, "timestamp", Duration.ofMinutes(1));
-            redisService.addRoomIdToDeletionList(chatRoom.getId());
+            redisService.scheduleRoomDeletion(chatRoom.getId(), Duration.ofMinutes(1));
             log.info("🕒 채팅방 {} 삭제 예약됨 (1분 뒤)", chatRoom.getId());
 
         }
@@ -212,27 +228,15 @@ public class ChatRoomService {
 
 
 
-    //1:1 채팅방이 존재하는지 확인
+    //1:1 채팅방이 존재하는지 확인 (pair_key 단건 조회)
     public Optional<ChatRoom> getExistingRoomByChatUserRepository(Long userId1, Long userId2, ChatRoomType roomType) {
-        User user1 = userService.findById(userId1);
-        User user2 = userService.findById(userId2);
-
-        List<ChatStatus> activeStatuses = List.of(ChatStatus.ENTER, ChatStatus.CREATE,ChatStatus.INVITED);
-
-        List<ChatUser> user1Rooms = chatUserRepository.findByUserAndChatRoomRoomTypeAndChatStatusIn(
-                user1, roomType, activeStatuses, Pageable.unpaged()).getContent();
-
-        List<ChatUser> user2Rooms = chatUserRepository.findByUserAndChatRoomRoomTypeAndChatStatusIn(
-                user2, roomType, activeStatuses, Pageable.unpaged()).getContent();
-
-        Set<Long> user1RoomIds = user1Rooms.stream()
-                .map(cu -> cu.getChatRoom().getId())
-                .collect(Collectors.toSet());
+        return chatRoomRepository.findByPairKey(ChatRoom.createPairKey(roomType, userId1, userId2));
+    }
 
-        return user2Rooms.stream()
-                .map(ChatUser::getChatRoom)
-                .filter(cr -> user1RoomIds.contains(cr.getId()))
-                .findFirst(); // 1:1이라면 하나만 있으면 되므로
+    // pair_key 컬럼 추가 이전에 생성된 1:1, 고객센터 채팅방의 키 채우기
+    @Transactional
+    public int backfillPairKey() {
+        return chatRoomRepository.backfillPairKey();
     }
 
 
@@ -289,6 +293,31 @@ public class ChatRoomService {
         chatRoomRepository.deleteById(id);
     }
 
+    // 삭제 예약된 채팅방 일괄 삭제 : 참여자가 남아있는 채팅방은 제외하고 메시지, 채팅방 순으로 DELETE 한 번씩 실행
+    @Transactional
+    public List<Long> deleteEmptyChatRooms(List<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> occupiedIds = new HashSet<>(chatUserRepository.findOccupiedChatRoomIds(roomIds));
+        List<Long> emptyRoomIds = roomIds.stream()
+                .filter(id -> !occupiedIds.contains(id))
+                .toList();
+
+        if (!occupiedIds.isEmpty()) {
+            log.info("사용자가 있어 삭제하지 않는 채팅방: {}", occupiedIds);
+        }
+
+        if (emptyRoomIds.isEmpty()) {
+            return List.of();
+        }
+
+        chatMessageRepository.deleteAllByChatRoomIdIn(emptyRoomIds);
+        chatRoomRepository.deleteAllByIdInBatch(emptyRoomIds);
+        return emptyRoomIds;
+    }
+
 
     public List<User> getChatRoomParticipants(Long roomId) {
         ChatRoom chatRoom = findId(roomId); // chatRoomId로 엔티티 조회
@@ -373,6 +402,13 @@ public class ChatRoomService {
     }
 
 
+    // 참여중인 채팅방인지 확인 (엔티티 로딩 없이)
+    public void validChatRoomMember(Long roomId) {
+        if (!chatUserRepository.existsByUserIdAndChatRoomId(tokenService.getIdFromToken(), roomId)) {
+            throw new BusinessLogicException(ExceptionCode.NOT_ENTER_CHAT_ROOM);
+        }
+    }
+
     public ChatRoom findId(Long roomId){
         return chatRoomRepository.findById(roomId)
                 .orElseThrow(()->new BusinessLogicException(ExceptionCode.CHAT_ROOM_FOUND));
@@ -392,29 +428,46 @@ public class ChatRoomService {
         }
 
         //유저가 마지막으로 접속한 시간
-        LocalDateTime lastEnterTime = chatUser.getLastEnterTime();
-
-        if (lastEnterTime == null) {
-            // 입장 시간이 없으면 새 메시지가 있다고 간주하거나 없다고 처리
-            return false; // 또는 true 로 로직에 맞게 선택
+        if (chatUser.getLastEnterTime() == null) {
+            // 입장 시간이 없으면 새 메시지가 없다고 처리
+            return false;
         }
 
-        Optional<ChatMessage> optionalMessage = chatMessageRepository.findTopByChatRoomOrderByCreatedAtDesc(chatRoom);
+        //마지막 입장 이후 다른 사용자가 보낸 메시지 수 (본인 메시지는 카운트되지 않음)
+        return chatUser.getUnreadCount() > 0;
+    }
 
-        LocalDateTime lastMessageTime = optionalMessage
-                .map(ChatMessage::getCreatedAt)
-                .orElse(LocalDateTime.MIN);
+    // 유저가 속한 채팅방 전체의 새 메시지 여부를 한 번에 조회
+    public List<ChatRoomNewMessageResponseDto> getNewMessageFlags(ChatRoomType chatRoomType) {
+        Long userId = tokenService.getIdFromToken();
 
-        User sender = optionalMessage
-                .map(ChatMessage::getUser)
-                .orElse(null); // 또는 예외처리 가능
+        return chatUserRepository.findUnreadByUserIdAndRoomType(
+                        userId,
+                        chatRoomType,
+                        List.of(ChatStatus.ENTER, ChatStatus.CREATE, ChatStatus.INVITED))
+                .stream()
+                .map(unread -> {
+                    int unreadCount = unread.getUnreadCount() == null ? 0 : unread.getUnreadCount();
+                    //생성, 초대된 상태에서는 new 표시 안떠도 됨
+                    boolean hasNewMessage = unread.getChatStatus() == ChatStatus.ENTER && unreadCount > 0;
+                    return new ChatRoomNewMessageResponseDto(unread.getChatRoomId(), hasNewMessage, unreadCount);
+                })
+                .toList();
+    }
 
-        //본인이 보낸 메시지면 false이도록 -> 본인 메시지면 new 뜰 필요가 없음
-        if(user.equals(sender)){
-            return false;
-        }
+    // 메시지 저장 후 채팅방 마지막 메시지 정보와 참여자별 안읽은 메시지 수 갱신
+    @Transactional
+    public void applyNewMessage(ChatMessage chatMessage) {
+        Long roomId = chatMessage.getChatRoom().getId();
 
-        return lastMessageTime.isAfter(lastEnterTime);
+        chatRoomRepository.updateLastMessage(roomId, chatMessage.getId(), chatMessage.getCreatedAt());
+        chatUserRepository.increaseUnreadCount(roomId, chatMessage.getUser().getId());
+    }
+
+    // 컬럼 추가 이전에 생성된 채팅방의 마지막 메시지 정보 채우기
+    @Transactional
+    public int backfillLastMessage() {
+        return chatRoomRepository.backfillLastMessage();
     }
 
     @Transactional
@@ -425,9 +478,7 @@ public class ChatRoomService {
 
         ChatUser chatUser = chatUserRepository.findByUserAndChatRoom(user, chatRoom)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.CHAT_ROOM_FOUND));
-       chatUser.setLastEnterTime(LocalDateTime.now());
-
-       chatUserRepository.save(chatUser);
+        chatUserRepository.resetUnreadCount(chatUser.getId(), LocalDateTime.now());
     }
 
 
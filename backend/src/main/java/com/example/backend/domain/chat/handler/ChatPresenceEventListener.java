@@ -0,0 +1,70 @@
+package com.example.backend.domain.chat.handler;
+
+import com.example.backend.domain.chat.presence.service.ChatPresenceService;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceEventListener {
+
+    private final ChatPresenceService chatPresenceService;
+
+    // CONNECTED 응답 이후 발생 (StompHandler에서 userId 저장이 끝난 시점)
+    @EventListener
+    public void handleConnected(SessionConnectedEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Message<?> connectMessage = (Message<?>) accessor.getHeader(SimpMessageHeaderAccessor.CONNECT_MESSAGE_HEADER);
+        if (connectMessage == null) {
+            return;
+        }
+
+        Long userId = getUserId(StompHeaderAccessor.wrap(connectMessage));
+        if (userId != null) {
+            chatPresenceService.connect(accessor.getSessionId(), userId);
+        }
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long userId = getUserId(accessor);
+        if (userId != null) {
+            chatPresenceService.subscribe(accessor.getSessionId(), userId,
+                    accessor.getSubscriptionId(), accessor.getDestination());
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        chatPresenceService.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        chatPresenceService.disconnect(event.getSessionId());
+    }
+
+    // StompHandler에서 CONNECT 시 저장한 userId
+    private Long getUserId(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Object userId = attributes.get("userId");
+        return userId instanceof Number number ? number.longValue() : null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.backend.domain.chat.handler;
+
+import com.example.backend.domain.chat.chatroom.service.ChatRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ChatRoomBackfill {
+
+    private final ChatRoomService chatRoomService;
+
+    // 컬럼 추가 이전에 생성된 채팅방의 비정규화 컬럼을 서버 시작 시 한 번 채워줌
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int updated = chatRoomService.backfillLastMessage();
+            log.info("채팅방 마지막 메시지 정보 채움: {}건", updated);
+        } catch (Exception e) {
+            log.error("채팅방 마지막 메시지 정보 채우기 실패", e);
+        }
+
+        try {
+            int updated = chatRoomService.backfillPairKey();
+            log.info("1:1, 고객센터 채팅방 pair_key 채움: {}건", updated);
+        } catch (Exception e) {
+            log.error("채팅방 pair_key 채우기 실패", e);
+        }
+    }
+}
@@ -1,10 +1,9 @@
 package com.example.backend.domain.chat.handler;
 
-import com.example.backend.domain.chat.chatUser.repository.ChatUserRepository;
-import com.example.backend.domain.chat.chatroom.entity.ChatRoom;
-import com.example.backend.domain.chat.chatroom.repository.ChatRoomRepository;
+import com.example.backend.domain.chat.chatroom.service.ChatRoomService;
 import com.example.backend.global.redis.RedisService;
-import java.util.Set;
+import java.time.Duration;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -15,49 +14,45 @@ import org.springframework.stereotype.Component;
 @Component
 public class ChatRoomDeletionScheduler {
 
+    // 한 번에 꺼내서 삭제할 채팅방 수
+    private static final int BATCH_SIZE = 100;
+
     private final RedisService redisService;
-    private final ChatRoomRepository chatRoomRepository;
-    private final ChatUserRepository chatUserRepository;
+    private final ChatRoomService chatRoomService;
+
+    private boolean legacyMigrated = false;
 
-    @Scheduled(fixedRate = 600000) // 1분마다
+    // 삭제 예정 시각이 지난 채팅방만 ZSET에서 꺼내므로 짧은 주기로 실행해도 부담이 적음
+    @Scheduled(fixedDelay = 30000) // 30초마다
     public void deleteExpiredChatRooms() {
-        Set<String> roomIds = redisService.getDeletionRoomIds();
-
-        log.info("삭제 예약 대상 채팅방 ID 목록: {}", roomIds);
-
-        for (String idStr : roomIds) {
-            Long roomId = Long.valueOf(idStr);
-            String key = "chatroom:deletion:" + roomId;
-            Long ttl = redisService.getExpireSeconds(key);
-
-            log.info("채팅방 ID {}, 만료키 TTL: {}", roomId, ttl);
-
-            if (ttl == null || ttl <= 0) {
-                ChatRoom chatRoom = chatRoomRepository.findById(roomId).orElse(null);
-
-                if (chatRoom != null) {
-                    boolean isEmptyUsers = chatUserRepository.findByChatRoom(chatRoom).isEmpty();
-                    log.info("채팅방 ID {} 채팅 유저 존재 여부: {}", roomId, !isEmptyUsers);
-
-                    if (isEmptyUsers) {
-                        try {
-                            chatRoomRepository.delete(chatRoom);
-                            log.info("🗑️ 채팅방 {} 삭제 완료", roomId);
-                        } catch (Exception e) {
-                            log.error("채팅방 {} 삭제 실패", roomId, e);
-                        }
-                    } else {
-                        log.info("채팅방 {}에 사용자가 있어 삭제하지 않음", roomId);
-                    }
-                } else {
-                    log.info("채팅방 ID {}를 DB에서 찾을 수 없음", roomId);
-                }
-
-                redisService.removeRoomIdFromDeletionList(roomId);
-                log.info("채팅방 ID {} 삭제 예약 목록에서 제거", roomId);
-            }
+        if (!legacyMigrated) {
+            redisService.migrateLegacyDeletionList();
+            legacyMigrated = true;
         }
 
+        while (true) {
+            List<String> dueIds = redisService.popDueDeletionRoomIds(System.currentTimeMillis(), BATCH_SIZE);
+            if (dueIds.isEmpty()) {
+                return;
+            }
+
+            List<Long> roomIds = dueIds.stream().map(Long::valueOf).toList();
+            log.info("삭제 예약 대상 채팅방 ID 목록: {}", roomIds);
+
+            try {
+                List<Long> deletedIds = chatRoomService.deleteEmptyChatRooms(roomIds);
+                log.info("🗑️ 채팅방 {} 삭제 완료", deletedIds);
+            } catch (Exception e) {
+                log.error("채팅방 {} 삭제 실패, 다시 예약", roomIds, e);
+                // 꺼낸 id는 큐에서 빠졌으므로 다음 주기에 다시 시도하도록 재등록
+                roomIds.forEach(roomId -> redisService.scheduleRoomDeletion(roomId, Duration.ofMinutes(1)));
+                return;
+            }
+
+            if (dueIds.size() < BATCH_SIZE) {
+                return;
+            }
+        }
     }
 
 }
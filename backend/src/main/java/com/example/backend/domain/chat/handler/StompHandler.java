@@ -3,6 +3,7 @@ package com.example.backend.domain.chat.handler;
 import com.example.backend.global.exception.BusinessLogicException;
 import com.example.backend.global.exception.ExceptionCode;
 import com.example.backend.global.security.jwt.service.TokenService;
+import com.example.backend.global.security.jwt.service.TokenVersionService;
 import com.example.backend.global.security.jwt.util.JwtTokenizer;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ public class StompHandler implements ChannelInterceptor {
 
     private final JwtTokenizer jwtTokenizer;
     private final TokenService tokenService;
+    private final TokenVersionService tokenVersionService;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -35,12 +37,21 @@ public class StompHandler implements ChannelInterceptor {
                 throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_FOUND);
             }
 
-            jwtTokenizer.validateAccessToken(token);
             Claims claims = jwtTokenizer.parseAccessToken(token);
+            // HTTP 요청과 같이 역할/관리페이지/승인 상태가 바뀌기 전에 발급된 토큰은 거절 (재발급 후 다시 연결)
+            if (!tokenVersionService.isCurrent(jwtTokenizer.getUserId(claims), claims.get(JwtTokenizer.TOKEN_VERSION_CLAIM))) {
+                throw new BusinessLogicException(ExceptionCode.STALE_ACCESS_TOKEN);
+            }
             String username = claims.getSubject();
 
             log.info("[WebSocket] 인증된 사용자: {}", username);
             accessor.setUser(new StompPrincipal(username)); // WebSocket에서 principal로 전달
+
+            // 채팅방 접속 상태(presence) 관리용
+            Object userId = claims.get("userId");
+            if (userId instanceof Number) {
+                accessor.getSessionAttributes().put("userId", ((Number) userId).longValue());
+            }
         }
 
         return message;
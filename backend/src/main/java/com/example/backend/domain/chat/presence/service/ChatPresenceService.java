@@ -0,0 +1,149 @@
+package com.example.backend.domain.chat.presence.service;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 채팅방 접속(구독) 상태 관리
+// 채팅방별 ZSET(member = userId, score = 만료 시각)에 저장하고, 이 서버에 연결된 세션은 주기적으로 만료 시각을 갱신함
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatPresenceService {
+
+    // 하트비트 갱신이 없으면 접속 정보가 만료되는 시간
+    private static final Duration PRESENCE_TTL = Duration.ofSeconds(60);
+    private static final String CHAT_SUBSCRIBE_PREFIX = "/sub/chat/";
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 이 서버에 연결된 STOMP 세션 (sessionId -> 세션 정보)
+    private final Map<String, PresenceSession> sessions = new ConcurrentHashMap<>();
+
+    private String getRoomPresenceKey(Long roomId) {
+        return "chat:presence:room:" + roomId;
+    }
+
+    // CONNECT
+    public void connect(String sessionId, Long userId) {
+        sessions.putIfAbsent(sessionId, new PresenceSession(userId));
+    }
+
+    // SUBSCRIBE : /sub/chat/{roomId} 구독만 접속으로 처리
+    public void subscribe(String sessionId, Long userId, String subscriptionId, String destination) {
+        Long roomId = parseRoomId(destination);
+        if (roomId == null || subscriptionId == null) {
+            return;
+        }
+
+        PresenceSession session = sessions.computeIfAbsent(sessionId, id -> new PresenceSession(userId));
+        session.subscriptions.put(subscriptionId, roomId);
+        touch(roomId, session.userId);
+    }
+
+    // UNSUBSCRIBE
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        PresenceSession session = sessions.get(sessionId);
+        if (session == null || subscriptionId == null) {
+            return;
+        }
+
+        Long roomId = session.subscriptions.remove(subscriptionId);
+        if (roomId != null) {
+            leave(roomId, session.userId);
+        }
+    }
+
+    // DISCONNECT
+    public void disconnect(String sessionId) {
+        PresenceSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+
+        Set.copyOf(session.subscriptions.values()).forEach(roomId -> leave(roomId, session.userId));
+    }
+
+    // 이 서버에 연결된 세션의 만료 시각 갱신 (TTL의 1/3 주기)
+    // 만료된 접속 정보도 여기서 채팅방마다 한 번 정리하고, 조회 경로에서는 점수로만 거른다
+    // (이 서버에 구독자가 없는 채팅방은 다른 서버의 하트비트나 키 만료로 정리됨)
+    @Scheduled(fixedDelay = 20000)
+    public void heartbeat() {
+        Set<Long> roomIds = new HashSet<>();
+        for (PresenceSession session : sessions.values()) {
+            for (Long roomId : Set.copyOf(session.subscriptions.values())) {
+                touch(roomId, session.userId);
+                roomIds.add(roomId);
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        for (Long roomId : roomIds) {
+            redisTemplate.opsForZSet().removeRangeByScore(getRoomPresenceKey(roomId), Double.NEGATIVE_INFINITY, now);
+        }
+    }
+
+    // 채팅방을 보고 있는 유저 id 목록
+    public Set<Long> getOnlineUserIds(Long roomId) {
+        // 만료 시각이 지나지 않은 접속만 (만료된 항목 삭제는 heartbeat에서)
+        Set<String> members = redisTemplate.opsForZSet().rangeByScore(
+                getRoomPresenceKey(roomId), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    // 유저가 현재 채팅방을 보고 있는지 확인
+    public boolean isViewingRoom(Long roomId, Long userId) {
+        Double expireAt = redisTemplate.opsForZSet().score(getRoomPresenceKey(roomId), String.valueOf(userId));
+        return expireAt != null && expireAt > System.currentTimeMillis();
+    }
+
+    private void touch(Long roomId, Long userId) {
+        String key = getRoomPresenceKey(roomId);
+        redisTemplate.opsForZSet().add(key, String.valueOf(userId), System.currentTimeMillis() + PRESENCE_TTL.toMillis());
+        // 아무도 갱신하지 않는 채팅방 키가 남지 않도록
+        redisTemplate.expire(key, PRESENCE_TTL.multipliedBy(2));
+    }
+
+    private void leave(Long roomId, Long userId) {
+        // 같은 유저가 이 서버의 다른 세션(탭)에서 같은 채팅방을 보고 있으면 유지
+        boolean stillViewing = sessions.values().stream()
+                .anyMatch(session -> session.userId.equals(userId) && session.subscriptions.containsValue(roomId));
+
+        if (!stillViewing) {
+            redisTemplate.opsForZSet().remove(getRoomPresenceKey(roomId), String.valueOf(userId));
+        }
+    }
+
+    private Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(CHAT_SUBSCRIBE_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(CHAT_SUBSCRIBE_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            log.debug("채팅방 구독 경로가 아님: {}", destination);
+            return null;
+        }
+    }
+
+    private static class PresenceSession {
+        private final Long userId;
+        // subscriptionId -> roomId
+        private final Map<String, Long> subscriptions = new ConcurrentHashMap<>();
+
+        private PresenceSession(Long userId) {
+            this.userId = userId;
+        }
+    }
+}
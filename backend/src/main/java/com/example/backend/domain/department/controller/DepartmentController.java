@@ -12,6 +12,8 @@ import com.example.backend.global.exception.BusinessLogicException;
 import com.example.backend.global.exception.ExceptionCode;
 import com.example.backend.domain.managementDashboard.entity.ManagementDashboard;
 import com.example.backend.domain.role.service.RoleService;
+import com.example.backend.enums.VersionedResource;
+import com.example.backend.global.cache.ResourceVersionService;
 import com.example.backend.global.security.jwt.service.TokenService;
 import com.example.backend.domain.user.entity.User;
 import com.example.backend.domain.user.service.UserService;
@@ -25,6 +27,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -42,6 +45,7 @@ public class DepartmentController {
     private final DepartmentService departmentService;
     private final RoleService roleService;
     private final UserService userService;
+    private final ResourceVersionService resourceVersionService;
 
     // 부서 생성
     @PostMapping
@@ -68,13 +72,12 @@ public class DepartmentController {
             summary = "전체 부서 조회",
             description = "전체 부서 조회를 처리합니다."
     )
-    public ResponseEntity<List<DepartmentResponseDTO>> getAllDepartments() {
-        List<Department> departments = departmentService.findAllDepartments();
-        List<DepartmentResponseDTO> response = departments.stream()
-                .map(DepartmentResponseDTO::fromEntity)
-                .toList();
-
-        return ResponseEntity.ok(response);
+    public ResponseEntity<List<DepartmentResponseDTO>> getAllDepartments(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = resourceVersionService.weakETag(VersionedResource.DEPARTMENTS,
+                ResourceVersionService.GLOBAL_SCOPE, null);
+        return resourceVersionService.conditionalGet(ifNoneMatch, etag,
+                departmentService::findAllDepartmentResponses);
     }
 
     // 특정 부서 조회
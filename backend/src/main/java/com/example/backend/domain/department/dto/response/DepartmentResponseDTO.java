@@ -2,11 +2,15 @@ package com.example.backend.domain.department.dto.response;
 
 import com.example.backend.domain.department.entity.Department;
 import com.example.backend.enums.ApprovalStatus;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class DepartmentResponseDTO {
     private Long id;
     private String name;
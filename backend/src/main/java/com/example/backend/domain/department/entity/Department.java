@@ -1,6 +1,7 @@
 package com.example.backend.domain.department.entity;
 
 import com.example.backend.global.auditable.Auditable;
+import com.example.backend.global.cache.ResourceVersionEntityListener;
 
 import com.example.backend.domain.user.entity.User;
 import jakarta.persistence.*;
@@ -16,6 +17,7 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 
 @Entity
+@EntityListeners(ResourceVersionEntityListener.class)
 @Table(name = "department")
 @Getter
 @Setter
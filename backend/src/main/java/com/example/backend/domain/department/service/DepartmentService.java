@@ -3,6 +3,7 @@ package com.example.backend.domain.department.service;
 
 import com.example.backend.domain.department.dto.request.DepartmentCreateRequestDTO;
 import com.example.backend.domain.department.dto.request.DepartmentUpdateRequestDTO;
+import com.example.backend.domain.department.dto.response.DepartmentResponseDTO;
 import com.example.backend.domain.department.entity.Department;
 import com.example.backend.domain.department.repository.DepartmentRepository;
 import com.example.backend.domain.managementDashboard.repository.ManagementDashboardRepository;
@@ -10,16 +11,23 @@ import com.example.backend.domain.user.entity.User;
 import com.example.backend.domain.user.repository.UserRepository;
 import com.example.backend.enums.ApprovalStatus;
 import com.example.backend.enums.Status;
+import com.example.backend.global.cache.CacheNames;
 import com.example.backend.global.exception.BusinessLogicException;
+import com.example.backend.enums.VersionedResource;
+import com.example.backend.global.cache.ResourceVersionService;
 import com.example.backend.global.exception.ExceptionCode;
+import com.example.backend.global.security.jwt.service.TokenVersionService;
 import com.example.backend.domain.managementDashboard.entity.ManagementDashboard;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +37,8 @@ public class DepartmentService {
     private final DepartmentRepository departmentRepository;
     private final ManagementDashboardRepository managementDashboardRepository;
     private final UserRepository userRepository;
+    private final TokenVersionService tokenVersionService;
+    private final ResourceVersionService resourceVersionService;
 
 
     @Transactional
@@ -39,6 +49,7 @@ public class DepartmentService {
 
     // 부서 생성
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.DEPARTMENTS, allEntries = true)
     public Department createDepartment(DepartmentCreateRequestDTO dto, ManagementDashboard dashboard) {
         if (departmentRepository.existsByName(dto.getName())) {
             throw new BusinessLogicException(ExceptionCode.AlREADY_HAS_DEPARTMENT);
@@ -56,12 +67,21 @@ public class DepartmentService {
         return departmentRepository.findAll();
     }
 
+    // 부서 전체 조회 (응답 DTO 캐시)
+    @Cacheable(cacheNames = CacheNames.DEPARTMENTS, key = "'all'")
+    public List<DepartmentResponseDTO> findAllDepartmentResponses() {
+        return departmentRepository.findAll().stream()
+                .map(DepartmentResponseDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+
     public Department findDepartmentById(Long id) {
         return departmentRepository.findById(id).orElseThrow(() -> new BusinessLogicException(ExceptionCode.DEPARTMENT_NOT_FOUND));
     }
 
     // 부서명 수정
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.DEPARTMENTS, allEntries = true)
     public Department updateDepartment(Long id, DepartmentUpdateRequestDTO dto) {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.DEPARTMENT_NOT_FOUND));
@@ -73,6 +93,7 @@ public class DepartmentService {
 
     // 부서 삭제
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.DEPARTMENTS, allEntries = true)
     public void deleteDepartment(Long id) {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.DEPARTMENT_NOT_FOUND));
@@ -109,6 +130,7 @@ public class DepartmentService {
 
     //유저 부서 수정
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.DEPARTMENTS, allEntries = true)
     public void updateUserDepartment(Long userId, Long departmentId){
         User user = userRepository.findById(userId).orElseThrow(()-> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
 
@@ -118,6 +140,8 @@ public class DepartmentService {
         }
         user.setDepartment(department);
         userRepository.save(user);
+        tokenVersionService.bump(userId);
+        resourceVersionService.bump(VersionedResource.DEPARTMENTS, ResourceVersionService.GLOBAL_SCOPE);
 
     }
 
@@ -1,5 +1,7 @@
 package com.example.backend.domain.inventory.inventoryIn.service;
 
+import com.example.backend.domain.analysis.service.InventoryAnalysisService;
+import com.example.backend.domain.analysis.service.InventoryMonthlySummaryService;
 import com.example.backend.domain.category.repository.CategoryRepository;
 import com.example.backend.domain.inventory.inventoryIn.dto.request.InventoryInRequestDto;
 import com.example.backend.domain.inventory.inventoryIn.entity.InventoryIn;
@@ -49,6 +51,8 @@ public class InventoryInService {
     private final CategoryRepository categoryRepository;
     private final TokenService tokenService;
     private final UserRepository userRepository;
+    private final InventoryMonthlySummaryService monthlySummaryService;
+    private final InventoryAnalysisService analysisService;
 
 
     // 입고 생성
@@ -61,6 +65,7 @@ public class InventoryInService {
             // 1) 아이템 처리: 수량 증가
             item.setTotalQuantity(item.getTotalQuantity() + dto.getQuantity());
             item.setAvailableQuantity(item.getAvailableQuantity() + dto.getQuantity());
+            analysisService.applyItemQuantityDelta(item, dto.getQuantity());
         }
         SupplyReturn supplyReturn =null;
         if(dto.getInbound()==Inbound.RETURN){
@@ -101,6 +106,9 @@ public class InventoryInService {
              savedInbound = inRepo.save(inbound);
         }
 
+        // 월별 입출고 집계 누적
+        monthlySummaryService.recordInbound(savedInbound);
+
         // 3) 개별자산단위 자동 생성/반납 처리
         if (savedInbound.getInbound() == Inbound.PURCHASE||savedInbound.getInbound() == Inbound.RE_PURCHASE) {
             // 구매 입고: 수량만큼 신규 인스턴스 생성
@@ -1,10 +1,12 @@
 package com.example.backend.domain.inventory.inventoryOut.repository;
 
+import com.example.backend.domain.analysis.dto.DailyItemUsageProjection;
 import com.example.backend.domain.inventory.inventoryOut.entity.InventoryOut;
 import com.example.backend.domain.recommendation.dto.OutHistoryDto;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -30,4 +32,16 @@ public interface InventoryOutRepository extends JpaRepository<InventoryOut, Inte
     List<InventoryOut> findAllBySupplyRequest_User_Id(Long userId);
 
     List<InventoryOut> findByCreatedAtBetweenAndManagementDashboardId(LocalDateTime start, LocalDateTime end, Long managementId);
+
+    // 품목별 일간 출고 수량 (사용 빈도 재생성용)
+    @Query(value = """
+        SELECT o.management_id     AS managementId,
+               o.item_id           AS itemId,
+               DATE_FORMAT(o.created_at, '%Y%m%d') AS usageDay,
+               SUM(o.quantity)     AS quantity
+          FROM inventory_outs o
+         WHERE o.created_at >= :from
+         GROUP BY o.management_id, o.item_id, DATE_FORMAT(o.created_at, '%Y%m%d')
+    """, nativeQuery = true)
+    List<DailyItemUsageProjection> sumDailyUsageSince(@Param("from") LocalDateTime from);
 }
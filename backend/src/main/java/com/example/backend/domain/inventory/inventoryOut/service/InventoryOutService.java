@@ -5,6 +5,7 @@ import com.example.backend.domain.inventory.inventoryOut.dto.response.InventoryO
 import com.example.backend.domain.inventory.inventoryOut.entity.InventoryOut;
 import com.example.backend.domain.inventory.inventoryOut.repository.InventoryOutRepository;
 import com.example.backend.domain.analysis.service.InventoryAnalysisService;
+import com.example.backend.domain.analysis.service.InventoryMonthlySummaryService;
 import com.example.backend.domain.category.entity.Category;
 import com.example.backend.domain.category.repository.CategoryRepository;
 import com.example.backend.enums.Outbound;
@@ -60,6 +61,7 @@ public class InventoryOutService {
     private final UserRepository userRepo;
     private final TokenService tokenService;
     private final InventoryAnalysisService inventoryAnalysisService;
+    private final InventoryMonthlySummaryService monthlySummaryService;
     private final ApplicationEventPublisher eventPublisher;
 
 
@@ -103,9 +105,13 @@ public class InventoryOutService {
                 .build();
         InventoryOut saved = outRepo.save(entity);
 
-        // Redis 사용 빈도 증가
+        // 월별 입출고 집계 누적
+        monthlySummaryService.recordOutbound(saved);
+
+        // Redis 사용 빈도 증가 (커밋 이후 반영)
         try {
-            inventoryAnalysisService.increaseItemUsage(saved.getItem().getName(), saved.getQuantity());
+            inventoryAnalysisService.increaseItemUsage(mgmt.getId(), item.getId(), saved.getQuantity(),
+                    saved.getCreatedAt() != null ? saved.getCreatedAt().toLocalDate() : LocalDate.now());
         } catch (Exception e) {
             log.warn("Redis 사용 빈도 증가 실패: {}", e.getMessage());
         }
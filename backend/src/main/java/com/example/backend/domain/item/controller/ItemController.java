@@ -7,6 +7,8 @@ import com.example.backend.domain.item.dto.response.ItemResponseDto;
 import com.example.backend.domain.item.service.ItemService;
 import com.example.backend.domain.user.entity.User;
 import com.example.backend.domain.user.service.UserService;
+import com.example.backend.enums.VersionedResource;
+import com.example.backend.global.cache.ResourceVersionService;
 import com.example.backend.global.security.jwt.service.TokenService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,6 +19,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -37,6 +40,7 @@ public class ItemController {
     private final ItemService service;
     private final TokenService tokenService;
     private final UserService userService;
+    private final ResourceVersionService resourceVersionService;
 
     @Operation(summary = "비품 등록", description = "새로운 비품을 등록합니다. (매니저 권한 필요)")
     @PreAuthorize("hasRole('MANAGER')")
@@ -66,8 +70,12 @@ public class ItemController {
 
     @Operation(summary = "전체 비품 목록 조회", description = "페이징 없이 모든 비품을 조회합니다. (주의: 데이터 많을 경우 성능 저하 가능)")
     @GetMapping("/all")
-    public List<ItemResponseDto> list() {
-        return service.getAllItems();
+    public ResponseEntity<List<ItemResponseDto>> list(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 관리페이지 버전이 같으면 목록 조회 없이 304
+        String etag = resourceVersionService.weakETag(VersionedResource.ITEMS,
+                tokenService.getManagementDashboardIdFromToken(), null);
+        return resourceVersionService.conditionalGet(ifNoneMatch, etag, service::getAllItems);
     }
 
     @Operation(summary = "단일 비품 조회", description = "ID로 특정 비품의 상세 정보를 조회합니다.")
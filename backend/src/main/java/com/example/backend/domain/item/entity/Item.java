@@ -1,6 +1,7 @@
 package com.example.backend.domain.item.entity;
 
 import com.example.backend.global.auditable.Auditable;
+import com.example.backend.global.cache.ResourceVersionEntityListener;
 import com.example.backend.domain.category.entity.Category;
 import com.example.backend.domain.managementDashboard.entity.ManagementDashboard;
 import com.example.backend.enums.Status;
@@ -17,6 +18,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(ResourceVersionEntityListener.class)
 @Table(name = "items")
 @Getter
 @Setter
@@ -1,5 +1,6 @@
 package com.example.backend.domain.item.repository;
 
+import com.example.backend.domain.analysis.dto.CategorySummaryProjection;
 import com.example.backend.domain.item.dto.response.ItemLiteResponseDto;
 import com.example.backend.domain.item.dto.response.ItemResponseDto;
 import com.example.backend.domain.item.dto.response.ItemSearchProjection;
@@ -71,6 +72,20 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     //카테고리별 비품 조회
     Page<Item> findByCategoryId(Long categoryId, Pageable pageable);
 
+    // 카테고리별 총 수량 및 종류 수 집계
+    @Query("SELECT c.name AS categoryName, " +
+            "COALESCE(SUM(i.totalQuantity), 0) AS totalQuantity, " +
+            "COUNT(DISTINCT i.name) AS itemTypeCount " +
+            "FROM Item i JOIN i.category c " +
+            "WHERE i.managementDashboard.id = :managementId AND i.status = :status " +
+            "GROUP BY c.name")
+    List<CategorySummaryProjection> summarizeByCategory(@Param("managementId") Long managementId,
+                                                        @Param("status") Status status);
+
+    // 같은 카테고리명에 같은 이름의 다른 비품이 있는지 (카테고리 종류 수 증감 판단용, summarizeByCategory와 같은 기준)
+    boolean existsByManagementDashboardIdAndCategoryNameAndNameAndStatusAndIdNot(
+            Long managementDashboardId, String categoryName, String name, Status status, Long id);
+
 
 }
 
@@ -1,8 +1,11 @@
 package com.example.backend.domain.item.service;
 
+import com.example.backend.domain.analysis.event.AnalysisCacheInvalidationPublisher;
 import com.example.backend.domain.analysis.service.InventoryAnalysisService;
+import com.example.backend.domain.analysis.service.OutboundCounterService;
 import com.example.backend.domain.category.entity.Category;
 import com.example.backend.domain.category.repository.CategoryRepository;
+import com.example.backend.domain.category.service.CategoryService;
 import com.example.backend.domain.item.dto.response.ItemCardResponseDto;
 import com.example.backend.domain.item.dto.response.ItemLiteResponseDto;
 import com.example.backend.domain.item.dto.response.ItemSearchProjection;
@@ -13,6 +16,7 @@ import com.example.backend.domain.itemInstance.repository.ItemInstanceRepository
 import com.example.backend.domain.itemInstance.service.ItemInstanceService;
 import com.example.backend.domain.managementDashboard.entity.ManagementDashboard;
 import com.example.backend.domain.managementDashboard.repository.ManagementDashboardRepository;
+import com.example.backend.enums.AnalysisCacheType;
 import com.example.backend.enums.Status;
 import com.example.backend.global.exception.BusinessLogicException;
 import com.example.backend.global.exception.ExceptionCode;
@@ -38,12 +42,15 @@ import java.util.List;
 public class ItemService {
     private final ItemRepository repo;
     private final CategoryRepository categoryRepo;
+    private final CategoryService categoryService;
     private final ManagementDashboardRepository mgmtRepo;
     private static final SecureRandom RNG = new SecureRandom();
     private static final String ALPHANUM = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
     private final UserRepository userRepo;
     private final TokenService tokenService;
     private final InventoryAnalysisService analysisService;
+    private final AnalysisCacheInvalidationPublisher cacheInvalidationPublisher;
+    private final OutboundCounterService outboundCounterService;
     private final ImageService imageService;
     private final ItemInstanceService itemInstanceService;
     private final ItemInstanceRepository itemInstanceRepository;
@@ -103,7 +110,8 @@ public class ItemService {
 //                .build();
 //        itemInstanceService.createInstance(createItemInstanceRequestDto);
 
-        analysisService.clearCategoryCache(); // 캐시 무효화
+        analysisService.applyItemAdded(saved); // 카테고리 요약 캐시 반영
+        categoryService.evictCategories(mgmt.getId()); // 카테고리별 비품 수 변경
         return mapToDto(saved);
     }
 
@@ -119,6 +127,12 @@ public class ItemService {
         ManagementDashboard mgmt = mgmtRepo.findById(dto.getManagementId())
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.MANAGEMENT_DASHBOARD_NOT_FOUND));
 
+        // 카테고리 요약 캐시 반영용 변경 전 값
+        Long beforeMgmtId = entity.getManagementDashboard().getId();
+        Long beforeCategoryId = entity.getCategory().getId();
+        String beforeName = entity.getName();
+        long beforeTotalQuantity = entity.getTotalQuantity();
+
         // 3) 필드 전체 업데이트
         entity.setName(dto.getName());
         entity.setMinimumQuantity(dto.getMinimumQuantity());
@@ -141,7 +155,16 @@ public class ItemService {
 
         // 4) 저장 & DTO 반환
         Item updated = repo.save(entity);
-        analysisService.clearCategoryCache(); // (필요 시)
+        if (beforeMgmtId.equals(mgmt.getId())
+                && beforeCategoryId.equals(category.getId())
+                && beforeName.equals(updated.getName())) {
+            analysisService.applyItemQuantityDelta(updated, updated.getTotalQuantity() - beforeTotalQuantity);
+        } else {
+            cacheInvalidationPublisher.invalidate(beforeMgmtId, AnalysisCacheType.CATEGORY_SUMMARY);
+            cacheInvalidationPublisher.invalidate(mgmt.getId(), AnalysisCacheType.CATEGORY_SUMMARY);
+            categoryService.evictCategories(beforeMgmtId);
+            categoryService.evictCategories(mgmt.getId());
+        }
         return mapToDto(updated);
     }
 
@@ -183,8 +206,13 @@ public class ItemService {
     @Transactional
     public void deleteItem(Long id) {
         Item item = repo.findById(id).orElseThrow(()->new BusinessLogicException(ExceptionCode.ITEM_NOT_FOUND));
+        if (item.getStatus() == Status.ACTIVE) {
+            analysisService.applyItemRemoved(item);
+        }
         item.setStatus(Status.STOP);
         List<ItemInstance> itemInstances=itemInstanceRepository.findAllByItemIdAndStatus(item.getId(), Status.ACTIVE);
+        outboundCounterService.applyRemoved(item.getManagementDashboard().getId(),
+                itemInstances.stream().map(ItemInstance::getOutbound).toList());
         for(ItemInstance itemInstance:itemInstances){
             itemInstance.setStatus(Status.STOP);
         }
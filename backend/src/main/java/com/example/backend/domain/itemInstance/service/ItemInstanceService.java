@@ -1,6 +1,6 @@
 package com.example.backend.domain.itemInstance.service;
 
-import com.example.backend.domain.analysis.service.InventoryAnalysisService;
+import com.example.backend.domain.analysis.service.OutboundCounterService;
 import com.example.backend.enums.Outbound;
 import com.example.backend.enums.Status;
 import com.example.backend.global.exception.BusinessLogicException;
@@ -26,7 +26,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -37,7 +40,7 @@ public class ItemInstanceService {
     private final ItemInstanceRepository instanceRepo;
     private final UserRepository userRepo;
     private final TokenService tokenService;
-    private final InventoryAnalysisService inventoryAnalysisService;
+    private final OutboundCounterService outboundCounterService;
 
     @Transactional
     public ItemInstanceResponseDto createInstance(CreateItemInstanceRequestDto dto) {
@@ -82,7 +85,7 @@ public class ItemInstanceService {
                 .build();
 
         ItemInstance saved = instanceRepo.save(inst);
-        inventoryAnalysisService.clearGlobalOutboundCache();
+        outboundCounterService.applyCreated(item.getManagementDashboard().getId(), saved.getOutbound());
         return map(saved);
 
     }
@@ -123,10 +126,13 @@ public class ItemInstanceService {
             throw new BusinessLogicException(ExceptionCode.ACCESS_DENIED);
         }
 
+        Outbound beforeOutbound = inst.getOutbound();
         inst.setOutbound(dto.getOutbound());
         inst.setFinalImage(dto.getFinalImage());
         ItemInstance saved = instanceRepo.save(inst);
-        inventoryAnalysisService.clearGlobalOutboundCache();
+        if (saved.getStatus() == Status.ACTIVE) {
+            outboundCounterService.applyTransition(userMgmtId, beforeOutbound, saved.getOutbound());
+        }
         return map(saved);
     }
 
@@ -225,17 +231,34 @@ public class ItemInstanceService {
             throw new BusinessLogicException(ExceptionCode.ITEM_INSTANCE_NOT_FOUND);
         }
 
-        for (ItemInstance instance : instances) {
-            instance.setStatus(Status.STOP);
-        }
+        stopInstances(instances);
     }
 
     public void softDeleteInstances(Long itemId) {
         List<ItemInstance> instances = instanceRepo.findAllByItemId(itemId);
 
+        stopInstances(instances);
+    }
+
+    // 여러 개를 한 번에 삭제할 때는 관리페이지별로 모아 카운터 감소/분석 캐시 무효화를 한 번만 요청
+    private void stopInstances(List<ItemInstance> instances) {
+        Map<Long, List<Outbound>> removedByDashboard = new LinkedHashMap<>();
         for (ItemInstance instance : instances) {
+            if (instance.getStatus() == Status.ACTIVE) {
+                removedByDashboard.computeIfAbsent(instance.getItem().getManagementDashboard().getId(), id -> new ArrayList<>())
+                        .add(instance.getOutbound());
+            }
             instance.setStatus(Status.STOP);
         }
+        removedByDashboard.forEach(outboundCounterService::applyRemoved);
+    }
+
+    // ACTIVE → STOP 전환 시에만 Outbound 카운터 감소
+    private void stopInstance(ItemInstance instance) {
+        if (instance.getStatus() == Status.ACTIVE) {
+            outboundCounterService.applyRemoved(instance.getItem().getManagementDashboard().getId(), instance.getOutbound());
+        }
+        instance.setStatus(Status.STOP);
     }
 
     /**  단일 인스턴스 소프트 삭제 */
@@ -254,7 +277,7 @@ public class ItemInstanceService {
             throw new BusinessLogicException(ExceptionCode.ACCESS_DENIED);
         }
 
-        inst.setStatus(Status.STOP);
+        stopInstance(inst);
         instanceRepo.save(inst);
     }
 
@@ -6,12 +6,14 @@ import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
 @Builder
 @AllArgsConstructor
+@NoArgsConstructor
 @Schema(description = "관리자 페이지 응답 DTO")
 public class ManagementDashBoardResponseDto {
     @Schema(description = "고유아이디")
@@ -8,16 +8,20 @@ import com.example.backend.domain.notification.event.NewDashboardApprovedEvent;
 //import com.example.backend.domain.notification.event.NewDashboardEvent;
 import com.example.backend.domain.notification.event.NewDashboardRejectedEvent;
 import com.example.backend.enums.Status;
+import com.example.backend.global.cache.CacheNames;
 import com.example.backend.global.exception.BusinessLogicException;
 import com.example.backend.global.exception.ExceptionCode;
 import com.example.backend.domain.managementDashboard.entity.ManagementDashboard;
 import com.example.backend.domain.managementDashboard.repository.ManagementDashboardRepository;
 import com.example.backend.global.security.jwt.service.TokenService;
+import com.example.backend.global.security.jwt.service.TokenVersionService;
 import com.example.backend.domain.user.dto.response.UserSearchResponseDto;
 import com.example.backend.domain.user.entity.User;
 import com.example.backend.domain.user.repository.UserRepository;
 import com.example.backend.domain.user.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -35,6 +39,7 @@ public class ManagementDashboardService {
     private final UserService userService;
     private final UserRepository userRepository;
     private final TokenService tokenService;
+    private final TokenVersionService tokenVersionService;
     private final ApplicationEventPublisher eventPublisher;
 
 
@@ -75,6 +80,7 @@ public class ManagementDashboardService {
 
         //repo에 저장
         userRepository.save(loginUser);
+        tokenVersionService.bump(loginUser.getId());
 
 //        // 어드민 대상 관리 페이지 생성 승인 알림
 //        eventPublisher.publishEvent(new NewDashboardEvent(loginUser.getName(), managementDashboard.getName()));
@@ -98,6 +104,7 @@ public class ManagementDashboardService {
     }
 
     //관리 페이지 단일 조회
+    @Cacheable(cacheNames = CacheNames.MANAGEMENT_DASHBOARDS, key = "#id")
     public ManagementDashBoardResponseDto getManagementDashBoard(Long id){
         ManagementDashboard managementDashboard=managementRepository.findById(id).orElseThrow(
                 ()-> new BusinessLogicException(ExceptionCode.MANAGEMENT_DASHBOARD_NOT_FOUND));
@@ -111,6 +118,7 @@ public class ManagementDashboardService {
 
     //관리 페이지 수정
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.MANAGEMENT_DASHBOARDS, key = "#id")
     public ManagementDashBoardResponseDto updateManagementDashBoard(ManagementDashboardUpdateRequestDto requestDto, Long id){
         ManagementDashboard managementDashboard=managementRepository.findById(id).orElseThrow(
                 ()-> new BusinessLogicException(ExceptionCode.MANAGEMENT_DASHBOARD_NOT_FOUND)
@@ -132,6 +140,7 @@ public class ManagementDashboardService {
 
     //관리 페이지 삭제
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.MANAGEMENT_DASHBOARDS, key = "#id")
     public void deleteManagementDashBoard(Long id){
         ManagementDashboard managementDashboard=managementRepository.findById(id).orElseThrow(
                 ()-> new BusinessLogicException(ExceptionCode.MANAGEMENT_DASHBOARD_NOT_FOUND)
@@ -144,6 +153,7 @@ public class ManagementDashboardService {
 
     //관리페이지 승인
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.MANAGEMENT_DASHBOARDS, key = "#id")
     public void approvalManagementDashBoard(Long id){
         ManagementDashboard managementDashboard=managementRepository.findById(id).orElseThrow(
                 ()-> new BusinessLogicException(ExceptionCode.MANAGEMENT_DASHBOARD_NOT_FOUND)
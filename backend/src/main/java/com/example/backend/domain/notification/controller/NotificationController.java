@@ -17,8 +17,11 @@ import com.example.backend.domain.notification.entity.Notification;
 import com.example.backend.domain.notification.entity.NotificationType;
 import com.example.backend.domain.notification.service.alert.NewChatNotificationService;
 import com.example.backend.domain.notification.service.NotificationService;
+import com.example.backend.enums.VersionedResource;
+import com.example.backend.global.cache.ResourceVersionService;
 import com.example.backend.global.security.jwt.service.TokenService;
 import com.example.backend.domain.user.service.UserService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -42,6 +45,7 @@ public class NotificationController {
     private final NewChatNotificationService newChatNotificationService;
     private final UserService userService;
     private final NotificationRepository notificationRepository;
+    private final ResourceVersionService resourceVersionService;
 
     // 알림 생성
     @PostMapping
@@ -74,19 +78,25 @@ public class NotificationController {
     public ResponseEntity<NotificationPageResponseDTO> getNotifications(
             @RequestParam(required = false) NotificationType type,
             @RequestParam(required = false) Boolean unreadOnly,
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        Long userId = tokenService.getIdFromToken();
-        User user = userService.findById(userId);
-
-        NotificationPageResponseDTO notifications = notificationService.getNotifications(
-                user.getId(),
-                type,
-                unreadOnly,
-                pageable
-        );
-
-        return ResponseEntity.ok(notifications);
+        // 사용자 알림 버전 + 조회 조건이 같으면 조회 없이 304
+        String etag = resourceVersionService.weakETag(VersionedResource.NOTIFICATIONS,
+                ResourceVersionService.userScope(tokenService.getIdFromClaims()),
+                type + "|" + unreadOnly + "|" + pageable);
+
+        return resourceVersionService.conditionalGet(ifNoneMatch, etag, () -> {
+            Long userId = tokenService.getIdFromToken();
+            User user = userService.findById(userId);
+
+            return notificationService.getNotifications(
+                    user.getId(),
+                    type,
+                    unreadOnly,
+                    pageable
+            );
+        });
     }
 
 
@@ -5,9 +5,11 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 import com.example.backend.global.auditable.Auditable;
+import com.example.backend.global.cache.ResourceVersionEntityListener;
 import lombok.experimental.SuperBuilder;
 
 @Entity
+@EntityListeners(ResourceVersionEntityListener.class)
 @Table(name = "notifications")
 @Getter
 @Setter
@@ -5,11 +5,26 @@ import com.example.backend.domain.notification.entity.NotificationType;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 public class NotificationPolicy {
 
+    // 역할별 허용 알림 목록은 코드로 고정되어 있으므로 한 번만 만들어 재사용
+    private static final Map<RoleType, List<NotificationType>> ALLOWED_TYPES = new EnumMap<>(RoleType.class);
+
+    static {
+        for (RoleType role : RoleType.values()) {
+            ALLOWED_TYPES.put(role, List.copyOf(buildAllowedTypes(role)));
+        }
+    }
+
     public static List<NotificationType> getAllowedTypesByRole(RoleType role) {
+        return ALLOWED_TYPES.getOrDefault(role, Collections.emptyList());
+    }
+
+    private static List<NotificationType> buildAllowedTypes(RoleType role) {
         return switch (role) {
 //            case ADMIN -> Arrays.asList(
 //                    NotificationType.NEW_MANAGEMENT_DASHBOARD
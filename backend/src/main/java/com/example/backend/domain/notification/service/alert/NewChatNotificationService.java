@@ -1,5 +1,6 @@
 package com.example.backend.domain.notification.service.alert;
 
+import com.example.backend.domain.chat.presence.service.ChatPresenceService;
 import com.example.backend.domain.notification.dto.NotificationRequestDTO;
 import com.example.backend.domain.notification.entity.NotificationType;
 import com.example.backend.domain.notification.service.NotificationService;
@@ -21,9 +22,15 @@ public class NewChatNotificationService {
     private final NotificationStrategyFactory strategyFactory;
     private final NotificationService notificationService;
     private final UserService userService;
+    private final ChatPresenceService chatPresenceService;
 
     @Transactional
     public void notifyNewChat(Long targetId, Long roomId, RoleType role, String name, ChatRoomType chatRoomType) {
+        // 이미 채팅방을 보고 있는 유저에게는 알림을 저장하지 않음
+        if (chatPresenceService.isViewingRoom(roomId, targetId)) {
+            return;
+        }
+
         NotificationStrategy strategy = strategyFactory.getStrategy(NotificationType.NEW_CHAT);
 
         NewChatContext context = new NewChatContext(targetId, roomId, role, name, chatRoomType);
@@ -1,7 +1,10 @@
 package com.example.backend.domain.registerItem.service;
 
+import com.example.backend.domain.analysis.event.AnalysisCacheInvalidationPublisher;
+import com.example.backend.domain.analysis.service.InventoryAnalysisService;
 import com.example.backend.domain.category.entity.Category;
 import com.example.backend.domain.category.repository.CategoryRepository;
+import com.example.backend.domain.category.service.CategoryService;
 import com.example.backend.domain.registerItem.dto.request.PurchaseRequestDto;
 import com.example.backend.domain.registerItem.dto.request.UpdateRegisterItemDto;
 import com.example.backend.domain.registerItem.dto.response.RegisterItemResponseDto;
@@ -9,6 +12,7 @@ import com.example.backend.domain.registerItem.entity.RegisterItem;
 import com.example.backend.domain.registerItem.repository.RegisterItemRepository;
 import com.example.backend.domain.user.entity.User;
 import com.example.backend.domain.user.repository.UserRepository;
+import com.example.backend.enums.AnalysisCacheType;
 import com.example.backend.enums.Inbound;
 import com.example.backend.enums.Status;
 import com.example.backend.global.exception.BusinessLogicException;
@@ -46,10 +50,13 @@ public class RegisterItemService {
     private final ItemRepository itemRepository;
     private final ManagementDashboardRepository managementDashboardRepository;
     private final CategoryRepository categoryRepo;
+    private final CategoryService categoryService;
     private final RegisterItemRepository registerItemRepository;
     private final ItemInstanceService itemInstanceService;
     private final TokenService tokenService;
     private final UserRepository userRepository;
+    private final InventoryAnalysisService analysisService;
+    private final AnalysisCacheInvalidationPublisher cacheInvalidationPublisher;
 
 
     // 제품 구매 등록
@@ -112,6 +119,7 @@ public class RegisterItemService {
         Long qty = dto.getQuantity();
         item.setTotalQuantity(item.getTotalQuantity() + qty);
         item.setAvailableQuantity(item.getAvailableQuantity() + qty);
+        analysisService.applyItemQuantityDelta(item, qty);
         item.setPurchaseDate(LocalDateTime.now());
         item.setPurchaseSource(dto.getPurchaseSource());
         item.setLocation(dto.getLocation());
@@ -184,6 +192,8 @@ public class RegisterItemService {
                     .orElseThrow(() -> new BusinessLogicException(ExceptionCode.CATEGORY_NOT_FOUND));
             item.setCategory(category);
             item.getItem().setCategory(category);
+            cacheInvalidationPublisher.invalidate(item.getItem().getManagementDashboard().getId(), AnalysisCacheType.CATEGORY_SUMMARY);
+            categoryService.evictCategories(item.getItem().getManagementDashboard().getId());
         }
 
         if(dto.getQuantity()!=null){
@@ -199,6 +209,7 @@ public class RegisterItemService {
                     Item linkedItem = item.getItem();
                     linkedItem.setTotalQuantity(linkedItem.getTotalQuantity() + gap);
                     linkedItem.setAvailableQuantity(linkedItem.getAvailableQuantity() + gap);
+                    analysisService.applyItemQuantityDelta(linkedItem, gap);
 
                     if (gap < 0) {
                         int softDeleteCount = (int) Math.abs(gap);
@@ -212,6 +223,7 @@ public class RegisterItemService {
         if (dto.getItemName() != null) {
             item.getItem().setName(dto.getItemName());
             item.setItem(item.getItem());
+            cacheInvalidationPublisher.invalidate(item.getItem().getManagementDashboard().getId(), AnalysisCacheType.CATEGORY_SUMMARY);
         }
 
         if (dto.getPurchaseSource() != null) {
@@ -248,6 +260,7 @@ public class RegisterItemService {
         } else if (item.getInbound() == Inbound.RE_PURCHASE) { // 재 구매-> 아이템 엔티티 총 개수, 보유 개수 수정 , 아이템 인스턴스 삭제
             item.getItem().setTotalQuantity(item.getItem().getTotalQuantity() - item.getQuantity());
             item.getItem().setAvailableQuantity(item.getItem().getAvailableQuantity() - item.getQuantity());
+            analysisService.applyItemQuantityDelta(item.getItem(), -item.getQuantity());
 
             itemInstanceService.softDeleteInstances(item.getItem().getId());
         }
@@ -2,13 +2,17 @@ package com.example.backend.domain.role.service;
 
 
 import com.example.backend.enums.RoleType;
+import com.example.backend.global.cache.CacheNames;
 import com.example.backend.global.exception.BusinessLogicException;
 import com.example.backend.global.exception.ExceptionCode;
 import com.example.backend.domain.role.entity.Role;
 import com.example.backend.domain.role.repository.RoleRepository;
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -16,11 +20,24 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class RoleService {
     private final RoleRepository roleRepository;
+    private final CacheManager cacheManager;
 
+    // 역할은 거의 바뀌지 않으므로 ID만 캐시하고 엔티티는 참조로 반환 (알림 발송마다 호출됨)
+    // 엔티티를 캐시하면 영속성 컨텍스트 밖의 분리된 객체가 공유되므로 ID로 현재 트랜잭션의 참조를 만든다
     public Role findRoleByRoleType(RoleType roleType){
-        return roleRepository.findByRole(roleType).orElseThrow(
-                () -> new BusinessLogicException(ExceptionCode.ROLE_NOT_FOUND)
-        );
+        Long roleId;
+        try {
+            roleId = Objects.requireNonNull(cacheManager.getCache(CacheNames.ROLE_IDS))
+                    .get(roleType.name(), () -> roleRepository.findByRole(roleType)
+                            .map(Role::getId)
+                            .orElseThrow(() -> new BusinessLogicException(ExceptionCode.ROLE_NOT_FOUND)));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof BusinessLogicException businessLogicException) {
+                throw businessLogicException;
+            }
+            throw e;
+        }
+        return roleRepository.getReferenceById(roleId);
     }
 
     public List<Role> findRolesByRoleTypes(List<RoleType> roleTypes) {
@@ -9,6 +9,7 @@ import com.example.backend.global.exception.BusinessLogicException;
 import com.example.backend.domain.managementDashboard.dto.ManagementDashBoardResponseDto;
 import com.example.backend.domain.managementDashboard.service.ManagementDashboardService;
 import com.example.backend.domain.role.entity.Role;
+import com.example.backend.global.ratelimit.RateLimitService;
 import com.example.backend.global.security.jwt.service.TokenService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -30,6 +31,7 @@ public class AdminPageController {
     private final UserService userService;
     private final TokenService tokenService;
     private final ManagementDashboardService managementDashboardService;
+    private final RateLimitService rateLimitService;
 
 
     @GetMapping
@@ -55,9 +57,10 @@ public class AdminPageController {
 
     @PostMapping("/login")
     public String login(UserLoginRequestDto dto, RedirectAttributes redirectAttributes) {
+        rateLimitService.checkLogin(dto.getEmail());
         User user = userService.findByEmail(dto.getEmail());
         try{
-            userService.validPassword(dto.getPassword(), user.getPassword());
+            userService.authenticate(user, dto.getPassword());
         }catch (BusinessLogicException e){
             redirectAttributes.addAttribute("error", "true");
             return "redirect:/admin/login";
@@ -17,6 +17,7 @@ import com.example.backend.domain.user.entity.User;
 import com.example.backend.domain.user.service.UserService;
 import com.example.backend.domain.role.entity.Role;
 import com.example.backend.domain.user.sms.dto.PhoneVerificationRequest;
+import com.example.backend.global.ratelimit.RateLimitService;
 import com.example.backend.global.security.jwt.service.TokenService;
 import com.example.backend.domain.user.sms.dto.SmsRequestDto;
 import com.example.backend.domain.user.dto.response.UserProfileResponseDto;
@@ -47,6 +48,7 @@ public class UserController {
     private final UserService userService;
     private final TokenService tokenService;
     private final ManagementDashboardService managementDashboardService;
+    private final RateLimitService rateLimitService;
 
 
     @PostMapping("/signup")
@@ -397,6 +399,7 @@ public class UserController {
             description = "비밀번호를 업데이트 한 후 이메일로 결과를 반환"
     )
     public ResponseEntity<?> findPassword(@Valid @RequestBody EmailRequestDto emailRequestDto) {
+        rateLimitService.checkVerification(emailRequestDto.getEmail());
         // 비밀번호 찾기 로직을 수행하고, 해당 결과를 response로 반환
         userService.findPasswordByEmail(emailRequestDto.getEmail());
 
@@ -413,6 +416,7 @@ public class UserController {
             description = "사용자가 제공한 이메일 주소로 인증번호를 전송합니다. 인증번호는 이메일 인증을 위한 코드로 사용됩니다."
     )
     public ResponseEntity sendCertificationNumberMail(@Valid @RequestBody EmailRequestDto emailRequestDto) {
+        rateLimitService.checkVerification(emailRequestDto.getEmail());
         userService.sendCertificationNumber(emailRequestDto.getEmail());
         return new ResponseEntity<>(
                 ApiResponse.of(HttpStatus.OK.value(), "인증번호 이메일 전송 완료 "),
@@ -427,6 +431,7 @@ public class UserController {
     )
     public ResponseEntity sendCertificationNumberValid(
             @Valid @RequestBody EmailVerificationRequest emailVerificationRequest) {
+        rateLimitService.checkVerification(emailVerificationRequest.getEmail());
         userService.verifyEmailCode(emailVerificationRequest);
 
         return new ResponseEntity<>(
@@ -470,9 +475,10 @@ public class UserController {
             description = "로그인을 처리합니다."
     )
     public ResponseEntity login(@RequestBody UserLoginRequestDto userLoginRequestDto) {
+        rateLimitService.checkLogin(userLoginRequestDto.getEmail());
         User user = userService.findByEmail(userLoginRequestDto.getEmail());
         //비밀번호 일치하는지 확인
-        userService.validPassword(userLoginRequestDto.getPassword(), user.getPassword());
+        userService.authenticate(user, userLoginRequestDto.getPassword());
         tokenService.makeCookies(user);
 
         return new ResponseEntity<>("로그인 성공", HttpStatus.OK);
@@ -488,6 +494,7 @@ public class UserController {
         Role role = tokenService.getRoleFromToken();
         String name = role.getRole().name();
         log.info("역할 잘 들어오는지 확인 " + name);
+        tokenService.revokeRefreshToken();
         tokenService.deleteCookie("refreshToken");
         tokenService.deleteCookie("accessToken");
         return new ResponseEntity<>("로그아웃 성공", HttpStatus.OK);
@@ -0,0 +1,23 @@
+package com.example.backend.domain.user.dto.response;
+
+import com.example.backend.domain.user.entity.User;
+import com.example.backend.enums.ApprovalStatus;
+import com.example.backend.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 요청마다 확인하는 사용자 상태 (UserStatusCheckFilter 캐시용)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStatusDto {
+
+    private Status status;
+
+    private ApprovalStatus approvalStatus;
+
+    public static UserStatusDto fromEntity(User user) {
+        return new UserStatusDto(user.getStatus(), user.getApprovalStatus());
+    }
+}
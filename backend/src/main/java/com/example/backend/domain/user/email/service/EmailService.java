@@ -2,6 +2,7 @@ package com.example.backend.domain.user.email.service;
 
 import com.example.backend.domain.user.email.entity.EmailMessage;
 //import com.example.backend.redis.RedisService;
+import com.example.backend.global.redis.RedisKeyNamespace;
 import com.example.backend.global.redis.RedisService;
 import com.example.backend.global.utils.CreateRandomNumber;
 import jakarta.mail.MessagingException;
@@ -32,8 +33,6 @@ public class EmailService {
 
     private final SpringTemplateEngine templateEngine;
     private final RedisService redisService;
-    private static final String AUTH_CODE_PREFIX = "certification:email:";
-
 
 
     //임시 비밀번호 전송 메서드
@@ -66,7 +65,7 @@ public class EmailService {
         String certificationNumber = CreateRandomNumber.randomNumber();
 
         MimeMessage mimeMessage = mailSender.createMimeMessage();
-        redisService.saveData(AUTH_CODE_PREFIX + emailMessage.getTo(),
+        redisService.saveData(RedisKeyNamespace.EMAIL_AUTH_CODE.key(emailMessage.getTo()),
                 certificationNumber, Duration.ofMillis(this.authCodeExpirationMillis));
 
         try {
@@ -87,7 +86,7 @@ public class EmailService {
     }
 
     public boolean verifiedCode(String email, String authCode) {
-        String redisAuthCode = redisService.getData(AUTH_CODE_PREFIX + email);
+        String redisAuthCode = redisService.getData(RedisKeyNamespace.EMAIL_AUTH_CODE.key(email));
         return redisAuthCode != null && redisAuthCode.equals(authCode);
     }
 
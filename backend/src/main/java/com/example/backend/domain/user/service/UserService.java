@@ -17,13 +17,18 @@ import com.example.backend.domain.user.sms.dto.SmsRequestDto;
 import com.example.backend.enums.ApprovalStatus;
 import com.example.backend.enums.RoleType;
 import com.example.backend.enums.Status;
+import com.example.backend.enums.VersionedResource;
+import com.example.backend.global.cache.CacheNames;
 import com.example.backend.global.exception.BusinessLogicException;
 import com.example.backend.global.exception.ExceptionCode;
 import com.example.backend.domain.managementDashboard.entity.ManagementDashboard;
 import com.example.backend.domain.managementDashboard.repository.ManagementDashboardRepository;
 import com.example.backend.domain.role.service.RoleService;
 import com.example.backend.domain.role.entity.Role;
+import com.example.backend.global.cache.ResourceVersionService;
 import com.example.backend.global.security.jwt.service.TokenService;
+import com.example.backend.global.security.jwt.service.RefreshTokenService;
+import com.example.backend.global.security.jwt.service.TokenVersionService;
 import com.example.backend.domain.user.dto.request.AdminSignupRequestDto;
 import com.example.backend.domain.user.dto.request.EmailVerificationRequest;
 import com.example.backend.domain.user.dto.request.InitialManagerSignupRequestDto;
@@ -41,6 +46,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -69,6 +75,10 @@ public class UserService {
 
     private final PasswordEncoder passwordEncoder;
     private final TokenService tokenService;
+    private final UserStatusService userStatusService;
+    private final TokenVersionService tokenVersionService;
+    private final RefreshTokenService refreshTokenService;
+    private final ResourceVersionService resourceVersionService;
 
     private final ApplicationEventPublisher eventPublisher;
 
@@ -271,6 +281,7 @@ public class UserService {
         if (isAdmin()) {
             requestUser.setApprovalStatus(approvalStatus);
             userRepository.save(requestUser);
+            invalidateUserState(userId, approvalStatus == ApprovalStatus.REJECTED);
             return;
         }
 
@@ -288,10 +299,12 @@ public class UserService {
         // 상태 변경
         requestUser.setApprovalStatus(approvalStatus);
         userRepository.save(requestUser);
+        invalidateUserState(userId, approvalStatus == ApprovalStatus.REJECTED);
     }
 
     // 일반 회원 승인 처리
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.DEPARTMENTS, allEntries = true)
     public void approveUser(Long userId) {
 
         approveOrRejectUser(userId, ApprovalStatus.APPROVED);
@@ -303,6 +316,7 @@ public class UserService {
 
     // 일반 회원 거부 처리
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.DEPARTMENTS, allEntries = true)
     public void rejectUser(Long userId) {
 
         approveOrRejectUser(userId, ApprovalStatus.REJECTED);
@@ -322,6 +336,7 @@ public class UserService {
         if(isAdmin()){
             requestUser.setApprovalStatus(approvalStatus);
             userRepository.save(requestUser);
+            invalidateUserState(userId, approvalStatus == ApprovalStatus.REJECTED);
             return;
         }
 
@@ -340,6 +355,7 @@ public class UserService {
         // 승인 또는 거부 상태로 변경
         requestUser.setApprovalStatus(approvalStatus);
         userRepository.save(requestUser);
+        invalidateUserState(userId, approvalStatus == ApprovalStatus.REJECTED);
     }
 
     public boolean isInitialManagerValid(){
@@ -360,6 +376,7 @@ public class UserService {
     }
     // 매니저 승인 처리
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.DEPARTMENTS, allEntries = true)
     public void approveManager(Long userId) {
 
         approveOrRejectManager(userId, ApprovalStatus.APPROVED);
@@ -372,6 +389,7 @@ public class UserService {
 
     // 매니저 거부 처리
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.DEPARTMENTS, allEntries = true)
     public void rejectManager(Long userId) {
         approveOrRejectManager(userId, ApprovalStatus.REJECTED);
 
@@ -412,6 +430,7 @@ public class UserService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.DEPARTMENTS, allEntries = true)
     public User updateUserDepartment(Long departmentId){
         User user = findById(tokenService.getIdFromToken());
 
@@ -431,6 +450,8 @@ public class UserService {
         user.setDepartment(changeDepartment);
         userRepository.save(user);
         user.setModifiedAt(LocalDateTime.now());
+        tokenVersionService.bump(user.getId());
+        resourceVersionService.bump(VersionedResource.DEPARTMENTS, ResourceVersionService.GLOBAL_SCOPE);
 
         return userRepository.save(user);
     }
@@ -562,6 +583,7 @@ public class UserService {
 
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.DEPARTMENTS, allEntries = true)
     public void deleteUser(){
         User loginUser = findById(tokenService.getIdFromToken());
         //최초 매니저는 탈퇴 불가능
@@ -578,6 +600,7 @@ public class UserService {
         loginUser.setApprovalStatus(ApprovalStatus.REJECTED);
         loginUser.setModifiedAt(LocalDateTime.now());
         userRepository.save(loginUser);
+        invalidateUserState(loginUser.getId(), true);
     }
 
 
@@ -671,12 +694,14 @@ public class UserService {
 
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.DEPARTMENTS, allEntries = true)
     public void deleteUserById(Long userId){
         User user = findById(userId);
         user.setManagementDashboard(null);
         user.setDepartment(null);
         user.setApprovalStatus(ApprovalStatus.REJECTED);
         userRepository.save(user);
+        invalidateUserState(userId, true);
     }
 
     public User findByEmail(String email){
@@ -709,6 +734,17 @@ public class UserService {
     }
 
 
+    // 로그인 : 비밀번호 확인 후 해시 설정(접두사/cost)이 바뀌었으면 새 설정으로 다시 저장
+    @Transactional
+    public void authenticate(User user, String rawPassword) {
+        validPassword(rawPassword, user.getPassword());
+
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(rawPassword));
+            userRepository.save(user);
+        }
+    }
+
     public void validPassword(String dtoPassword, String userPassword) {
         if (!passwordEncoder.matches(dtoPassword, userPassword)) {
             throw new BusinessLogicException(ExceptionCode.INVALID_PASSWORD);  // 비밀번호 불일치시 예외 던지기
@@ -871,4 +907,16 @@ public class UserService {
         return user.getApprovalStatus() == ApprovalStatus.APPROVED;
     }
 
+    // 상태 캐시를 비우고 accessToken 버전을 올려서, 이전 토큰의 관리페이지/승인 상태 클레임을 더 이상 쓰지 않도록 함
+    // (부서 목록의 승인된 사용자 수도 바뀌므로 부서 목록 버전도 증가)
+    // 탈퇴/삭제/거절이면 refreshToken 패밀리도 모두 폐기해서 재발급으로 다시 들어오지 못하게 함
+    private void invalidateUserState(Long userId, boolean revokeSessions) {
+        userStatusService.evictUserStatus(userId);
+        tokenVersionService.bump(userId);
+        if (revokeSessions) {
+            refreshTokenService.revokeAll(userId);
+        }
+        resourceVersionService.bump(VersionedResource.DEPARTMENTS, ResourceVersionService.GLOBAL_SCOPE);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.example.backend.domain.user.service;
+
+import com.example.backend.domain.user.dto.response.UserStatusDto;
+import com.example.backend.domain.user.repository.UserRepository;
+import com.example.backend.global.cache.CacheNames;
+import com.example.backend.global.datasource.PrimaryReads;
+import com.example.backend.global.exception.BusinessLogicException;
+import com.example.backend.global.exception.ExceptionCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+// 사용자 정지/승인 상태 조회 (요청마다 DB를 조회하지 않도록 짧게 캐시)
+@Service
+@RequiredArgsConstructor
+public class UserStatusService {
+
+    private final UserRepository userRepository;
+
+    @Cacheable(cacheNames = CacheNames.USER_STATUS, key = "#userId")
+    public UserStatusDto getUserStatus(Long userId) {
+        // 캐시되는 값이므로 복제 지연 없이 주 DB에서 조회
+        return PrimaryReads.call(() -> userRepository.findById(userId))
+                .map(UserStatusDto::fromEntity)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+    }
+
+    // 상태 변경 시 호출 (트랜잭션 안이면 커밋 이후 삭제되고, 다른 서버의 로컬 캐시도 함께 비워짐)
+    @CacheEvict(cacheNames = CacheNames.USER_STATUS, key = "#userId")
+    public void evictUserStatus(Long userId) {
+    }
+}
@@ -3,6 +3,7 @@ package com.example.backend.domain.user.sms.controller;
 import com.example.backend.domain.user.sms.service.SmsService;
 import com.example.backend.domain.user.sms.dto.PhoneVerificationRequest;
 import com.example.backend.domain.user.sms.dto.SmsRequestDto;
+import com.example.backend.global.ratelimit.RateLimitService;
 import com.example.backend.global.utils.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,6 +24,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class SmsController {
 
     private final SmsService smsService;
+    private final RateLimitService rateLimitService;
 
     @PostMapping("/certificationNumber")
     @Operation(
@@ -30,7 +32,9 @@ public class SmsController {
             description = "사용자의 휴대폰 번호로 인증번호를 전송합니다."
     )
     public ResponseEntity sendCertificationNumberPhone(@Valid @RequestBody SmsRequestDto smsRequestDto) {
-        smsService.sendVerificationCode(smsRequestDto.getPhoneNumber().replaceAll("-", ""));
+        String phoneNumber = smsRequestDto.getPhoneNumber().replaceAll("-", "");
+        rateLimitService.checkVerification(phoneNumber);
+        smsService.sendVerificationCode(phoneNumber);
         return new ResponseEntity<>(
                 ApiResponse.of(HttpStatus.OK.value(), "핸드폰으로 인증번호 전송 완료 "),
                 HttpStatus.OK
@@ -45,7 +49,9 @@ public class SmsController {
             description = "사용자가 입력한 인증코드를 확인하여 핸드폰 인증을 진행합니다. 인증번호가 유효한 경우 인증이 완료됩니다."
     )
     public ResponseEntity phoneCertificationNumberValid(@Valid @RequestBody PhoneVerificationRequest phoneVerificationRequest) {
-        boolean valid = smsService.verifiedCode(phoneVerificationRequest.getPhoneNumber().replaceAll("-", ""), phoneVerificationRequest.getAuthCode());
+        String phoneNumber = phoneVerificationRequest.getPhoneNumber().replaceAll("-", "");
+        rateLimitService.checkVerification(phoneNumber);
+        boolean valid = smsService.verifiedCode(phoneNumber, phoneVerificationRequest.getAuthCode());
 
         if (valid) {
             return new ResponseEntity<>(
@@ -1,5 +1,6 @@
 package com.example.backend.domain.user.sms.service;
 
+import com.example.backend.global.redis.RedisKeyNamespace;
 import com.example.backend.global.redis.RedisService;
 import com.example.backend.global.utils.CreateRandomNumber;
 import jakarta.annotation.PostConstruct;
@@ -37,8 +38,6 @@ public class SmsService {
     @Value("${nurigo.auth-code-expiration-millis}")
     private long authNurigoCodeExpirationMillis;
 
-    private static final String AUTH_CODE_PREFIX = "certification:phone:";
-
     private DefaultMessageService messageService;
 
     @PostConstruct
@@ -49,7 +48,7 @@ public class SmsService {
         String code = CreateRandomNumber.randomNumberSix();
 
 
-        redisService.saveData(AUTH_CODE_PREFIX + phoneNumber,
+        redisService.saveData(RedisKeyNamespace.PHONE_AUTH_CODE.key(phoneNumber),
                 code, Duration.ofMillis(authNurigoCodeExpirationMillis));
 
         Message message = new Message();
@@ -69,7 +68,7 @@ public class SmsService {
     }
 
     public boolean verifiedCode(String phone, String authCode) {
-        String redisAuthCode = redisService.getData(AUTH_CODE_PREFIX + phone);
+        String redisAuthCode = redisService.getData(RedisKeyNamespace.PHONE_AUTH_CODE.key(phone));
         return redisAuthCode != null && redisAuthCode.equals(authCode);
     }
 
@@ -0,0 +1,7 @@
+package com.example.backend.enums;
+
+public enum AnalysisCacheType {
+    CATEGORY_SUMMARY, // 카테고리별 수량 및 종류 수
+    OUTBOUND_SUMMARY, // 개별자산 Outbound 상태별 개수
+    SNAPSHOT          // 대시보드 통합 스냅샷 (다른 캐시가 변경되면 함께 삭제)
+}
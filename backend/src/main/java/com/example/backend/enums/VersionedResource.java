@@ -0,0 +1,9 @@
+package com.example.backend.enums;
+
+// 조건부 GET(ETag)용 버전 카운터를 두는 목록 응답
+public enum VersionedResource {
+    ITEMS,         // 비품 전체 목록 (관리페이지 단위)
+    CATEGORIES,    // 카테고리 목록 (관리페이지 단위)
+    DEPARTMENTS,   // 부서 전체 목록 (전체 단위, 승인된 사용자 수 포함)
+    NOTIFICATIONS  // 알림 목록 (사용자 단위)
+}
@@ -0,0 +1,112 @@
+package com.example.backend.global.cache;
+
+import com.example.backend.domain.category.dto.response.CategoryResponseDTO;
+import com.example.backend.domain.department.dto.response.DepartmentResponseDTO;
+import com.example.backend.domain.managementDashboard.dto.ManagementDashBoardResponseDto;
+import com.example.backend.domain.user.dto.response.UserStatusDto;
+import com.example.backend.global.redis.RedisSerializers;
+import com.fasterxml.jackson.databind.JavaType;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    // 로컬 캐시는 서버 간 불일치 시간을 줄이기 위해 짧게 유지
+    @Value("${cache.local.ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    @Value("${cache.local.maximum-size:1000}")
+    private long localMaximumSize;
+
+    // 캐시별 Redis TTL
+    private static final Map<String, Duration> REDIS_TTLS = Map.of(
+            CacheNames.ROLE_IDS, Duration.ofHours(1),
+            CacheNames.CATEGORIES, Duration.ofMinutes(10),
+            CacheNames.DEPARTMENTS, Duration.ofMinutes(10),
+            CacheNames.MANAGEMENT_DASHBOARDS, Duration.ofMinutes(10),
+            CacheNames.USER_STATUS, Duration.ofSeconds(30)
+    );
+
+    // 기본 로컬 TTL(cache.local.ttl-seconds)보다 짧게 유지할 캐시
+    // 사용자 상태는 변경 시 바로 무효화하지만, 무효화 메시지를 놓쳐도 몇 초 안에 반영되도록 함
+    private static final Map<String, Duration> LOCAL_TTLS = Map.of(
+            CacheNames.USER_STATUS, Duration.ofSeconds(5)
+    );
+
+    // 캐시별 값 타입 (타입 정보 없이 JSON으로 저장)
+    private static final Map<String, JavaType> VALUE_TYPES = Map.of(
+            CacheNames.ROLE_IDS, RedisSerializers.typeOf(Long.class),
+            CacheNames.CATEGORIES, RedisSerializers.listOf(CategoryResponseDTO.class),
+            CacheNames.DEPARTMENTS, RedisSerializers.listOf(DepartmentResponseDTO.class),
+            CacheNames.MANAGEMENT_DASHBOARDS, RedisSerializers.typeOf(ManagementDashBoardResponseDto.class),
+            CacheNames.USER_STATUS, RedisSerializers.typeOf(UserStatusDto.class)
+    );
+
+    private static final Duration DEFAULT_REDIS_TTL = Duration.ofMinutes(10);
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationPublisher(stringRedisTemplate);
+    }
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     CacheInvalidationPublisher cacheInvalidationPublisher,
+                                     MeterRegistry meterRegistry) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(DEFAULT_REDIS_TTL)
+                .disableCachingNullValues()
+                .prefixCacheNameWith("cache:v2:")
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .withInitialCacheConfigurations(REDIS_TTLS.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, e -> defaults
+                                .entryTtl(e.getValue())
+                                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                                        RedisSerializers.typed(VALUE_TYPES.get(e.getKey())))))))
+                .build();
+        redisCacheManager.initializeCaches();
+
+        return new TwoTierCacheManager(
+                redisCacheManager,
+                cacheInvalidationPublisher,
+                meterRegistry,
+                REDIS_TTLS.keySet(),
+                Duration.ofSeconds(localTtlSeconds),
+                LOCAL_TTLS,
+                localMaximumSize
+        );
+    }
+
+    // 다른 서버의 변경 사항을 받아 로컬 캐시만 비움
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheManager cacheManager,
+                                                                            CacheInvalidationPublisher cacheInvalidationPublisher) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                new CacheInvalidationListener((TwoTierCacheManager) cacheManager, cacheInvalidationPublisher.getNodeId()),
+                new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.backend.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    private final TwoTierCacheManager cacheManager;
+    private final String nodeId;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + CacheInvalidationPublisher.DELIMITER, 3);
+        if (parts.length != 3) {
+            log.warn("잘못된 캐시 무효화 메시지: {}", body);
+            return;
+        }
+
+        // 자신이 보낸 메시지는 이미 반영됨
+        if (nodeId.equals(parts[0])) return;
+
+        cacheManager.evictLocal(parts[1], parts[2]);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.backend.global.cache;
+
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 로컬 캐시 무효화 메시지를 Redis Pub/Sub으로 전파.
+ * 메시지 형식 : {서버 ID}|{캐시 이름}|{키} (전체 삭제는 키 자리에 *)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+    public static final String ALL_KEYS = "*";
+    public static final String DELIMITER = "|";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(cacheName, key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(cacheName, ALL_KEYS);
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, nodeId + DELIMITER + cacheName + DELIMITER + key);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 서버의 로컬 캐시는 짧은 TTL 후 만료됨
+            log.warn("캐시 무효화 메시지 발행 실패 (cache={}, key={}): {}", cacheName, key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.backend.global.cache;
+
+// Spring Cache 이름 모음 (2단계 캐시: 로컬 + Redis)
+public final class CacheNames {
+
+    public static final String ROLE_IDS = "roleIds";
+    public static final String CATEGORIES = "categories";
+    public static final String DEPARTMENTS = "departments";
+    public static final String MANAGEMENT_DASHBOARDS = "managementDashboards";
+    public static final String USER_STATUS = "userStatus";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.backend.global.cache;
+
+import com.example.backend.domain.category.entity.Category;
+import com.example.backend.domain.department.entity.Department;
+import com.example.backend.domain.item.entity.Item;
+import com.example.backend.domain.notification.entity.Notification;
+import com.example.backend.enums.VersionedResource;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비품/카테고리/부서/알림이 저장·수정·삭제되면 해당 목록 응답 버전을 올린다.
+ * (수량 변경처럼 여러 서비스에서 일어나는 변경도 한 곳에서 반영)
+ */
+@Component
+@RequiredArgsConstructor
+public class ResourceVersionEntityListener {
+
+    private final ResourceVersionService resourceVersionService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Item item && item.getManagementDashboard() != null) {
+            // 카테고리 목록의 비품 수(itemCount)가 바뀔 수 있으므로 함께 변경
+            Long dashboardId = item.getManagementDashboard().getId();
+            resourceVersionService.bump(VersionedResource.ITEMS, dashboardId);
+            resourceVersionService.bump(VersionedResource.CATEGORIES, dashboardId);
+        } else if (entity instanceof Category category && category.getManagementDashboard() != null) {
+            // 비품 목록에 카테고리 이름이 포함되므로 함께 변경
+            Long dashboardId = category.getManagementDashboard().getId();
+            resourceVersionService.bump(VersionedResource.CATEGORIES, dashboardId);
+            resourceVersionService.bump(VersionedResource.ITEMS, dashboardId);
+        } else if (entity instanceof Department) {
+            resourceVersionService.bump(VersionedResource.DEPARTMENTS, ResourceVersionService.GLOBAL_SCOPE);
+        } else if (entity instanceof Notification notification && notification.getUser() != null) {
+            resourceVersionService.bump(VersionedResource.NOTIFICATIONS,
+                    ResourceVersionService.userScope(notification.getUser().getId()));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.backend.global.cache;
+
+import com.example.backend.enums.VersionedResource;
+import com.example.backend.global.datasource.PrimaryReads;
+import com.example.backend.global.redis.RedisKeyNamespace;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 목록 응답 버전 : resource_version:{범위} Hash (field = VersionedResource)
+ * 범위는 관리페이지 ID, 사용자("user:{ID}") 또는 전체("global").
+ * 데이터가 바뀌면 커밋 이후 버전을 올리고, 버전으로 만든 약한 ETag가 If-None-Match와 같으면
+ * 조회/직렬화 없이 304를 반환한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResourceVersionService {
+
+    public static final String GLOBAL_SCOPE = "global";
+
+    private static final Object PENDING_KEY = ResourceVersionService.class.getName() + ".PENDING";
+
+    // 버전이 없으면 현재 시각(ms)으로 시작 : Redis 데이터가 사라져도 이전에 내려준 ETag와 겹치지 않도록 함
+    // ARGV[1] = 현재 시각, ARGV[2] = 증가량 (0이면 조회만)
+    private static final DefaultRedisScript<Long> VERSION_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], ARGV[3]) == 0 then " +
+            "  redis.call('HSET', KEYS[1], ARGV[3], ARGV[1]) " +
+            "  return tonumber(ARGV[1]) " +
+            "end " +
+            "return redis.call('HINCRBY', KEYS[1], ARGV[3], ARGV[2])",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public static String userScope(Long userId) {
+        return "user:" + userId;
+    }
+
+    public long getVersion(VersionedResource resource, Object scope) {
+        Long version = stringRedisTemplate.execute(VERSION_SCRIPT, List.of(key(scope)),
+                String.valueOf(System.currentTimeMillis()), "0", resource.name());
+        return version == null ? 0L : version;
+    }
+
+    // 커밋 이후 버전 증가 (한 트랜잭션에서 여러 번 바뀌어도 한 번만 증가)
+    public void bump(VersionedResource resource, Object scope) {
+        String member = resource.name() + "|" + scope;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(member);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            Set<String> members = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, members);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    members.forEach(ResourceVersionService.this::increment);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                }
+            });
+            pending = members;
+        }
+        pending.add(member);
+    }
+
+    // variant : 같은 범위 안에서 응답을 바꾸는 요청 값 (페이지, 필터 등)
+    // Redis를 사용할 수 없으면 null (ETag 없이 200으로 응답)
+    public String weakETag(VersionedResource resource, Object scope, String variant) {
+        long version;
+        try {
+            version = getVersion(resource, scope);
+        } catch (DataAccessException e) {
+            log.warn("응답 버전 조회 실패, ETag 없이 응답합니다. ({} {}): {}", resource, scope, e.getMessage());
+            return null;
+        }
+        String tag = resource.name().toLowerCase() + "-" + scope + "-" + version;
+        if (variant != null && !variant.isEmpty()) {
+            tag += "-" + DigestUtils.md5DigestAsHex(variant.getBytes(StandardCharsets.UTF_8)).substring(0, 8);
+        }
+        return "W/\"" + tag.replace(':', '_') + "\"";
+    }
+
+    // If-None-Match가 현재 ETag와 같으면 304, 아니면 body를 만들어 200으로 응답
+    public <T> ResponseEntity<T> conditionalGet(String ifNoneMatch, String etag, Supplier<T> body) {
+        if (etag == null) {
+            return ResponseEntity.ok(body.get());
+        }
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        // 커밋 직후 올라간 버전의 ETag로 이전 데이터가 캐시되지 않도록 주 DB에서 조회
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(PrimaryReads.call(body));
+    }
+
+    // 약한 비교 (W/ 접두사 무시, 여러 값 또는 * 허용), 버전 기반이 아닌 ETag 응답에서도 사용
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String expected = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || stripWeak(value).equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private void increment(String member) {
+        int separator = member.indexOf('|');
+        String resource = member.substring(0, separator);
+        String scope = member.substring(separator + 1);
+        try {
+            stringRedisTemplate.execute(VERSION_SCRIPT, List.of(key(scope)),
+                    String.valueOf(System.currentTimeMillis()), "1", resource);
+        } catch (Exception e) {
+            log.warn("응답 버전 갱신 실패 ({} {}): {}", resource, scope, e.getMessage());
+        }
+    }
+
+    private String key(Object scope) {
+        return RedisKeyNamespace.RESOURCE_VERSION.key(scope);
+    }
+}
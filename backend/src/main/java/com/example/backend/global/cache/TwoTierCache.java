@@ -0,0 +1,149 @@
+package com.example.backend.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Callable;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.cache.RedisCache;
+
+/**
+ * 로컬(Caffeine) 캐시를 Redis 캐시 앞에 두는 2단계 캐시.
+ * 조회는 로컬 → Redis → DB 순서, 변경/삭제는 Redis 반영 후 다른 서버의 로컬 캐시를 Pub/Sub으로 무효화한다.
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> localCache;
+    private final RedisCache redisCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final Counter localHit;
+    private final Counter remoteHit;
+    private final Counter miss;
+
+    public TwoTierCache(String name,
+                        Cache<String, Object> localCache,
+                        RedisCache redisCache,
+                        CacheInvalidationPublisher invalidationPublisher,
+                        MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.localHit = counter(meterRegistry, name, "local_hit");
+        this.remoteHit = counter(meterRegistry, name, "remote_hit");
+        this.miss = counter(meterRegistry, name, "miss");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String cacheName, String result) {
+        return Counter.builder("cache.two_tier.gets")
+                .description("2단계 캐시 조회 결과")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = toLocalKey(key);
+        Object local = localCache.getIfPresent(localKey);
+        if (local != null) {
+            localHit.increment();
+            return local;
+        }
+
+        Object remote = lookupRemote(key);
+        if (remote != null) {
+            remoteHit.increment();
+            localCache.put(localKey, remote);
+            return remote;
+        }
+
+        miss.increment();
+        return null;
+    }
+
+    // 같은 서버 안에서는 키마다 한 번만 로드
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        Object local = localCache.getIfPresent(localKey);
+        if (local != null) {
+            localHit.increment();
+            return (T) fromStoreValue(local);
+        }
+
+        return (T) fromStoreValue(localCache.get(localKey, k -> {
+            Object remote = lookupRemote(key);
+            if (remote != null) {
+                remoteHit.increment();
+                return remote;
+            }
+
+            miss.increment();
+            Object loaded;
+            try {
+                loaded = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            Object storeValue = toStoreValue(loaded);
+            redisCache.put(key, storeValue);
+            return storeValue;
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        redisCache.put(key, storeValue);
+        localCache.put(toLocalKey(key), storeValue);
+        invalidationPublisher.publishEvict(name, toLocalKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        localCache.invalidate(toLocalKey(key));
+        invalidationPublisher.publishEvict(name, toLocalKey(key));
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    // 다른 서버에서 온 무효화 메시지 처리 (Redis는 이미 반영됨)
+    public void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    private Object lookupRemote(Object key) {
+        ValueWrapper wrapper = redisCache.get(key);
+        return wrapper != null ? wrapper.get() : null;
+    }
+
+    // Pub/Sub 메시지로도 같은 키를 가리킬 수 있도록 로컬 키는 문자열로 통일
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
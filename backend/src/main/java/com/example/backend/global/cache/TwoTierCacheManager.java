@@ -0,0 +1,89 @@
+package com.example.backend.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+/**
+ * TwoTierCache를 만드는 CacheManager.
+ * 트랜잭션 안에서의 put/evict는 커밋 이후에 반영된다.
+ */
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final RedisCacheManager redisCacheManager;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Collection<String> cacheNames;
+    private final Duration localTtl;
+    private final Map<String, Duration> localTtlOverrides;
+    private final long localMaximumSize;
+
+    public TwoTierCacheManager(RedisCacheManager redisCacheManager,
+                               CacheInvalidationPublisher invalidationPublisher,
+                               MeterRegistry meterRegistry,
+                               Collection<String> cacheNames,
+                               Duration localTtl,
+                               Map<String, Duration> localTtlOverrides,
+                               long localMaximumSize) {
+        this.redisCacheManager = redisCacheManager;
+        this.invalidationPublisher = invalidationPublisher;
+        this.meterRegistry = meterRegistry;
+        this.cacheNames = cacheNames;
+        this.localTtl = localTtl;
+        this.localTtlOverrides = localTtlOverrides;
+        this.localMaximumSize = localMaximumSize;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return cacheNames.stream()
+                .map(this::createTwoTierCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createTwoTierCache(name);
+    }
+
+    // 다른 서버에서 온 무효화 메시지 반영
+    public void evictLocal(String cacheName, String key) {
+        TwoTierCache cache = findTwoTierCache(cacheName);
+        if (cache == null) return;
+
+        if (CacheInvalidationPublisher.ALL_KEYS.equals(key)) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+
+    private TwoTierCache findTwoTierCache(String cacheName) {
+        Cache cache = lookupCache(cacheName);
+        if (cache == null) return null;
+
+        // 트랜잭션 데코레이터로 감싸져 있으면 꺼내서 사용
+        Object nativeCache = cache.getNativeCache();
+        return nativeCache instanceof TwoTierCache twoTierCache ? twoTierCache : null;
+    }
+
+    private TwoTierCache createTwoTierCache(String name) {
+        return new TwoTierCache(
+                name,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(localTtlOverrides.getOrDefault(name, localTtl))
+                        .maximumSize(localMaximumSize)
+                        .build(),
+                (RedisCache) redisCacheManager.getCache(name),
+                invalidationPublisher,
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.backend.global.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import org.springframework.data.domain.Page;
+
+/**
+ * Page 응답 직렬화.
+ * 기본 PageImpl 직렬화는 pageable/sort 메타데이터를 중복해서 내보내므로,
+ * 화면에서 쓰는 필드(content, number, size, totalElements, totalPages, numberOfElements, first, last, empty)만 남긴다.
+ */
+public class CompactPageSerializer extends StdSerializer<Page<?>> {
+
+    @SuppressWarnings("unchecked")
+    public CompactPageSerializer() {
+        super((Class<Page<?>>) (Class<?>) Page.class);
+    }
+
+    @Override
+    public void serialize(Page<?> page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName("content");
+        provider.defaultSerializeValue(page.getContent(), gen);
+        gen.writeNumberField("number", page.getNumber());
+        gen.writeNumberField("size", page.getSize());
+        gen.writeNumberField("totalElements", page.getTotalElements());
+        gen.writeNumberField("totalPages", page.getTotalPages());
+        gen.writeNumberField("numberOfElements", page.getNumberOfElements());
+        gen.writeBooleanField("first", page.isFirst());
+        gen.writeBooleanField("last", page.isLast());
+        gen.writeBooleanField("empty", page.isEmpty());
+        gen.writeEndObject();
+    }
+}
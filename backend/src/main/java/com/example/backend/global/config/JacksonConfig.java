@@ -0,0 +1,27 @@
+package com.example.backend.global.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * HTTP 응답용 ObjectMapper 모듈 (Spring Boot가 Module 빈을 자동 등록).
+ * 품목 전체 목록처럼 수천 건을 내보내는 응답의 직렬화 비용과 크기를 줄인다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    // getter 호출을 리플렉션 대신 생성된 람다로 처리 (JDK 11+ 에서는 Afterburner 대신 Blackbird)
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // Page 응답에서 중복되는 pageable/sort 메타데이터 제거
+    @Bean
+    public Module compactPageModule() {
+        return new SimpleModule("CompactPageModule").addSerializer(new CompactPageSerializer());
+    }
+}
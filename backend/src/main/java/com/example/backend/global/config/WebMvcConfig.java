@@ -0,0 +1,20 @@
+package com.example.backend.global.config;
+
+import com.example.backend.global.ratelimit.TenantRateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final TenantRateLimitInterceptor tenantRateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(tenantRateLimitInterceptor)
+                .addPathPatterns("/api/v1/**");
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.backend.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커넥션 풀 포화도 (사용 중 커넥션 / 최대 풀 크기, 풀별).
+ * hikaricp.connections.pending 과 함께 보면 풀 크기가 부족한지, DB 자체가 느린지 구분할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HikariPoolSaturationMetrics implements MeterBinder {
+
+    private final ObjectProvider<HikariDataSource> dataSources;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // 복제본 라우팅을 쓰면 primary/replica 두 풀, 아니면 Spring Boot 기본 풀 하나
+        dataSources.orderedStream().forEach(dataSource ->
+                Gauge.builder("hikaricp.connections.saturation", dataSource, HikariPoolSaturationMetrics::saturation)
+                        .tag("pool", Objects.requireNonNullElse(dataSource.getPoolName(), "default"))
+                        .description("active connections / maximum pool size")
+                        .register(registry));
+    }
+
+    // 풀이 아직 시작되지 않았으면 0
+    private static double saturation(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0;
+        }
+        return (double) pool.getActiveConnections() / dataSource.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.backend.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이라도 주 DB에서 조회해야 하는 구간 (복제본 라우팅을 쓰지 않으면 아무 효과 없음).
+ * 커밋 직후의 데이터로 캐시/ETag 응답을 채우는 조회는 복제 지연으로 이전 값이 캐시되지 않도록 이 안에서 실행한다.
+ * 커넥션을 처음 얻는 시점에 적용되므로, 이미 복제본 커넥션을 쓰고 있는 트랜잭션 안에서는 효과가 없다.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Integer> DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> query) {
+        DEPTH.set(DEPTH.get() + 1);
+        try {
+            return query.get();
+        } finally {
+            int depth = DEPTH.get() - 1;
+            if (depth == 0) {
+                DEPTH.remove();
+            } else {
+                DEPTH.set(depth);
+            }
+        }
+    }
+
+    public static void run(Runnable query) {
+        call(() -> {
+            query.run();
+            return null;
+        });
+    }
+
+    public static boolean isActive() {
+        return DEPTH.get() > 0;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.backend.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import java.util.Properties;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * 읽기 복제본 라우팅 (spring.datasource.replica.url 이 있을 때만 사용, 없으면 Spring Boot 기본 단일 풀).
+ * 커넥션을 첫 쿼리 시점까지 미루고, 그 전에 readOnly 로 표시된 커넥션(@Transactional(readOnly = true))은 복제본 풀에서 꺼낸다.
+ * 복제 지연이 있으므로 방금 쓴 데이터를 바로 다시 읽어야 하는 흐름은 쓰기 트랜잭션 안에서 조회하고,
+ * 캐시를 채우는 조회는 PrimaryReads 안에서 실행해 readOnly 라도 주 풀을 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class ReadReplicaDataSourceConfig {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    // Spring Boot 기본 설정과 같은 방식으로 spring.datasource / spring.datasource.hikari 바인딩
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // 주 풀 설정(드라이버 속성, 타임아웃 등)을 물려받고 spring.datasource.replica.hikari 로 덮어씀
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                              @Value("${spring.datasource.replica.url}") String url,
+                                              @Value("${spring.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${spring.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource replica = new HikariDataSource();
+        primaryDataSource.copyStateTo(replica);
+
+        Properties dataSourceProperties = new Properties();
+        dataSourceProperties.putAll(primaryDataSource.getDataSourceProperties());
+        replica.setDataSourceProperties(dataSourceProperties);
+
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(url);
+        replica.setUsername(username);
+        replica.setPassword(password);
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") HikariDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readOnlyRouting(primaryDataSource, replicaDataSource));
+        return dataSource;
+    }
+
+    // readOnly 커넥션 : PrimaryReads 안이면 주 풀, 아니면 복제본 풀
+    static DataSource readOnlyRouting(DataSource primaryDataSource, DataSource replicaDataSource) {
+        AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return PrimaryReads.isActive() ? PRIMARY : REPLICA;
+            }
+        };
+        routing.setTargetDataSources(Map.of(PRIMARY, primaryDataSource, REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(replicaDataSource);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+}
@@ -31,6 +31,7 @@ public enum ExceptionCode {
     CHAT_ROOM_FOUND(404,"존재하지 않는 채팅방입니다."),
     NOT_ENTER_CHAT_ROOM(404,"참여중인 채팅방이 아닙니다."),
     ALREADY_ENTER_CHAT_ROOM(403,"이미 채팅방에 입장했습니다."),
+    CHAT_ROOM_ALREADY_EXISTS(409,"이미 존재하는 채팅방입니다. 다시 시도해주세요."),
     FILTER_ACCESS_DENIED(403, "접근이 거부되었습니다. 권한이 부족합니다."),
 
     //유저 예외 처리
@@ -48,6 +49,7 @@ public enum ExceptionCode {
     ALREADY_HAS_EMAIL(409,"이미 존재하는 이메일입니다."),
     ALREADY_HAS_PHONE_NUMBER(409,"이미 존재하는 전화번호입니다."),
     INVALID_REFRESH_TOKEN(401, "유효하지 않은 리프레시 토큰입니다. 다시 로그인해주세요."),
+    STALE_ACCESS_TOKEN(401, "사용자 정보가 변경되었습니다. 토큰을 재발급받은 뒤 다시 연결해주세요."),
 
     //S3 예외 처리
     S3_DELETE_ERROR(404, "이미지를 삭제할 수 없습니다."),
@@ -74,6 +76,10 @@ public enum ExceptionCode {
     NOTIFICATION_DENIED_EXCEPTION(403, "다른 사용자의 알림은 조회할 수 없습니다."),
     NOTIFICATION_NOT_FOUND(404, "알림을 찾을 수 없습니다."),
 
+    // 분석 예외 처리
+    INVALID_USAGE_WINDOW(400, "사용 빈도 조회 기간은 1일 이상 90일 이하만 가능합니다."),
+    ANALYSIS_REBUILD_IN_PROGRESS(409, "이미 재생성 작업이 진행 중입니다. 잠시 후 다시 시도해주세요."),
+
     ;
 
     @Getter
@@ -0,0 +1,37 @@
+package com.example.backend.global.ratelimit;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 관리페이지/사용자 단위 요청 제한 그룹. 위에서부터 처음 일치하는 그룹의 버킷을 사용한다.
+ * 엑셀 내보내기, 분석, 검색, 전체 목록처럼 DB 부담이 큰 요청은 일반 요청과 다른 버킷을 사용해서
+ * 한 관리페이지의 무거운 요청이 다른 관리페이지의 DB 커넥션을 차지하지 않도록 한다.
+ */
+@Getter
+public enum ApiRateLimitGroup {
+
+    EXPORT("export", RateLimitPolicy.TENANT_EXPORT, RateLimitPolicy.USER_EXPORT,
+            List.of("/api/v1/export/**", "/api/v1/inventory-out/export", "/api/v1/inventory-out/me/export")),
+    ANALYSIS("analysis", RateLimitPolicy.TENANT_ANALYSIS, RateLimitPolicy.USER_ANALYSIS,
+            List.of("/api/v1/analysis/**")),
+    SEARCH("search", RateLimitPolicy.TENANT_SEARCH, RateLimitPolicy.USER_SEARCH,
+            List.of("/api/v1/search/**")),
+    BULK("bulk", RateLimitPolicy.TENANT_BULK, RateLimitPolicy.USER_BULK,
+            List.of("/api/v1/items/all")),
+    DEFAULT("default", RateLimitPolicy.TENANT_DEFAULT, RateLimitPolicy.USER_DEFAULT,
+            List.of("/api/v1/**"));
+
+    private final String name;
+    private final RateLimitPolicy tenantPolicy;
+    private final RateLimitPolicy userPolicy;
+    private final List<String> pathPatterns;
+
+    ApiRateLimitGroup(String name, RateLimitPolicy tenantPolicy, RateLimitPolicy userPolicy,
+                      List<String> pathPatterns) {
+        this.name = name;
+        this.tenantPolicy = tenantPolicy;
+        this.userPolicy = userPolicy;
+        this.pathPatterns = pathPatterns;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.backend.global.ratelimit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 429 Too Many Requests + Retry-After(초) 헤더로 응답
+ */
+public class RateLimitExceededException extends ResponseStatusException {
+
+    // 토큰이 부족했던 버킷의 정책
+    private final RateLimitPolicy policy;
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(RateLimitPolicy policy, long retryAfterSeconds) {
+        super(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.");
+        this.policy = policy;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public RateLimitPolicy getPolicy() {
+        return policy;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return headers;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.backend.global.ratelimit;
+
+import lombok.Getter;
+
+/**
+ * 토큰 버킷 정책 : capacity 만큼 연속 요청을 허용하고, 분당 refillPerMinute 개씩 다시 채운다.
+ */
+@Getter
+public enum RateLimitPolicy {
+
+    // 로그인 : IP 단위는 여러 사용자가 같은 NAT 뒤에 있을 수 있어 넉넉하게, 계정 단위는 무차별 대입을 막도록 작게
+    LOGIN_IP("login_ip", 30, 30),
+    LOGIN_ACCOUNT("login_account", 10, 5),
+
+    // 이메일/SMS 인증번호 발송 및 확인
+    VERIFICATION_IP("verification_ip", 20, 10),
+    VERIFICATION_TARGET("verification_target", 5, 2),
+
+    // 관리페이지(테넌트)/사용자 단위 API 요청 (ApiRateLimitGroup 별로 버킷을 따로 사용)
+    TENANT_DEFAULT("tenant_default", 600, 1200),
+    USER_DEFAULT("user_default", 120, 240),
+    TENANT_EXPORT("tenant_export", 10, 10),
+    USER_EXPORT("user_export", 3, 5),
+    TENANT_ANALYSIS("tenant_analysis", 60, 120),
+    USER_ANALYSIS("user_analysis", 20, 40),
+    TENANT_SEARCH("tenant_search", 120, 240),
+    USER_SEARCH("user_search", 30, 60),
+    TENANT_BULK("tenant_bulk", 30, 60),
+    USER_BULK("user_bulk", 10, 20);
+
+    private final String name;
+    private final long capacity;
+    private final long refillPerMinute;
+
+    RateLimitPolicy(String name, long capacity, long refillPerMinute) {
+        this.name = name;
+        this.capacity = capacity;
+        this.refillPerMinute = refillPerMinute;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.backend.global.ratelimit;
+
+import com.example.backend.global.redis.RedisKeyNamespace;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis 토큰 버킷 : rate_limit:{정책}:{식별자} Hash (tokens, ts)
+ * 버킷 계산과 차감을 Lua 스크립트로 한 번에 처리하고(함께 확인하는 버킷은 모두 남아 있을 때만 차감), 시각은 Redis TIME을 사용해서 서버 간 시계 차이의 영향을 받지 않는다.
+ * Redis 장애 시에는 요청을 막지 않는다.
+ */
+@Service
+@Slf4j
+public class RateLimitService {
+
+    // 여러 버킷(KEYS)을 한 번에 확인해서 모두 남아 있을 때만 함께 차감, 하나라도 부족하면 어느 버킷도 차감하지 않음
+    // ARGV = 소비량, 이후 버킷마다 용량/ms당 충전량 / 반환 = {처음 부족한 버킷 번호(1부터, 허용이면 0), 재시도까지 남은 ms}
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local requested = tonumber(ARGV[1]) " +
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "local tokens = {} " +
+            "local rejected = 0 " +
+            "local retryAfter = 0 " +
+            "for i = 1, #KEYS do " +
+            "  local capacity = tonumber(ARGV[i * 2]) " +
+            "  local rate = tonumber(ARGV[i * 2 + 1]) " +
+            "  local bucket = redis.call('HMGET', KEYS[i], 'tokens', 'ts') " +
+            "  local ts = tonumber(bucket[2]) or now " +
+            "  tokens[i] = math.min(capacity, (tonumber(bucket[1]) or capacity) + math.max(0, now - ts) * rate) " +
+            "  if tokens[i] < requested then " +
+            "    if rejected == 0 then rejected = i end " +
+            "    retryAfter = math.max(retryAfter, math.ceil((requested - tokens[i]) / rate)) " +
+            "  end " +
+            "end " +
+            "if rejected == 0 then " +
+            "  for i = 1, #KEYS do " +
+            "    redis.call('HSET', KEYS[i], 'tokens', tostring(tokens[i] - requested), 'ts', tostring(now)) " +
+            "    redis.call('PEXPIRE', KEYS[i], math.ceil(tonumber(ARGV[i * 2]) / tonumber(ARGV[i * 2 + 1]))) " +
+            "  end " +
+            "end " +
+            "return {rejected, retryAfter}",
+            List.class
+    );
+
+    private static final String ALLOWED = "allowed";
+    private static final String REJECTED = "rejected";
+    private static final String ERROR = "error";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final HttpServletRequest httpServletRequest;
+    // 정책/결과별 카운터는 시작 시 한 번만 등록
+    private final Map<RateLimitPolicy, Map<String, Counter>> requestCounters = new EnumMap<>(RateLimitPolicy.class);
+
+    public RateLimitService(StringRedisTemplate stringRedisTemplate,
+                            HttpServletRequest httpServletRequest,
+                            MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.httpServletRequest = httpServletRequest;
+        for (RateLimitPolicy policy : RateLimitPolicy.values()) {
+            Map<String, Counter> byResult = new HashMap<>();
+            for (String result : List.of(ALLOWED, REJECTED, ERROR)) {
+                byResult.put(result, Counter.builder("rate_limit.requests")
+                        .description("요청 제한 확인 결과")
+                        .tag("policy", policy.getName())
+                        .tag("result", result)
+                        .register(meterRegistry));
+            }
+            requestCounters.put(policy, byResult);
+        }
+    }
+
+    // 확인할 버킷 (정책 + 식별자)
+    public record Bucket(RateLimitPolicy policy, String identifier) {
+    }
+
+    // 로그인 : IP와 계정(이메일) 버킷을 모두 확인
+    public void checkLogin(String email) {
+        checkWithTarget(RateLimitPolicy.LOGIN_IP, RateLimitPolicy.LOGIN_ACCOUNT, email);
+    }
+
+    // 인증번호 발송/확인 : IP와 대상(이메일/전화번호) 버킷을 모두 확인
+    public void checkVerification(String target) {
+        checkWithTarget(RateLimitPolicy.VERIFICATION_IP, RateLimitPolicy.VERIFICATION_TARGET, target);
+    }
+
+    private void checkWithTarget(RateLimitPolicy ipPolicy, RateLimitPolicy targetPolicy, String target) {
+        List<Bucket> buckets = new ArrayList<>();
+        buckets.add(new Bucket(ipPolicy, clientIp()));
+        if (target != null) {
+            buckets.add(new Bucket(targetPolicy, target.toLowerCase(Locale.ROOT)));
+        }
+        consume(buckets);
+    }
+
+    // 토큰 1개 소비, 부족하면 RateLimitExceededException(429)
+    public void consume(RateLimitPolicy policy, String identifier) {
+        consume(List.of(new Bucket(policy, identifier)));
+    }
+
+    // 모든 버킷에서 토큰 1개씩 소비 (Redis 왕복 한 번), 하나라도 부족하면 어느 버킷도 차감하지 않고 429
+    public void consume(List<Bucket> buckets) {
+        List<String> keys = new ArrayList<>(buckets.size());
+        List<String> args = new ArrayList<>(buckets.size() * 2 + 1);
+        args.add("1");
+        for (Bucket bucket : buckets) {
+            keys.add(RedisKeyNamespace.RATE_LIMIT.key(bucket.policy().getName() + ":" + bucket.identifier()));
+            args.add(String.valueOf(bucket.policy().getCapacity()));
+            args.add(String.valueOf(bucket.policy().getRefillPerMinute() / 60_000.0));
+        }
+
+        List<?> result;
+        try {
+            result = stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, keys, args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("요청 제한 확인 실패, 요청 허용 (buckets={}): {}", keys, e.getMessage());
+            buckets.forEach(bucket -> record(bucket.policy(), ERROR));
+            return;
+        }
+
+        int rejected = result == null || result.size() < 2 ? 0 : ((Number) result.get(0)).intValue();
+        if (rejected == 0) {
+            buckets.forEach(bucket -> record(bucket.policy(), ALLOWED));
+            return;
+        }
+
+        RateLimitPolicy rejectedPolicy = buckets.get(rejected - 1).policy();
+        record(rejectedPolicy, REJECTED);
+        long retryAfterMillis = ((Number) result.get(1)).longValue();
+        throw new RateLimitExceededException(rejectedPolicy, Math.max(1L, (retryAfterMillis + 999) / 1000));
+    }
+
+    private void record(RateLimitPolicy policy, String result) {
+        requestCounters.get(policy).get(result).increment();
+    }
+
+    // 프록시(nginx-proxy-manager) 뒤에서는 Tomcat RemoteIpValve가 신뢰하는 프록시의 X-Forwarded-For로 바꿔 둔 주소
+    // (server.forward-headers-strategy, server.tomcat.remoteip.internal-proxies 참고)
+    private String clientIp() {
+        return httpServletRequest.getRemoteAddr();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.backend.global.ratelimit;
+
+import com.example.backend.global.security.jwt.util.JwtTokenizer;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 인증된 요청을 관리페이지(accessToken의 dashboardId 클레임)와 사용자 단위 토큰 버킷으로 제한한다.
+ * JwtAuthenticationFilter가 보관한 Claims를 사용하므로 추가 파싱/DB 조회는 없고,
+ * 비로그인 요청(로그인/인증번호 등)은 RateLimitService의 IP/대상 제한을 따로 사용한다.
+ */
+@Slf4j
+@Component
+public class TenantRateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimitService rateLimitService;
+    private final JwtTokenizer jwtTokenizer;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    // 그룹/버킷(user, tenant)별 거절 수, 관리페이지별 값은 태그로 두지 않음 (관리페이지 수만큼 시계열이 늘어나지 않도록)
+    private final Map<String, Counter> throttledCounters = new HashMap<>();
+
+    public TenantRateLimitInterceptor(RateLimitService rateLimitService, JwtTokenizer jwtTokenizer,
+                                      MeterRegistry meterRegistry) {
+        this.rateLimitService = rateLimitService;
+        this.jwtTokenizer = jwtTokenizer;
+        for (ApiRateLimitGroup group : ApiRateLimitGroup.values()) {
+            throttledCounters.put(group.getUserPolicy().getName(), throttledCounter(meterRegistry, group, "user"));
+            throttledCounters.put(group.getTenantPolicy().getName(), throttledCounter(meterRegistry, group, "tenant"));
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(request.getAttribute(JwtTokenizer.CLAIMS_ATTRIBUTE) instanceof Claims claims)) {
+            return true;
+        }
+
+        ApiRateLimitGroup group = resolveGroup(request.getRequestURI());
+        Long dashboardId = jwtTokenizer.getDashboardId(claims);
+
+        // 사용자/관리페이지 버킷을 한 번에 확인해서 둘 다 남아 있을 때만 차감
+        // (한 사용자의 과도한 요청이 관리페이지 버킷을 소진하지 않고, 관리페이지 제한에 걸린 요청이 사용자 버킷을 소진하지 않음)
+        List<RateLimitService.Bucket> buckets = new ArrayList<>(2);
+        buckets.add(new RateLimitService.Bucket(group.getUserPolicy(), String.valueOf(jwtTokenizer.getUserId(claims))));
+        if (dashboardId != null) {
+            buckets.add(new RateLimitService.Bucket(group.getTenantPolicy(), String.valueOf(dashboardId)));
+        }
+
+        try {
+            rateLimitService.consume(buckets);
+        } catch (RateLimitExceededException e) {
+            throttledCounters.get(e.getPolicy().getName()).increment();
+            log.debug("요청 제한 (dashboard={}, policy={})", dashboardId, e.getPolicy().getName());
+            throw e;
+        }
+        return true;
+    }
+
+    private ApiRateLimitGroup resolveGroup(String path) {
+        for (ApiRateLimitGroup group : ApiRateLimitGroup.values()) {
+            for (String pattern : group.getPathPatterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return group;
+                }
+            }
+        }
+        return ApiRateLimitGroup.DEFAULT;
+    }
+
+    private static Counter throttledCounter(MeterRegistry meterRegistry, ApiRateLimitGroup group, String bucket) {
+        return Counter.builder("rate_limit.tenant.throttled")
+                .description("관리페이지/사용자 단위 요청 제한으로 거절된 요청 수")
+                .tag("group", group.getName())
+                .tag("bucket", bucket)
+                .register(meterRegistry);
+    }
+}
@@ -3,7 +3,9 @@ package com.example.backend.global.redis;
 import com.example.backend.domain.analysis.service.InventoryAnalysisService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -13,10 +15,17 @@ import org.springframework.web.bind.annotation.RestController;
 public class CacheController {
 
     private final InventoryAnalysisService analysisService;
+    private final RedisKeyMaintenanceService keyMaintenanceService;
 
     @DeleteMapping("/category-summary")
     public ResponseEntity<String> clearCategoryCache() {
         analysisService.clearCategoryCache();
         return ResponseEntity.ok("카테고리 캐시 삭제 완료");
     }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/dashboards/{managementDashboardId}")
+    public ResponseEntity<Long> purgeDashboardKeys(@PathVariable Long managementDashboardId) {
+        return ResponseEntity.ok(keyMaintenanceService.purgeDashboard(managementDashboardId));
+    }
 }
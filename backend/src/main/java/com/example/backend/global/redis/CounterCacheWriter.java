@@ -0,0 +1,311 @@
+package com.example.backend.global.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 증감 방식으로 유지하는 Redis 캐시(카운터 Hash, 일자별 ZSET) 쓰기.
+ * 트랜잭션 안의 증감은 키별로 모아 커밋 이후 반영하고, DB 재집계 결과는 집계 도중 반영된 증감이 없을 때만 저장한다.
+ *
+ * 범위(scope) 키마다 보조 키 두 개를 둔다.
+ * {scope}:gen     : 반영된 증감/삭제 횟수. 재집계 시작 시점과 저장 시점의 값이 다르면 저장하지 않음
+ * {scope}:pending : 커밋 직전 ~ 반영 전인 트랜잭션 수. DB에는 보이지만 캐시에는 아직 없는 증감이 있으면 저장하지 않음
+ * 저장하지 못한 재집계 결과는 그 요청에만 쓰고, 다음 조회가 다시 집계한다.
+ *
+ * 커밋 이후 작업은 분석 캐시 무효화(AnalysisCacheInvalidationPublisher)보다 먼저 실행되므로,
+ * 무효화 후 다시 만들어지는 스냅샷은 항상 증감이 반영된 값을 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterCacheWriter {
+
+    private static final Object PENDING_KEY = CounterCacheWriter.class.getName() + ".PENDING";
+
+    private static final String GENERATION_SUFFIX = ":gen";
+    private static final String IN_FLIGHT_SUFFIX = ":pending";
+
+    // 재집계 한 번보다 충분히 길게, 비정상 종료로 남은 진행 중 표시는 이 시간이 지나면 사라짐
+    private static final long GENERATION_TTL_SECONDS = Duration.ofDays(1).getSeconds();
+    private static final long IN_FLIGHT_TTL_SECONDS = 60;
+
+    // 증감 반영 후 공통 처리 : 세대 증가, 진행 중 표시 해제 (ARGV[1] = 진행 중 표시 여부)
+    private static final String FINISH_WRITE =
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], " + GENERATION_TTL_SECONDS + ") " +
+            "if ARGV[1] == '1' and redis.call('DECR', KEYS[3]) <= 0 then redis.call('DEL', KEYS[3]) end " +
+            "return 1";
+
+    // Hash가 있을 때만 증감 반영 (ARGV[2] = 마지막 필드가 0 이하가 되면 묶음 전체 삭제, 이후 field/delta 쌍)
+    static final DefaultRedisScript<Long> APPLY_HASH_DELTA_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  local last = 0 " +
+            "  for i = 3, #ARGV, 2 do last = redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "  if ARGV[2] == '1' and last <= 0 then " +
+            "    for i = 3, #ARGV, 2 do redis.call('HDEL', KEYS[1], ARGV[i]) end " +
+            "  end " +
+            "end " +
+            FINISH_WRITE,
+            Long.class
+    );
+
+    // ZSET 증감 반영 (ARGV[2] = TTL 초, 이후 member/delta 쌍)
+    static final DefaultRedisScript<Long> APPLY_ZSET_DELTA_SCRIPT = new DefaultRedisScript<>(
+            "for i = 3, #ARGV, 2 do redis.call('ZINCRBY', KEYS[1], ARGV[i + 1], ARGV[i]) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            FINISH_WRITE,
+            Long.class
+    );
+
+    static final DefaultRedisScript<Long> BEGIN_WRITE_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('INCR', KEYS[1]) " +
+            "redis.call('EXPIRE', KEYS[1], " + IN_FLIGHT_TTL_SECONDS + ") " +
+            "return count",
+            Long.class
+    );
+
+    static final DefaultRedisScript<Long> ABORT_WRITE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('DECR', KEYS[1]) <= 0 then redis.call('DEL', KEYS[1]) end return 1",
+            Long.class
+    );
+
+    // 재집계 시작 이후 증감/진행 중인 트랜잭션이 없을 때만 교체 (ARGV[1] = 시작 시 세대, ARGV[2] = TTL 초, 이후 field/value 쌍)
+    static final DefaultRedisScript<Long> REPLACE_HASH_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "if tonumber(redis.call('GET', KEYS[3]) or '0') > 0 then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "if #ARGV > 2 then redis.call('HSET', KEYS[1], unpack(ARGV, 3)) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    // 시작 시 세대와 같을 때만 문자열 값 저장 (ARGV[1] = 시작 시 세대, ARGV[2] = TTL 초, ARGV[3] = 값)
+    static final DefaultRedisScript<Long> REPLACE_VALUE_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[3], 'EX', ARGV[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    // 임시 키에 만든 ZSET을 조건이 맞으면 RENAME으로 교체, 아니면 임시 키 삭제
+    // (KEYS[1] = gen, KEYS[2] = pending, 이후 임시 키/대상 키 쌍, ARGV[1] = 시작 시 세대)
+    static final DefaultRedisScript<Long> REPLACE_ZSETS_SCRIPT = new DefaultRedisScript<>(
+            "local ok = (redis.call('GET', KEYS[1]) or '0') == ARGV[1] " +
+            "  and tonumber(redis.call('GET', KEYS[2]) or '0') <= 0 " +
+            "for i = 3, #KEYS, 2 do " +
+            "  if ok then redis.call('RENAME', KEYS[i], KEYS[i + 1]) else redis.call('DEL', KEYS[i]) end " +
+            "end " +
+            "if ok then return 1 end return 0",
+            Long.class
+    );
+
+    // 캐시 삭제 + 세대 증가 (삭제 전에 시작한 재집계가 이전 값을 다시 쓰지 않도록)
+    static final DefaultRedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], " + GENERATION_TTL_SECONDS + ") " +
+            "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static String generationKey(String scope) {
+        return scope + GENERATION_SUFFIX;
+    }
+
+    private static String inFlightKey(String scope) {
+        return scope + IN_FLIGHT_SUFFIX;
+    }
+
+    // 재집계 시작 전에 읽어 두고 replace*에 넘김
+    public long generation(String scope) {
+        String value = stringRedisTemplate.opsForValue().get(generationKey(scope));
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    // Hash 증감 (scope = Hash 키)
+    public void incrementHash(String key, Map<String, Long> fieldDeltas, boolean removeWhenLastNonPositive) {
+        write(key, new Delta(key, false, removeWhenLastNonPositive, 0, new LinkedHashMap<>(fieldDeltas)));
+    }
+
+    // ZSET 증감 (여러 ZSET이 하나의 scope로 재생성되는 경우 scope를 따로 지정)
+    public void incrementZSet(String scope, String key, String member, long delta, Duration ttl) {
+        write(scope, new Delta(key, true, false, ttl.getSeconds(), new LinkedHashMap<>(Map.of(member, delta))));
+    }
+
+    // 재집계 결과 저장, 집계 도중 증감이 있었으면 false
+    public boolean replaceHash(String key, long generation, Duration ttl, Map<String, String> fields) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(generation));
+        args.add(String.valueOf(ttl.getSeconds()));
+        fields.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        Long replaced = stringRedisTemplate.execute(REPLACE_HASH_SCRIPT,
+                List.of(key, generationKey(key), inFlightKey(key)), args.toArray());
+        return Long.valueOf(1).equals(replaced);
+    }
+
+    // 여러 캐시를 읽어 만든 값(스냅샷 등) 저장, 만드는 도중 evict 되었으면 false
+    public boolean replaceValue(String key, long generation, Duration ttl, String value) {
+        Long replaced = stringRedisTemplate.execute(REPLACE_VALUE_SCRIPT,
+                List.of(key, generationKey(key)), String.valueOf(generation), String.valueOf(ttl.getSeconds()), value);
+        return Long.valueOf(1).equals(replaced);
+    }
+
+    // 임시 키(TTL 포함)로 만든 ZSET들을 한 번에 교체, 집계 도중 증감이 있었으면 임시 키를 지우고 false
+    public boolean replaceZSets(String scope, long generation, Map<String, String> temporaryToTarget) {
+        List<String> keys = new ArrayList<>();
+        keys.add(generationKey(scope));
+        keys.add(inFlightKey(scope));
+        temporaryToTarget.forEach((temporary, target) -> {
+            keys.add(temporary);
+            keys.add(target);
+        });
+        Long replaced = stringRedisTemplate.execute(REPLACE_ZSETS_SCRIPT, keys, String.valueOf(generation));
+        return Long.valueOf(1).equals(replaced);
+    }
+
+    public void evict(String key) {
+        stringRedisTemplate.execute(EVICT_SCRIPT, List.of(key, generationKey(key)));
+    }
+
+    private record Delta(String key, boolean zset, boolean removeWhenLastNonPositive, long ttlSeconds,
+                         Map<String, Long> deltas) {
+
+        // 같은 키(카테고리 요약은 같은 필드 묶음)의 증감은 합쳐서 한 번에 반영
+        String mergeKey() {
+            return key + "|" + String.join("|", deltas.keySet());
+        }
+
+        void merge(Delta other) {
+            other.deltas.forEach((field, delta) -> deltas.merge(field, delta, Long::sum));
+        }
+    }
+
+    private static final class PendingWrites {
+        private final Map<String, Set<String>> keysByScope = new LinkedHashMap<>();
+        private final Map<String, Delta> deltas = new LinkedHashMap<>();
+        private final Map<String, String> scopeByMergeKey = new LinkedHashMap<>();
+        private final Set<String> startedScopes = new LinkedHashSet<>();
+    }
+
+    private void write(String scope, Delta delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(scope, delta, false);
+            return;
+        }
+
+        PendingWrites pending = getPending();
+        pending.keysByScope.computeIfAbsent(scope, s -> new LinkedHashSet<>()).add(delta.key());
+        pending.scopeByMergeKey.put(delta.mergeKey(), scope);
+        pending.deltas.merge(delta.mergeKey(), delta, (existing, added) -> {
+            existing.merge(added);
+            return existing;
+        });
+    }
+
+    private PendingWrites getPending() {
+        PendingWrites pending = (PendingWrites) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending != null) return pending;
+
+        PendingWrites created = new PendingWrites();
+        TransactionSynchronizationManager.bindResource(PENDING_KEY, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // 분석 캐시 무효화 이벤트보다 먼저 실행
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            // 커밋 직전에 진행 중 표시 (이 사이에 재집계가 DB를 읽어도 결과를 저장하지 않음)
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                for (String scope : created.keysByScope.keySet()) {
+                    try {
+                        stringRedisTemplate.execute(BEGIN_WRITE_SCRIPT, List.of(inFlightKey(scope)));
+                        created.startedScopes.add(scope);
+                    } catch (Exception e) {
+                        // 표시 실패로 업무 트랜잭션을 롤백하지 않음 (반영 후 세대 증가로 이후 재집계는 계속 막힘)
+                        log.warn("증감 캐시 진행 중 표시 실패 (scope={}): {}", scope, e.getMessage());
+                    }
+                }
+            }
+
+            // 진행 중 표시는 범위마다 한 번 올렸으므로 그 범위의 마지막 증감에서만 해제
+            // (증감마다 해제하면 같은 범위의 다른 트랜잭션 표시까지 풀려 재집계가 그 증감을 중복 반영할 수 있음)
+            @Override
+            public void afterCommit() {
+                Map<String, List<Delta>> deltasByScope = new LinkedHashMap<>();
+                created.deltas.forEach((mergeKey, delta) -> deltasByScope
+                        .computeIfAbsent(created.scopeByMergeKey.get(mergeKey), scope -> new ArrayList<>())
+                        .add(delta));
+
+                deltasByScope.forEach((scope, deltas) -> {
+                    boolean started = created.startedScopes.contains(scope);
+                    for (int i = 0; i < deltas.size(); i++) {
+                        apply(scope, deltas.get(i), started && i == deltas.size() - 1);
+                    }
+                });
+                created.startedScopes.clear();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                if (status != STATUS_COMMITTED) {
+                    created.startedScopes.forEach(CounterCacheWriter.this::abortWrite);
+                }
+            }
+        });
+        return created;
+    }
+
+    private void apply(String scope, Delta delta, boolean inFlight) {
+        List<String> args = new ArrayList<>();
+        args.add(inFlight ? "1" : "0");
+        args.add(delta.zset() ? String.valueOf(delta.ttlSeconds()) : (delta.removeWhenLastNonPositive() ? "1" : "0"));
+        delta.deltas().forEach((field, value) -> {
+            args.add(field);
+            args.add(String.valueOf(value));
+        });
+
+        try {
+            stringRedisTemplate.execute(delta.zset() ? APPLY_ZSET_DELTA_SCRIPT : APPLY_HASH_DELTA_SCRIPT,
+                    List.of(delta.key(), generationKey(scope), inFlightKey(scope)), args.toArray());
+        } catch (Exception e) {
+            log.warn("증감 캐시 반영 실패 (key={}): {}", delta.key(), e.getMessage());
+            // 반영하지 못한 증감이 남지 않도록 Hash는 지워서 다음 조회 때 다시 집계
+            try {
+                if (!delta.zset()) evict(delta.key());
+                if (inFlight) abortWrite(scope);
+            } catch (Exception ignored) {
+                // Redis 장애 중에는 TTL로 정리됨
+            }
+        }
+    }
+
+    private void abortWrite(String scope) {
+        try {
+            stringRedisTemplate.execute(ABORT_WRITE_SCRIPT, List.of(inFlightKey(scope)));
+        } catch (Exception e) {
+            log.warn("증감 캐시 진행 중 표시 해제 실패 (scope={}): {}", scope, e.getMessage());
+        }
+    }
+}
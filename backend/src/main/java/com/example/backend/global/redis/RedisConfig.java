@@ -1,14 +1,24 @@
 package com.example.backend.global.redis;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import java.time.Duration;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -25,16 +35,63 @@ public class RedisConfig {
     @Value("${spring.data.redis.password}")
     private String redisPassword;
 
+    // 명령 응답 대기 시간 (Redis 장애 시 요청 스레드가 오래 묶이지 않도록)
+    @Value("${spring.data.redis.timeout:2s}")
+    private Duration commandTimeout;
 
+    @Value("${spring.data.redis.connect-timeout:1s}")
+    private Duration connectTimeout;
+
+    // 커넥션 풀 : 일반 명령은 공유 커넥션을 쓰고, MULTI/파이프라인/블로킹 명령이 풀의 전용 커넥션을 사용
+    @Value("${spring.data.redis.lettuce.pool.max-active:16}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle:2}")
+    private int poolMinIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.max-wait:500ms}")
+    private Duration poolMaxWait;
 
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public RedisConnectionFactory redisConnectionFactory(ClientResources clientResources) {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
         config.setHostName(redisHost);
         config.setPort(redisPort);
         config.setPassword(redisPassword);  // 비밀번호 설정 추가
-        return new LettuceConnectionFactory(config);
 
+        GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(poolMaxActive);
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(poolMinIdle);
+        poolConfig.setMaxWait(poolMaxWait);
+
+        LettuceClientConfiguration clientConfig = LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig)
+                .commandTimeout(commandTimeout)
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                        .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                        .build())
+                // 명령별 지연시간 메트릭(lettuce.command.completion)은 Spring Boot가 만든 ClientResources에서 기록
+                .clientResources(clientResources)
+                .build();
+
+        return new LettuceConnectionFactory(config, clientConfig);
+    }
+
+    /**
+     * Redis 명령별 지연시간 히스토그램 (lettuce.command.completion / lettuce.command.firstresponse)
+     * p50/p95/p99를 함께 기록해서 API별 응답 시간 중 Redis 비중을 확인
+     */
+    @Bean
+    public MicrometerOptions micrometerOptions() {
+        return MicrometerOptions.builder()
+                .histogram(true)
+                .targetPercentiles(new double[]{0.5, 0.95, 0.99})
+                .build();
     }
 
     /**
@@ -46,16 +103,20 @@ public class RedisConfig {
     }
 
     /**
-     * 객체 기반 Redis 조작 (DTO, Map 등 다양한 타입 저장/조회할 때 사용)
+     * 숫자 카운터 조작 (Hash 필드/값을 문자열 숫자로 저장하고 Long으로 조회)
+     * 저장 형식은 StringRedisTemplate과 같으므로 HINCRBY/Lua 스크립트와 함께 사용 가능
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
+    public RedisTemplate<String, Long> counterRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, Long> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
-        // (선택) 직렬화 방식 설정 - JSON으로 저장되도록 설정
-        template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        StringRedisSerializer stringSerializer = new StringRedisSerializer();
+        GenericToStringSerializer<Long> longSerializer = new GenericToStringSerializer<>(Long.class);
+        template.setKeySerializer(stringSerializer);
+        template.setValueSerializer(longSerializer);
+        template.setHashKeySerializer(stringSerializer);
+        template.setHashValueSerializer(longSerializer);
 
         return template;
     }
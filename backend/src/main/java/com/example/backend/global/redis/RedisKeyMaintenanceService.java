@@ -0,0 +1,52 @@
+package com.example.backend.global.redis;
+
+import com.example.backend.domain.notification.event.NewDashboardRejectedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 네임스페이스 단위 Redis 키 정리.
+ * KEYS 대신 SCAN + UNLINK를 batch 단위로 실행해서 로그인/인증 키를 쓰는 요청을 막지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RedisKeyMaintenanceService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final RedisService redisService;
+
+    // 관리페이지 단위 키 전체 삭제 (분석 캐시, 사용 빈도 버킷, 스냅샷 등)
+    public long purgeDashboard(Long managementDashboardId) {
+        long removed = 0;
+        for (RedisKeyNamespace namespace : RedisKeyNamespace.dashboardScopedValues()) {
+            if (redisService.checkExistsKey(namespace.key(managementDashboardId))) {
+                redisService.deleteData(namespace.key(managementDashboardId));
+                removed++;
+            }
+            removed += redisService.unlinkKeys(namespace.dashboardPattern(managementDashboardId), BATCH_SIZE);
+        }
+        log.info("관리페이지 Redis 키 정리 (dashboard={}, removed={})", managementDashboardId, removed);
+        return removed;
+    }
+
+    // 네임스페이스 전체 삭제 (이전 방식 키 정리 등)
+    public long purgeNamespace(RedisKeyNamespace namespace) {
+        long removed = redisService.unlinkKeys(namespace.pattern(), BATCH_SIZE);
+        log.info("Redis 네임스페이스 정리 (namespace={}, removed={})", namespace, removed);
+        return removed;
+    }
+
+    // 관리페이지가 반려(중지)되면 커밋 이후 관련 키 정리
+    @TransactionalEventListener
+    public void handleDashboardRejected(NewDashboardRejectedEvent event) {
+        try {
+            purgeDashboard(event.getDashboardId());
+        } catch (Exception e) {
+            log.warn("관리페이지 Redis 키 정리 실패 (dashboard={}): {}", event.getDashboardId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.backend.global.redis;
+
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Redis 키 네임스페이스 목록.
+ * 새 키를 추가할 때는 여기에 접두사를 등록하고 key()로 생성한다.
+ * 관리페이지 단위 키는 "{접두사}{관리페이지 ID}" 또는 "{접두사}{관리페이지 ID}:..." 형태를 따른다.
+ */
+@Getter
+public enum RedisKeyNamespace {
+
+    // 인증
+    REFRESH_TOKEN("refresh:", false),
+    TOKEN_VERSION("token_version:", false),
+    EMAIL_AUTH_CODE("certification:email:", false),
+    PHONE_AUTH_CODE("certification:phone:", false),
+    RATE_LIMIT("rate_limit:", false),
+
+    // 채팅
+    CHAT_ROOM_DELETION("chatroom:deletion:", false),
+
+    // 여러 서버 중 한 곳에서만 실행할 작업의 락 (RedisLockService)
+    LOCK("lock:", false),
+
+    // Spring Cache (CacheConfig)
+    SPRING_CACHE("cache:v2:", false),
+
+    // 목록 응답 ETag 버전 (관리페이지 ID 외에 user:{ID}, global 범위도 사용)
+    RESOURCE_VERSION("resource_version:", true),
+
+    // 분석 (관리페이지 단위)
+    CATEGORY_SUMMARY("category_summary:v2:", true),
+    OUTBOUND_COUNT("item_instances:outbound_count:", true),
+    ITEM_USAGE("item_usage:", true),
+    ANALYSIS_SNAPSHOT("analysis_snapshot:", true),
+
+    // 더 이상 쓰지 않는 키 (정리 대상)
+    LEGACY_ITEM_USAGE("item_usage_frequency:", false);
+
+    private final String prefix;
+    private final boolean dashboardScoped;
+
+    RedisKeyNamespace(String prefix, boolean dashboardScoped) {
+        this.prefix = prefix;
+        this.dashboardScoped = dashboardScoped;
+    }
+
+    public String key(Object id) {
+        return prefix + id;
+    }
+
+    public String pattern() {
+        return prefix + "*";
+    }
+
+    // 관리페이지 ID 아래의 하위 키 패턴 (예: item_usage:3:*)
+    public String dashboardPattern(Long managementDashboardId) {
+        return prefix + managementDashboardId + ":*";
+    }
+
+    public static List<RedisKeyNamespace> dashboardScopedValues() {
+        return Arrays.stream(values()).filter(RedisKeyNamespace::isDashboardScoped).toList();
+    }
+}
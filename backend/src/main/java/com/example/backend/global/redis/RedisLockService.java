@@ -0,0 +1,51 @@
+package com.example.backend.global.redis;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 여러 대 중 한 곳에서만 실행해야 하는 작업(스케줄러, 재생성)의 Redis 락.
+ * SET NX + TTL로 잡고, 자신이 잡은 락만 해제한다. 작업이 TTL보다 오래 걸리면 다른 서버가 다시 잡을 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLockService {
+
+    // 자신이 잡은 락만 해제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 잡으면 해제용 토큰, 다른 서버가 잡고 있으면 null
+    public String tryLock(String name, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(RedisKeyNamespace.LOCK.key(name), token, ttl);
+        return Boolean.TRUE.equals(locked) ? token : null;
+    }
+
+    public void unlock(String name, String token) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(RedisKeyNamespace.LOCK.key(name)), token);
+    }
+
+    // 락을 잡은 경우에만 실행하고 실행 여부 반환
+    public boolean runWithLock(String name, Duration ttl, Runnable task) {
+        String token = tryLock(name, ttl);
+        if (token == null) {
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            unlock(name, token);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.backend.global.redis;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.List;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis 값 직렬화 도구.
+ * 값마다 @class 타입 정보를 붙이는 GenericJackson2JsonRedisSerializer 대신,
+ * 저장할 타입을 미리 지정한 직렬화기를 사용해 JSON을 작게 유지한다.
+ */
+public final class RedisSerializers {
+
+    private static final ObjectMapper COMPACT_OBJECT_MAPPER = createCompactObjectMapper();
+
+    private RedisSerializers() {
+    }
+
+    // 타입 정보 없이 필드 기준으로 직렬화, null 필드는 생략
+    private static ObjectMapper createCompactObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
+        objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        return objectMapper;
+    }
+
+    public static ObjectMapper compactObjectMapper() {
+        return COMPACT_OBJECT_MAPPER;
+    }
+
+    public static JavaType typeOf(Class<?> type) {
+        return COMPACT_OBJECT_MAPPER.getTypeFactory().constructType(type);
+    }
+
+    public static JavaType listOf(Class<?> elementType) {
+        return COMPACT_OBJECT_MAPPER.getTypeFactory().constructCollectionType(List.class, elementType);
+    }
+
+    public static RedisSerializer<Object> typed(JavaType type) {
+        return new Jackson2JsonRedisSerializer<>(COMPACT_OBJECT_MAPPER, type);
+    }
+}
@@ -1,11 +1,18 @@
 package com.example.backend.global.redis;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,6 +20,18 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class RedisService {
 
+    // 채팅방 삭제 예약 큐 (ZSET, score = 삭제 예정 시각)
+    private static final String CHAT_ROOM_DELETION_QUEUE = RedisKeyNamespace.CHAT_ROOM_DELETION.key("queue");
+    private static final String LEGACY_CHAT_ROOM_DELETION_LIST = RedisKeyNamespace.CHAT_ROOM_DELETION.key("list");
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_DUE_SCRIPT = new DefaultRedisScript<>(
+            "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) "
+                    + "if #ids > 0 then redis.call('ZREM', KEYS[1], unpack(ids)) end "
+                    + "return ids",
+            List.class
+    );
+
     private final StringRedisTemplate redisTemplate;
 
     // 저장
@@ -36,19 +55,38 @@ public class RedisService {
         redisTemplate.delete(key);
     }
 
-    // 삭제 예약 리스트에 추가
-    public void addRoomIdToDeletionList(Long roomId) {
-        redisTemplate.opsForSet().add("chatroom:deletion:list", String.valueOf(roomId));
+    // 채팅방 삭제 예약 (score = 삭제 예정 시각 epoch millis)
+    public void scheduleRoomDeletion(Long roomId, Duration delay) {
+        long dueAt = System.currentTimeMillis() + delay.toMillis();
+        redisTemplate.opsForZSet().add(CHAT_ROOM_DELETION_QUEUE, String.valueOf(roomId), dueAt);
     }
 
-    // 삭제 예약 리스트 가져오기
-    public Set<String> getDeletionRoomIds() {
-        return redisTemplate.opsForSet().members("chatroom:deletion:list");
+    // 삭제 예정 시각이 지난 채팅방 id를 최대 batchSize 개 꺼냄
+    // 조회와 삭제를 Lua 스크립트로 한 번에 처리해서 여러 서버가 동시에 꺼내도 한 서버만 가져감
+    public List<String> popDueDeletionRoomIds(long now, int batchSize) {
+        // 스크립트는 멤버(문자열) 배열을 반환
+        @SuppressWarnings("unchecked")
+        List<String> roomIds = redisTemplate.execute(
+                POP_DUE_SCRIPT,
+                List.of(CHAT_ROOM_DELETION_QUEUE),
+                String.valueOf(now),
+                String.valueOf(batchSize)
+        );
+        return roomIds == null ? List.of() : roomIds;
     }
 
-    // 삭제 예약 리스트에서 제거
-    public void removeRoomIdFromDeletionList(Long roomId) {
-        redisTemplate.opsForSet().remove("chatroom:deletion:list", String.valueOf(roomId));
+    // 이전 방식(Set)으로 예약된 채팅방을 삭제 예약 큐로 옮김
+    public void migrateLegacyDeletionList() {
+        Set<String> legacyIds = redisTemplate.opsForSet().members(LEGACY_CHAT_ROOM_DELETION_LIST);
+        if (legacyIds == null || legacyIds.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (String roomId : legacyIds) {
+            redisTemplate.opsForZSet().addIfAbsent(CHAT_ROOM_DELETION_QUEUE, roomId, now);
+        }
+        redisTemplate.delete(LEGACY_CHAT_ROOM_DELETION_LIST);
     }
 
     // TTL 조회 (초 단위)
@@ -56,9 +94,33 @@ public class RedisService {
         return redisTemplate.getExpire(key, TimeUnit.SECONDS);
     }
 
-    // 특정 패턴의 키 모두 조회
-    public Set<String> getKeys(String pattern) {
-        return redisTemplate.keys(pattern);
+    // 패턴에 맞는 키를 SCAN으로 batchSize 개씩 나눠서 전달 (KEYS와 달리 Redis를 오래 막지 않음)
+    // 반환값 : 전달한 키 개수
+    public long scanKeys(String pattern, int batchSize, Consumer<List<String>> batchHandler) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+        long total = 0;
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(batchSize);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= batchSize) {
+                    batchHandler.accept(batch);
+                    total += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchHandler.accept(batch);
+                total += batch.size();
+            }
+        }
+        return total;
+    }
+
+    // 패턴에 맞는 키를 batchSize 개씩 UNLINK (값 해제는 Redis 백그라운드 스레드에서 처리)
+    public long unlinkKeys(String pattern, int batchSize) {
+        return scanKeys(pattern, batchSize, redisTemplate::unlink);
     }
 
 
@@ -67,20 +129,5 @@ public class RedisService {
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
 
-    // refreshToken 저장 (7일 TTL)
-    public void saveRefreshToken(Long userId, String refreshToken) {
-        saveData("refresh:" + userId, refreshToken, Duration.ofDays(7));
-    }
-
-    // refreshToken 조회
-    public String getRefreshToken(Long userId) {
-        return getData("refresh:" + userId);
-    }
-
-    // refreshToken 삭제
-    public void deleteRefreshToken(Long userId) {
-        deleteData("refresh:" + userId);
-    }
-
 
 }
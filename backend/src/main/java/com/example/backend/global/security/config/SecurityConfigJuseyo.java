@@ -3,12 +3,21 @@ package com.example.backend.global.security.config;
 
 
 
-import com.example.backend.global.redis.RedisService;
+import com.example.backend.domain.user.repository.UserRepository;
+import com.example.backend.global.security.jwt.filter.FilterSkipPathMatcher;
 import com.example.backend.global.security.jwt.filter.JwtAuthenticationFilter;
 import com.example.backend.global.security.jwt.filter.UserStatusCheckFilter;
+import com.example.backend.global.security.jwt.service.RefreshTokenService;
+import com.example.backend.global.security.jwt.service.TokenService;
+import com.example.backend.global.security.jwt.service.TokenVersionService;
 import com.example.backend.global.security.jwt.util.JwtTokenizer;
+import com.example.backend.global.security.password.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -17,6 +26,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -32,12 +42,19 @@ public class SecurityConfigJuseyo {
 
     private final JwtTokenizer jwtTokenizer;
     private final UserStatusCheckFilter userStatusCheckFilter;
-    private final RedisService redisService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenService tokenService;
+    private final TokenVersionService tokenVersionService;
+    private final UserRepository userRepository;
+    private final FilterSkipPathMatcher filterSkipPathMatcher;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .authorizeHttpRequests(authorize -> authorize
+                        // JWT 필터를 건너뛰는 경로 (Swagger, 정적 리소스, SockJS 전송 - STOMP CONNECT에서 토큰 검증)
+                        .requestMatchers(filterSkipPathMatcher.getPatterns()).permitAll()
                         .requestMatchers(
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
@@ -120,7 +137,8 @@ public class SecurityConfigJuseyo {
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(userStatusCheckFilter, UsernamePasswordAuthenticationFilter.class) // UserStatusCheckFilter 추가
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenizer,redisService), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenizer, refreshTokenService, tokenService,
+                        tokenVersionService, userRepository, filterSkipPathMatcher, meterRegistry), UsernamePasswordAuthenticationFilter.class)
 
                 .formLogin(form -> form.disable())
                 .sessionManagement(session -> session
@@ -164,9 +182,18 @@ public class SecurityConfigJuseyo {
 
 
 
+    // {bcrypt} 접두사로 저장하고, 접두사 없는 기존 해시도 bcrypt로 확인 (로그인 시 새 설정으로 재저장)
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength}") int bcryptStrength,
+                                           @Value("${security.password.hashing-threads:0}") int hashingThreads,
+                                           @Value("${security.password.hashing-queue-capacity}") int queueCapacity,
+                                           @Value("${security.password.hashing-timeout}") Duration hashingTimeout){
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegating, threads, queueCapacity, hashingTimeout, meterRegistry);
     }
 
 
@@ -0,0 +1,35 @@
+package com.example.backend.global.security.jwt.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT/사용자 상태 필터를 건너뛸 경로 (security.filter.skip-paths)
+ * Swagger 문서, 정적 리소스, SockJS 전송(info/xhr 폴링)처럼 자주 호출되지만 쿠키 인증이 필요 없는 경로만 등록한다.
+ * 등록된 경로는 SecurityConfig에서 permitAll로도 열린다.
+ */
+@Component
+public class FilterSkipPathMatcher {
+
+    @Getter
+    private final String[] patterns;
+    private final RequestMatcher requestMatcher;
+
+    public FilterSkipPathMatcher(@Value("${security.filter.skip-paths}") List<String> patterns) {
+        this.patterns = patterns.toArray(String[]::new);
+        this.requestMatcher = new OrRequestMatcher(patterns.stream()
+                .map(AntPathRequestMatcher::antMatcher)
+                .map(RequestMatcher.class::cast)
+                .toList());
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        return requestMatcher.matches(request);
+    }
+}
@@ -1,17 +1,23 @@
 package com.example.backend.global.security.jwt.filter;
 
 
+import com.example.backend.domain.user.entity.User;
+import com.example.backend.domain.user.repository.UserRepository;
 import com.example.backend.global.exception.BusinessLogicException;
 import com.example.backend.global.exception.ExceptionCode;
 import com.example.backend.global.exception.JwtExceptionCode;
 import com.example.backend.global.security.dto.CustomUserDetails;
+import com.example.backend.global.security.jwt.service.RefreshTokenService;
+import com.example.backend.global.security.jwt.service.TokenService;
+import com.example.backend.global.security.jwt.service.TokenVersionService;
 import com.example.backend.global.security.jwt.token.JwtAuthenticationToken;
 import com.example.backend.global.security.jwt.util.JwtTokenizer;
-import com.example.backend.global.redis.RedisService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -20,7 +26,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -29,18 +34,31 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
-import org.springframework.web.filter.OncePerRequestFilter;
 
 
-@RequiredArgsConstructor
 @Slf4j
-public class JwtAuthenticationFilter extends OncePerRequestFilter {
+public class JwtAuthenticationFilter extends MeteredOncePerRequestFilter {
 
     private final JwtTokenizer jwtTokenizer;
-    private final RedisService redisService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenService tokenService;
+    private final TokenVersionService tokenVersionService;
+    private final UserRepository userRepository;
+
+    public JwtAuthenticationFilter(JwtTokenizer jwtTokenizer, RefreshTokenService refreshTokenService,
+                                   TokenService tokenService, TokenVersionService tokenVersionService,
+                                   UserRepository userRepository, FilterSkipPathMatcher skipPathMatcher,
+                                   MeterRegistry meterRegistry) {
+        super("jwt_authentication", skipPathMatcher, meterRegistry);
+        this.jwtTokenizer = jwtTokenizer;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenService = tokenService;
+        this.tokenVersionService = tokenVersionService;
+        this.userRepository = userRepository;
+    }
 
     @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+    protected void doFilterMetered(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
         String accessToken = getAccessToken(request);
@@ -52,22 +70,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (accessToken == null && refreshToken != null) {
-            log.info("refreshToken 검사 filter !  " + refreshToken);
-            validRefreshToken(refreshToken, response);
-            log.info("refreshToken 33 " + refreshToken);
-            if (StringUtils.hasText(refreshToken) && jwtTokenizer.validateRefreshToken(refreshToken)) {
-                try {
-                    log.info("refreshToken 44 " + refreshToken);
-                    setCookies(refreshToken, response);
-                    filterChain.doFilter(request, response);
-                    return;
-                } catch (Exception ex) {
-                    log.error("Failed to reissue access token", ex);
-                    request.setAttribute("exception", JwtExceptionCode.EXPIRED_TOKEN.getCode());
-                    SecurityContextHolder.clearContext();
-                    throw new BadCredentialsException("Invalid refresh token", ex);
-                }
+        if (accessToken == null && StringUtils.hasText(refreshToken)) {
+            // 만료·위조된 refreshToken도 파싱 예외가 필터 밖으로 새지 않고 401로 응답
+            Claims refreshClaims = parseRefreshTokenOrNull(refreshToken);
+            if (refreshClaims == null) {
+                request.setAttribute("exception", JwtExceptionCode.INVALID_TOKEN.getCode());
+                SecurityContextHolder.clearContext();
+                throw new BadCredentialsException("Invalid refresh token");
+            }
+            try {
+                // 교체 실패(Redis 장애 포함)도 401로 응답
+                RefreshTokenService.Rotation rotation = validRefreshToken(refreshToken, refreshClaims, response);
+                setCookies(refreshClaims, rotation, request, response);
+                filterChain.doFilter(request, response);
+                return;
+            } catch (Exception ex) {
+                log.error("Failed to reissue access token", ex);
+                request.setAttribute("exception", JwtExceptionCode.EXPIRED_TOKEN.getCode());
+                SecurityContextHolder.clearContext();
+                throw new BadCredentialsException("Invalid refresh token", ex);
             }
         }
 
@@ -77,8 +98,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (StringUtils.hasText(accessToken)) {
             try {
-                jwtTokenizer.validateAccessToken(accessToken);
-                Authentication authentication = getAuthentication(accessToken);
+                // 요청당 한 번만 파싱하고, 이후 TokenService 등은 request attribute의 Claims를 사용
+                // (UserStatusCheckFilter에서 이미 파싱했으면 재사용)
+                Object parsedClaims = request.getAttribute(JwtTokenizer.CLAIMS_ATTRIBUTE);
+                Claims claims = parsedClaims instanceof Claims cached ? cached : jwtTokenizer.parseAccessToken(accessToken);
+                // 역할/관리페이지/승인 상태가 바뀐 뒤 발급된 토큰이 아니면 만료와 같이 refreshToken으로 재발급
+                if (!tokenVersionService.isCurrent(jwtTokenizer.getUserId(claims),
+                        claims.get(JwtTokenizer.TOKEN_VERSION_CLAIM))) {
+                    request.removeAttribute(JwtTokenizer.CLAIMS_ATTRIBUTE);
+                    throw new ExpiredJwtException(null, claims, "사용자 정보가 변경되어 토큰을 재발급합니다.");
+                }
+                request.setAttribute(JwtTokenizer.CLAIMS_ATTRIBUTE, claims);
+                Authentication authentication = getAuthentication(claims);
 
                 //만들어진 authentication를 SecurityContextHolder의 SecurityContext 로 넘긴다.
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -93,9 +124,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "refreshToken이 없습니다 재로그인 해주세요.");
                     return;
                 }
-                if (StringUtils.hasText(refreshToken) && jwtTokenizer.validateRefreshToken(refreshToken)) {
+                Claims refreshClaims = parseRefreshTokenOrNull(refreshToken);
+                if (refreshClaims != null) {
                     try {
-                        setCookies(refreshToken,response);
+                        // 교체 실패(Redis 장애 포함)도 401로 응답
+                        RefreshTokenService.Rotation rotation = validRefreshToken(refreshToken, refreshClaims, response);
+                        setCookies(refreshClaims,rotation,request,response);
                         filterChain.doFilter(request, response);
                         return;
                     } catch (Exception ex) {
@@ -131,9 +165,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         }
 
-        private Authentication getAuthentication (String token){
-            Claims claims = jwtTokenizer.parseAccessToken(token);
-
+        private Authentication getAuthentication (Claims claims){
             //토큰에서 가져온 데이터
             String email = claims.getSubject();
             Long userId = claims.get("userId", Long.class);
@@ -189,20 +221,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private void setCookies(String token, HttpServletResponse response){
-        Claims claims = jwtTokenizer.parseRefreshToken(token);
+    private Claims parseRefreshTokenOrNull(String refreshToken) {
+        if (!StringUtils.hasText(refreshToken)) {
+            return null;
+        }
+        try {
+            return jwtTokenizer.parseRefreshToken(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
 
+    private void setCookies(Claims claims, RefreshTokenService.Rotation rotation,
+                            HttpServletRequest request, HttpServletResponse response){
         String email = claims.getSubject();
-        Long userId = claims.get("userId", Long.class);
+        Long userId = jwtTokenizer.getUserId(claims);
         String name = claims.get("username", String.class);
-        List<String> roles = claims.get("roles", List.class);
-        redisService.deleteRefreshToken(userId);
+
+        // 관리페이지/부서/승인 상태/역할은 재발급 시점의 DB 값으로 다시 넣는다
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+        String role = user.getRole().getRole().name();
 
         long maxAgeAccessInSeconds = jwtTokenizer.accessTokenExpirationMinutes / 1000;
         long maxAgeRefreshInSeconds = jwtTokenizer.refreshTokenExpirationMinutes / 1000;
 
-        String newAccessToken = jwtTokenizer.createAccessToken(userId, email, name, roles.get(0));
-        String newRefreshToken = jwtTokenizer.createRefreshToken(userId, email, name, roles.get(0));
+        String newAccessToken = tokenService.createAccessToken(user, email, name);
 
         // 쿠키로 재전송
         Cookie newAccessTokenCookie = new Cookie("accessToken", newAccessToken);
@@ -211,35 +255,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         newAccessTokenCookie.setMaxAge(Math.toIntExact(maxAgeAccessInSeconds)); // 30분
         response.addCookie(newAccessTokenCookie);
 
-        // 쿠키로 재전송
-        Cookie newRefreshTokenCookie = new Cookie("refreshToken", newRefreshToken);
-        newRefreshTokenCookie.setHttpOnly(true);
-        newRefreshTokenCookie.setPath("/");
-        newRefreshTokenCookie.setMaxAge(Math.toIntExact(maxAgeRefreshInSeconds)); // 30분
-        response.addCookie(newRefreshTokenCookie);
-
-        redisService.saveRefreshToken(userId,newRefreshToken);
+        // 유예 시간 내 동시 요청이면 먼저 교체한 요청이 새 refreshToken을 내려주므로 accessToken만 재발급
+        if (rotation.result() == RefreshTokenService.Result.ROTATED) {
+            String newRefreshToken = jwtTokenizer.createRefreshToken(userId, email, name, role,
+                    rotation.familyId(), rotation.tokenId());
+
+            // 쿠키로 재전송
+            Cookie newRefreshTokenCookie = new Cookie("refreshToken", newRefreshToken);
+            newRefreshTokenCookie.setHttpOnly(true);
+            newRefreshTokenCookie.setPath("/");
+            newRefreshTokenCookie.setMaxAge(Math.toIntExact(maxAgeRefreshInSeconds)); // 30분
+            response.addCookie(newRefreshTokenCookie);
+        }
 
-        // SecurityContext 갱신
-        Authentication authentication = getAuthentication(newAccessToken);
+        // SecurityContext 갱신 (재발급 때만 새 accessToken을 한 번 파싱해서 최신 클레임을 요청에 보관)
+        Claims newClaims = jwtTokenizer.parseAccessToken(newAccessToken);
+        request.setAttribute(JwtTokenizer.CLAIMS_ATTRIBUTE, newClaims);
+        Authentication authentication = getAuthentication(newClaims);
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
-    public void validRefreshToken(String refreshToken, HttpServletResponse response) {
-        Claims claims = jwtTokenizer.parseRefreshToken(refreshToken);
-
-        Long userId = claims.get("userId", Long.class);
-
-        String savedRefreshToken = redisService.getRefreshToken(userId);
-        log.info("userId" + userId);
-        log.info("확인 111 + " + savedRefreshToken);
-        log.info("확인 22 " + refreshToken);
+    // 저장된 패밀리와 비교 후 교체 (Redis 한 번 왕복), 실패하면 쿠키 삭제 후 재로그인 요청
+    public RefreshTokenService.Rotation validRefreshToken(String refreshToken, Claims claims, HttpServletResponse response) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken, claims);
 
-        if (savedRefreshToken == null || !refreshToken.equals(savedRefreshToken)) {
+        if (!rotation.isValid()) {
             deleteCookie("refreshToken",response);
             deleteCookie("accessToken",response);
             throw new BusinessLogicException(ExceptionCode.INVALID_REFRESH_TOKEN);
         }
+        return rotation;
     }
 
     public void deleteCookie(String name, HttpServletResponse httpServletResponse) {
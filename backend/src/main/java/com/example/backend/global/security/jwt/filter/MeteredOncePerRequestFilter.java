@@ -0,0 +1,60 @@
+package com.example.backend.global.security.jwt.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 건너뛸 경로는 필터를 실행하지 않고, 실행한 경우 필터 자체에 걸린 시간만 기록한다.
+ * (security.filter.duration{filter}, 다음 필터/컨트롤러 처리 시간은 제외)
+ */
+public abstract class MeteredOncePerRequestFilter extends OncePerRequestFilter {
+
+    private final FilterSkipPathMatcher skipPathMatcher;
+    private final Timer timer;
+
+    protected MeteredOncePerRequestFilter(String filterName, FilterSkipPathMatcher skipPathMatcher,
+                                          MeterRegistry meterRegistry) {
+        this.skipPathMatcher = skipPathMatcher;
+        this.timer = Timer.builder("security.filter.duration")
+                .description("인증 필터 처리 시간 (이후 체인 처리 시간 제외)")
+                .tag("filter", filterName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return skipPathMatcher.matches(request);
+    }
+
+    @Override
+    protected final void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                          FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        long[] downstreamNanos = {0L};
+
+        FilterChain timedChain = (req, res) -> {
+            long chainStart = System.nanoTime();
+            try {
+                filterChain.doFilter(req, res);
+            } finally {
+                downstreamNanos[0] += System.nanoTime() - chainStart;
+            }
+        };
+
+        try {
+            doFilterMetered(request, response, timedChain);
+        } finally {
+            timer.record(System.nanoTime() - start - downstreamNanos[0], TimeUnit.NANOSECONDS);
+        }
+    }
+
+    protected abstract void doFilterMetered(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain filterChain) throws ServletException, IOException;
+}
@@ -2,11 +2,10 @@ package com.example.backend.global.security.jwt.filter;
 
 import com.example.backend.enums.ApprovalStatus;
 import com.example.backend.enums.Status;
-import com.example.backend.global.exception.BusinessLogicException;
-import com.example.backend.global.exception.ExceptionCode;
 import com.example.backend.global.security.jwt.service.TokenService;
-import com.example.backend.domain.user.entity.User;
-import com.example.backend.domain.user.repository.UserRepository;
+import com.example.backend.domain.user.dto.response.UserStatusDto;
+import com.example.backend.domain.user.service.UserStatusService;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,29 +13,31 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.web.filter.OncePerRequestFilter;
 
 @Component
-public class UserStatusCheckFilter extends OncePerRequestFilter {
+public class UserStatusCheckFilter extends MeteredOncePerRequestFilter {
 
-    private final UserRepository userRepository;
+    private final UserStatusService userStatusService;
     private final TokenService tokenService;
 
-    public UserStatusCheckFilter(UserRepository userRepository, TokenService tokenService) {
-        this.userRepository = userRepository;
+    public UserStatusCheckFilter(UserStatusService userStatusService, TokenService tokenService,
+                                 FilterSkipPathMatcher skipPathMatcher, MeterRegistry meterRegistry) {
+        super("user_status_check", skipPathMatcher, meterRegistry);
+        this.userStatusService = userStatusService;
         this.tokenService = tokenService;
     }
 
     @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+    protected void doFilterMetered(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
         String token = tokenService.getTokenFromRequest();
 
-        if (token != null && tokenService.validateToken(token)) {
-            Long userId = tokenService.getIdFromToken();
-            User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+        // 토큰은 한 번만 파싱하고, 사용자 상태는 짧은 TTL 캐시에서 조회 (변경 시 즉시 무효화)
+        Long userId = token != null ? tokenService.findUserIdFromAccessToken(token) : null;
+
+        if (userId != null) {
+            UserStatusDto user = userStatusService.getUserStatus(userId);
 
             if (user.getStatus() == Status.STOP) {
                 // 정지된 사용자 접근 차단
@@ -0,0 +1,249 @@
+package com.example.backend.global.security.jwt.service;
+
+import com.example.backend.global.redis.RedisKeyNamespace;
+import com.example.backend.global.redis.RedisService;
+import com.example.backend.global.security.jwt.util.JwtTokenizer;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * refreshToken 패밀리(기기별 로그인) 관리 : refresh:{사용자 ID}:{패밀리 ID} Hash
+ * (current = 현재 토큰 ID, previous = 직전 토큰 ID, rotated_at = 마지막 교체 시각)
+ * 비교와 교체를 Lua 스크립트로 한 번에 처리해서, 같은 토큰으로 동시에 들어온 요청이 서로를 로그아웃시키지 않도록 한다.
+ * 직전 토큰이 유예 시간 안에 다시 오면 동시 요청으로 보고 accessToken만 재발급하고,
+ * 유예 시간이 지난 뒤 옛 토큰이 오면 탈취로 보고 패밀리 전체를 폐기한다.
+ * 사용자별 패밀리 목록(refresh:{사용자 ID}:families ZSET, score = 마지막 사용 시각)으로 개수를 제한하고,
+ * 탈퇴/삭제/거절 시에는 사용자의 패밀리를 모두 폐기한다.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    // KEYS = 패밀리, 사용자별 패밀리 목록 / ARGV = 제시된 토큰 ID, 새 토큰 ID, 현재 시각(ms), 유예 시간(ms), TTL(초), 패밀리 ID
+    // 반환 : 1 교체, 2 유예 시간 내 동시 요청, -1 재사용 감지(패밀리 폐기), 0 없는 패밀리
+    static final DefaultRedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], 'current') " +
+            "if not current then " +
+            "  redis.call('ZREM', KEYS[2], ARGV[6]) " +
+            "  return 0 " +
+            "end " +
+            "if current == ARGV[1] then " +
+            "  redis.call('HSET', KEYS[1], 'current', ARGV[2], 'previous', ARGV[1], 'rotated_at', ARGV[3]) " +
+            "  redis.call('EXPIRE', KEYS[1], ARGV[5]) " +
+            "  redis.call('ZADD', KEYS[2], ARGV[3], ARGV[6]) " +
+            "  redis.call('EXPIRE', KEYS[2], ARGV[5]) " +
+            "  return 1 " +
+            "end " +
+            "local previous = redis.call('HGET', KEYS[1], 'previous') " +
+            "local rotatedAt = tonumber(redis.call('HGET', KEYS[1], 'rotated_at') or '0') " +
+            "if previous == ARGV[1] and tonumber(ARGV[3]) - rotatedAt <= tonumber(ARGV[4]) then return 2 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('ZREM', KEYS[2], ARGV[6]) " +
+            "return -1",
+            Long.class
+    );
+
+    // 새 패밀리 등록 후 만료된 목록을 정리하고, 최대 개수를 넘으면 가장 오래 쓰지 않은 패밀리부터 폐기
+    // KEYS = 패밀리, 사용자별 패밀리 목록 / ARGV = 토큰 ID, 패밀리 ID, 현재 시각(ms), TTL(초), 최대 개수, 패밀리 키 접두사
+    // 반환 : 폐기한 패밀리 수
+    static final DefaultRedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], 'current', ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[2]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', tonumber(ARGV[3]) - tonumber(ARGV[4]) * 1000) " +
+            "local excess = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[5]) " +
+            "if excess > 0 then " +
+            "  local oldest = redis.call('ZRANGE', KEYS[2], 0, excess - 1) " +
+            "  for _, family in ipairs(oldest) do redis.call('DEL', ARGV[6] .. family) end " +
+            "  redis.call('ZREM', KEYS[2], unpack(oldest)) " +
+            "else " +
+            "  excess = 0 " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+            "return excess",
+            Long.class
+    );
+
+    private static final int REVOKE_SCAN_BATCH_SIZE = 100;
+
+    public enum Result {
+        ROTATED,        // 새 refreshToken 발급
+        GRACE,          // 동시 요청 : accessToken만 재발급
+        REUSE_DETECTED, // 이미 교체된 토큰 재사용 : 패밀리 폐기
+        INVALID         // 로그아웃/만료된 패밀리
+    }
+
+    // ROTATED일 때만 familyId/tokenId로 새 refreshToken을 만든다
+    public record Rotation(Result result, String familyId, String tokenId) {
+        public boolean isValid() {
+            return result == Result.ROTATED || result == Result.GRACE;
+        }
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisService redisService;
+    private final JwtTokenizer jwtTokenizer;
+    private final Duration familyTtl;
+    private final Duration gracePeriod;
+    private final int maxFamiliesPerUser;
+    private final Map<Result, Counter> rotationCounters = new EnumMap<>(Result.class);
+
+    public RefreshTokenService(StringRedisTemplate stringRedisTemplate,
+                               RedisService redisService,
+                               JwtTokenizer jwtTokenizer,
+                               MeterRegistry meterRegistry,
+                               @Value("${jwt.refresh-rotation-grace-seconds:10}") long gracePeriodSeconds,
+                               @Value("${jwt.refresh-max-families-per-user:5}") int maxFamiliesPerUser) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisService = redisService;
+        this.jwtTokenizer = jwtTokenizer;
+        this.familyTtl = Duration.ofMillis(jwtTokenizer.refreshTokenExpirationMinutes);
+        this.gracePeriod = Duration.ofSeconds(gracePeriodSeconds);
+        this.maxFamiliesPerUser = maxFamiliesPerUser;
+        for (Result result : Result.values()) {
+            rotationCounters.put(result, Counter.builder("auth.refresh_token.rotations")
+                    .description("refreshToken 교체 결과 (reuse_detected = 재사용 감지)")
+                    .tag("result", result.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    // 로그인 시 새 패밀리 시작
+    public String issue(Long userId, String email, String username, String role) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        startFamily(userId, familyId, tokenId);
+        return jwtTokenizer.createRefreshToken(userId, email, username, role, familyId, tokenId);
+    }
+
+    private void startFamily(Long userId, String familyId, String tokenId) {
+        Long evicted = stringRedisTemplate.execute(
+                ISSUE_SCRIPT,
+                List.of(familyKey(userId, familyId), familiesKey(userId)),
+                tokenId,
+                familyId,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(familyTtl.toSeconds()),
+                String.valueOf(maxFamiliesPerUser),
+                familyKey(userId, "")
+        );
+        if (evicted != null && evicted > 0) {
+            log.info("refreshToken 패밀리 최대 개수 초과, 오래된 패밀리 {}개 폐기 (userId={})", evicted, userId);
+        }
+    }
+
+    public Rotation rotate(String refreshToken, Claims claims) {
+        Long userId = jwtTokenizer.getUserId(claims);
+        String familyId = jwtTokenizer.getFamilyId(claims);
+        String nextTokenId = UUID.randomUUID().toString();
+
+        Rotation rotation = familyId == null
+                ? rotateLegacy(userId, refreshToken, nextTokenId)
+                : rotateFamily(userId, familyId, claims.getId(), nextTokenId);
+
+        rotationCounters.get(rotation.result()).increment();
+        if (rotation.result() == Result.REUSE_DETECTED) {
+            log.warn("refreshToken 재사용 감지, 패밀리 폐기 (userId={}, familyId={})", userId, familyId);
+        }
+        return rotation;
+    }
+
+    private Rotation rotateFamily(Long userId, String familyId, String tokenId, String nextTokenId) {
+        if (tokenId == null) {
+            return new Rotation(Result.INVALID, familyId, null);
+        }
+
+        Long result = stringRedisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(familyKey(userId, familyId), familiesKey(userId)),
+                tokenId,
+                nextTokenId,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(gracePeriod.toMillis()),
+                String.valueOf(familyTtl.toSeconds()),
+                familyId
+        );
+
+        if (result == null || result == 0L) {
+            return new Rotation(Result.INVALID, familyId, null);
+        }
+        if (result == 1L) {
+            return new Rotation(Result.ROTATED, familyId, nextTokenId);
+        }
+        if (result == 2L) {
+            return new Rotation(Result.GRACE, familyId, null);
+        }
+        return new Rotation(Result.REUSE_DETECTED, familyId, null);
+    }
+
+    // 패밀리 도입 전 토큰 (refresh:{사용자 ID}에 토큰 전체 저장) : 일치하면 새 패밀리로 옮김
+    private Rotation rotateLegacy(Long userId, String refreshToken, String nextTokenId) {
+        String legacyKey = RedisKeyNamespace.REFRESH_TOKEN.key(userId);
+        String saved = stringRedisTemplate.opsForValue().get(legacyKey);
+        if (saved == null || !saved.equals(refreshToken)) {
+            return new Rotation(Result.INVALID, null, null);
+        }
+
+        String familyId = UUID.randomUUID().toString();
+        startFamily(userId, familyId, nextTokenId);
+        stringRedisTemplate.delete(legacyKey);
+        return new Rotation(Result.ROTATED, familyId, nextTokenId);
+    }
+
+    // 로그아웃 : 해당 기기의 패밀리만 폐기
+    public void revoke(Claims claims) {
+        Long userId = jwtTokenizer.getUserId(claims);
+        String familyId = jwtTokenizer.getFamilyId(claims);
+        if (familyId == null) {
+            stringRedisTemplate.delete(RedisKeyNamespace.REFRESH_TOKEN.key(userId));
+            return;
+        }
+        stringRedisTemplate.delete(familyKey(userId, familyId));
+        stringRedisTemplate.opsForZSet().remove(familiesKey(userId), familyId);
+    }
+
+    // 탈퇴/삭제/거절 : 사용자의 모든 패밀리 폐기 (커밋 이후 실행, 목록 도입 전 패밀리도 함께 정리)
+    public void revokeAll(Long userId) {
+        Runnable task = () -> {
+            try {
+                long removed = redisService.unlinkKeys(familyKey(userId, "*"), REVOKE_SCAN_BATCH_SIZE);
+                stringRedisTemplate.delete(RedisKeyNamespace.REFRESH_TOKEN.key(userId));
+                log.info("refreshToken 패밀리 전체 폐기 (userId={}, keys={})", userId, removed);
+            } catch (Exception e) {
+                log.warn("refreshToken 패밀리 폐기 실패 (userId={}): {}", userId, e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private String familyKey(Long userId, String familyId) {
+        return RedisKeyNamespace.REFRESH_TOKEN.key(userId + ":" + familyId);
+    }
+
+    private String familiesKey(Long userId) {
+        return RedisKeyNamespace.REFRESH_TOKEN.key(userId + ":families");
+    }
+}
@@ -6,11 +6,12 @@ import com.example.backend.enums.RoleType;
 import com.example.backend.global.exception.BusinessLogicException;
 import com.example.backend.global.exception.ExceptionCode;
 import com.example.backend.global.security.jwt.util.JwtTokenizer;
-import com.example.backend.global.redis.RedisService;
 import com.example.backend.domain.role.entity.Role;
 import com.example.backend.domain.role.repository.RoleRepository;
 import com.example.backend.domain.user.entity.User;
 import com.example.backend.domain.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -27,7 +28,8 @@ public class TokenService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final JwtTokenizer jwtTokenizer;
-    private final RedisService redisService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenVersionService tokenVersionService;
 
 
     public String getTokenFromRequest() {
@@ -48,29 +50,46 @@ public class TokenService {
 
     }
 
-    public String getEmailFromToken(){
+    // 필터에서 파싱한 Claims를 재사용하고, 없으면 한 번만 파싱해서 요청에 보관
+    private Claims getClaimsFromRequest() {
+        Object cached = httpServletRequest.getAttribute(JwtTokenizer.CLAIMS_ATTRIBUTE);
+        if (cached instanceof Claims claims) {
+            return claims;
+        }
+
         String token = getTokenFromRequest();
 
         if (token == null) {
             throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_FOUND);  // 토큰이 없으면 예외 처리
         }
 
-        userRepository.findByEmail(jwtTokenizer.getEmailFromToken(token))
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+        Claims claims = jwtTokenizer.parseTokenWithUnknownType(token);
+        httpServletRequest.setAttribute(JwtTokenizer.CLAIMS_ATTRIBUTE, claims);
+        return claims;
+    }
 
+    // 유효한 accessToken이면 사용자 ID 반환 (DB 조회 없음), 아니면 null
+    public Long findUserIdFromAccessToken(String token) {
+        try {
+            Claims claims = jwtTokenizer.parseAccessToken(token);
+            httpServletRequest.setAttribute(JwtTokenizer.CLAIMS_ATTRIBUTE, claims);
+            return jwtTokenizer.getUserId(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
 
+    public String getEmailFromToken(){
+        String email = jwtTokenizer.getEmail(getClaimsFromRequest());
+
+        userRepository.findByEmail(email)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
 
-        return jwtTokenizer.getEmailFromToken(token);
+        return email;
     }
 
     public Role getRoleFromToken(){
-        String token = getTokenFromRequest();
-
-        if (token == null) {
-            throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_FOUND);  // 토큰이 없으면 예외 처리
-        }
-
-        RoleType roleType = RoleType.valueOf(jwtTokenizer.getRoleFromToken(token)); // 문자열을 enum으로 변환
+        RoleType roleType = RoleType.valueOf(jwtTokenizer.getRole(getClaimsFromRequest())); // 문자열을 enum으로 변환
 
         return roleRepository.findByRole(roleType).orElseThrow(
                 ()-> new BusinessLogicException(ExceptionCode.ROLE_NOT_FOUND)
@@ -78,26 +97,54 @@ public class TokenService {
     }
 
     public Long getIdFromToken(){
-        String token = getTokenFromRequest();
-
-        if (token == null) {
-            throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_FOUND); // 토큰이 없으면 예외 처리
-        }
+        Long userId = jwtTokenizer.getUserId(getClaimsFromRequest());
 
-        userRepository.findById(jwtTokenizer.getUserIdFromToken(token))
+        userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
 
+        return userId;
+    }
+
+    // 토큰의 사용자 ID (DB 조회 없음)
+    public Long getIdFromClaims(){
+        return jwtTokenizer.getUserId(getClaimsFromRequest());
+    }
+
+    // 토큰의 관리페이지 클레임 (DB 조회 없음, 없으면 null)
+    public Long findManagementDashboardIdFromClaims(){
+        return jwtTokenizer.getDashboardId(getClaimsFromRequest());
+    }
 
-        return jwtTokenizer.getUserIdFromToken(token);
+    // 토큰의 관리페이지 클레임 사용 (클레임이 없는 이전 토큰만 DB 조회)
+    public Long getManagementDashboardIdFromToken(){
+        Claims claims = getClaimsFromRequest();
+        Long dashboardId = jwtTokenizer.getDashboardId(claims);
+        if (dashboardId != null) {
+            return dashboardId;
+        }
+
+        User user = userRepository.findById(jwtTokenizer.getUserId(claims))
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+        if (user.getManagementDashboard() == null) {
+            throw new BusinessLogicException(ExceptionCode.MANAGEMENT_DASHBOARD_NOT_FOUND);
+        }
+        return user.getManagementDashboard().getId();
+    }
 
+    public String createAccessToken(User user, String email, String name) {
+        return jwtTokenizer.createAccessToken(user.getId(), email, name, user.getRole().getRole().name(),
+                user.getManagementDashboard() == null ? null : user.getManagementDashboard().getId(),
+                user.getDepartment() == null ? null : user.getDepartment().getId(),
+                user.getApprovalStatus(),
+                tokenVersionService.getVersion(user.getId()));
     }
 
     public void makeCookies(User user) {
         long maxAgeAccessInSeconds = jwtTokenizer.accessTokenExpirationMinutes / 1000;
         long maxAgeRefreshInSeconds = jwtTokenizer.refreshTokenExpirationMinutes / 1000;
-        String accessToken = jwtTokenizer.createAccessToken(user.getId(),user.getName()
-                ,user.getEmail(),user.getRole().getRole().name());
-        String refreshToken = jwtTokenizer.createRefreshToken(user.getId(),user.getName()
+        String accessToken = createAccessToken(user, user.getName(), user.getEmail());
+        // 로그인마다 새 refreshToken 패밀리 시작 (기기별로 따로 교체/폐기)
+        String refreshToken = refreshTokenService.issue(user.getId(),user.getName()
                 ,user.getEmail(),user.getRole().getRole().name());
 
         Cookie accessTokenCookie = new Cookie("accessToken", accessToken);
@@ -111,13 +158,29 @@ public class TokenService {
         refreshTokenCookie.setPath("/");
         refreshTokenCookie.setMaxAge(Math.toIntExact(maxAgeRefreshInSeconds));
 
-        redisService.saveRefreshToken(user.getId(),refreshToken);
-
 
         httpServletResponse.addCookie(accessTokenCookie);
         httpServletResponse.addCookie(refreshTokenCookie);
     }
 
+    // 로그아웃 : 요청의 refreshToken 패밀리 폐기 (다른 기기의 로그인은 유지)
+    public void revokeRefreshToken() {
+        Cookie[] cookies = httpServletRequest.getCookies();
+        if (cookies == null) {
+            return;
+        }
+        for (Cookie cookie : cookies) {
+            if ("refreshToken".equals(cookie.getName())) {
+                try {
+                    refreshTokenService.revoke(jwtTokenizer.parseRefreshToken(cookie.getValue()));
+                } catch (JwtException | IllegalArgumentException e) {
+                    // 이미 만료/위조된 토큰은 폐기할 패밀리가 없음
+                }
+                return;
+            }
+        }
+    }
+
     public void generateAccessToken(String name, String value) {
         long maxAgeInSeconds = jwtTokenizer.accessTokenExpirationMinutes / 1000;
         ResponseCookie cookie = ResponseCookie.from(name, value)
@@ -0,0 +1,97 @@
+package com.example.backend.global.security.jwt.service;
+
+import com.example.backend.global.redis.RedisKeyNamespace;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 accessToken 버전 : token_version:{사용자 ID}
+ * 역할/관리페이지/부서/승인 상태가 바뀌면 버전을 올려서, 이전 버전으로 발급된 accessToken은
+ * refreshToken으로 재발급받도록 한다. (토큰의 관리페이지/상태 클레임을 DB 조회 없이 믿을 수 있게 함)
+ */
+@Service
+@Slf4j
+public class TokenVersionService {
+
+    // refreshToken(7일)보다 길게 유지해서 만료로 버전이 되돌아가지 않도록 함
+    private static final Duration VERSION_TTL = Duration.ofDays(8);
+
+    // 요청마다 Redis를 조회하지 않도록 잠시 보관 (다른 서버에서 올린 버전은 최대 이 시간 뒤에 반영)
+    private static final Duration LOCAL_CACHE_TTL = Duration.ofSeconds(5);
+    private static final long LOCAL_CACHE_MAX_SIZE = 10_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<Long, Long> localVersions = Caffeine.newBuilder()
+            .expireAfterWrite(LOCAL_CACHE_TTL)
+            .maximumSize(LOCAL_CACHE_MAX_SIZE)
+            .build();
+    private final Counter lookupFailureCounter;
+
+    public TokenVersionService(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.lookupFailureCounter = Counter.builder("auth.token_version.lookup_failures")
+                .description("토큰 버전 조회 실패로 버전 확인 없이 허용한 요청 수")
+                .register(meterRegistry);
+    }
+
+    // 토큰 발급 시 사용 (항상 Redis의 현재 값)
+    public long getVersion(Long userId) {
+        String version = stringRedisTemplate.opsForValue().get(RedisKeyNamespace.TOKEN_VERSION.key(userId));
+        long current = version == null ? 0L : Long.parseLong(version);
+        localVersions.put(userId, current);
+        return current;
+    }
+
+    // 버전은 증가만 하므로 토큰 버전이 로컬 값보다 크면(다른 서버에서 올린 뒤 재발급된 토큰) Redis에서 다시 확인
+    // Redis 장애 시에는 버전 확인 없이 허용 (서명/만료 검증은 그대로이고, 모든 API가 500이 되지 않도록 함)
+    public boolean isCurrent(Long userId, Object tokenVersion) {
+        if (!(tokenVersion instanceof Number number)) return false;
+        long version = number.longValue();
+
+        Long cached = localVersions.getIfPresent(userId);
+        if (cached != null && version <= cached) {
+            return version == cached;
+        }
+        try {
+            return version == getVersion(userId);
+        } catch (DataAccessException e) {
+            lookupFailureCounter.increment();
+            log.warn("토큰 버전 조회 실패, 버전 확인 없이 허용 (userId={}): {}", userId, e.getMessage());
+            return true;
+        }
+    }
+
+    // 커밋 이후 버전 증가 (롤백되면 기존 토큰 유지)
+    public void bump(Long userId) {
+        Runnable task = () -> {
+            try {
+                String key = RedisKeyNamespace.TOKEN_VERSION.key(userId);
+                stringRedisTemplate.opsForValue().increment(key);
+                stringRedisTemplate.expire(key, VERSION_TTL);
+                localVersions.invalidate(userId);
+            } catch (Exception e) {
+                log.warn("토큰 버전 갱신 실패 (userId={}): {}", userId, e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package com.example.backend.global.security.jwt.util;
 
+import com.example.backend.enums.ApprovalStatus;
 import com.example.backend.global.exception.BusinessLogicException;
 import com.example.backend.global.exception.ExceptionCode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -17,8 +21,23 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtTokenizer {
 
-    private final byte [] accessSecret;
-    private final byte [] refreshSecret;
+    // 요청 필터에서 한 번 파싱한 Claims를 보관하는 request attribute 이름
+    public static final String CLAIMS_ATTRIBUTE = JwtTokenizer.class.getName() + ".CLAIMS";
+
+    // accessToken에만 들어가는 클레임 (서비스에서 DB 조회 없이 관리페이지/상태를 확인)
+    public static final String DASHBOARD_ID_CLAIM = "dashboardId";
+    public static final String DEPARTMENT_ID_CLAIM = "departmentId";
+    public static final String APPROVAL_STATUS_CLAIM = "approvalStatus";
+    public static final String TOKEN_VERSION_CLAIM = "tokenVersion";
+
+    // refreshToken 패밀리(기기별 로그인) ID, 토큰 ID는 jti에 저장
+    public static final String FAMILY_ID_CLAIM = "familyId";
+
+    // 서명 키와 파서는 만들 때 비용이 크고 스레드에 안전하므로 시작 시 한 번만 생성
+    private final Key accessKey;
+    private final Key refreshKey;
+    private final JwtParser accessParser;
+    private final JwtParser refreshParser;
     public final Long refreshTokenExpirationMinutes;
     public final Long accessTokenExpirationMinutes;
 
@@ -26,8 +45,10 @@ public class JwtTokenizer {
     public JwtTokenizer(@Value("${jwt.secretKey}") String accessSecret, @Value("${jwt.refreshKey}") String refreshSecret,
                         @Value("${jwt.refresh-token-expire-time}") Long refreshTokenExpirationMinutes,
                         @Value("${jwt.access-token-expire-time}") Long accessTokenExpirationMinutes) {
-        this.accessSecret = accessSecret.getBytes(StandardCharsets.UTF_8);
-        this.refreshSecret = refreshSecret.getBytes(StandardCharsets.UTF_8);
+        this.accessKey = Keys.hmacShaKeyFor(accessSecret.getBytes(StandardCharsets.UTF_8));
+        this.refreshKey = Keys.hmacShaKeyFor(refreshSecret.getBytes(StandardCharsets.UTF_8));
+        this.accessParser = Jwts.parserBuilder().setSigningKey(accessKey).build();
+        this.refreshParser = Jwts.parserBuilder().setSigningKey(refreshKey).build();
         this.refreshTokenExpirationMinutes = refreshTokenExpirationMinutes;
         this.accessTokenExpirationMinutes=accessTokenExpirationMinutes;
 
@@ -36,7 +57,7 @@ public class JwtTokenizer {
 
     //토큰은 인증에 대한 정보만 들어가게 하고, 비밀번호는 넣지 않는다(보안 문제 상 ) 불필요한 애들은 빼도 괜춘 ㅇㅇ
     private String createToken(Long id, String email, String username, String role,
-                               Long expire, byte[] secretKey){
+                               Map<String, Object> extraClaims, Long expire, Key signingKey){
        //필요한 정보들을 저장한다.
         //고유한 식별자 값이 subject에 들어가는게 좋다 (이메일 중복 안될테니 걍 이메일 넣은거임)
         Claims claims = Jwts.claims()
@@ -47,45 +68,48 @@ public class JwtTokenizer {
         claims.put("username",username);
         claims.put("userId",id);
         claims.put("roles", List.of(role));
-
+        claims.putAll(extraClaims);
 
         return Jwts.builder()
                 .setClaims(claims)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(new Date().getTime() + expire))//만료시간 : , 현재 시간 + expire 더한값 -> 언제까지 사용할지
-                .signWith(getSigningKey(secretKey))
+                .signWith(signingKey)
                 .compact();
     }
 
     //값을 꺼내려고 하니 토큰, 시크릿키를 추가할 수 있는 메서드 만듬
     public Claims parseAccessToken(String accessToken){
-        return parseToken(accessToken,accessSecret);
+        return parseToken(accessToken,accessParser);
     }
 
     public Claims parseRefreshToken(String refreshToken){
-        return parseToken(refreshToken,refreshSecret);
-
-    }
+        return parseToken(refreshToken,refreshParser);
 
-    private static Key getSigningKey(byte[] secretKey){
-        return Keys.hmacShaKeyFor(secretKey);
     }
 
-    public String createAccessToken(Long id, String email,String name, String role){
-        return createToken(id,email,name,role, accessTokenExpirationMinutes,accessSecret);
+    public String createAccessToken(Long id, String email,String name, String role,
+                                    Long dashboardId, Long departmentId, ApprovalStatus approvalStatus,
+                                    long tokenVersion){
+        Map<String, Object> extraClaims = new HashMap<>();
+        extraClaims.put(DASHBOARD_ID_CLAIM, dashboardId);
+        extraClaims.put(DEPARTMENT_ID_CLAIM, departmentId);
+        extraClaims.put(APPROVAL_STATUS_CLAIM, approvalStatus == null ? null : approvalStatus.name());
+        extraClaims.put(TOKEN_VERSION_CLAIM, tokenVersion);
+        return createToken(id,email,name,role, extraClaims, accessTokenExpirationMinutes,accessKey);
     }
 
-    public String createRefreshToken(Long id, String email, String username, String role){
-        return createToken(id,email,username,role,refreshTokenExpirationMinutes,refreshSecret);
+    public String createRefreshToken(Long id, String email, String username, String role,
+                                     String familyId, String tokenId){
+        Map<String, Object> extraClaims = Map.of(FAMILY_ID_CLAIM, familyId, Claims.ID, tokenId);
+        return createToken(id,email,username,role, extraClaims, refreshTokenExpirationMinutes,refreshKey);
     }
 
 
     //받은 토큰에서 데이터 받는 메서드
-    public Claims parseToken(String token, byte[] secretKey){
+    private Claims parseToken(String token, JwtParser parser){
 
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey(secretKey))
-                .build()
+        Claims claims = parser
                 .parseClaimsJws(token)
                 .getBody();
 
@@ -107,40 +131,36 @@ public class JwtTokenizer {
 
 
     public String getEmailFromToken(String token){
-        if(token == null || token.isBlank()){
-            throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_FOUND);
-        }
+        return getEmail(parseTokenWithUnknownTypeOrThrow(token));
+    }
 
+    public String getRoleFromToken(String token){
+        return getRole(parseTokenWithUnknownTypeOrThrow(token));
+    }
 
-        Claims claims = parseTokenWithUnknownType(token);
+    public Long getUserIdFromToken(String token){
+        return getUserId(parseTokenWithUnknownTypeOrThrow(token));
+    }
 
-        if(claims == null){
-            throw new IllegalArgumentException("유효하지 않은 형식입니다.");
+    private Claims parseTokenWithUnknownTypeOrThrow(String token){
+        if(token == null || token.isBlank()){
+            throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_FOUND);
         }
+        return parseTokenWithUnknownType(token);
+    }
 
+    // 이미 파싱된 Claims에서 값 꺼내기 (요청마다 토큰을 다시 파싱하지 않도록)
+    public String getEmail(Claims claims){
         Object email = claims.get("email");
 
-
         if(email instanceof String){
             return ((String)email);
         }else{
             throw new IllegalArgumentException("JWT토큰에서 email를 찾을 수 없습니다.");
         }
-
     }
 
-    public String getRoleFromToken(String token){
-        if(token == null || token.isBlank()){
-            throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_FOUND);
-        }
-
-
-        Claims claims = parseTokenWithUnknownType(token);
-
-        if(claims == null){
-            throw new IllegalArgumentException("유효하지 않은 형식입니다.");
-        }
-
+    public String getRole(Claims claims){
         Object roles = claims.get("roles");
 
         if (roles instanceof List<?> roleList && !roleList.isEmpty()) {
@@ -148,33 +168,42 @@ public class JwtTokenizer {
         } else {
             throw new IllegalArgumentException("JWT토큰에서 roles를 찾을 수 없습니다.");
         }
-
-
     }
 
-
-    public Long getUserIdFromToken(String token){
-        if(token == null || token.isBlank()){
-            throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_FOUND);
-        }
-
-        Claims claims = parseTokenWithUnknownType(token);
-
-        if(claims == null){
-            throw new IllegalArgumentException("유효하지 않은 형식입니다.");
-        }
+    public Long getUserId(Claims claims){
         Object userId = claims.get("userId");
         if(userId instanceof Number){
             return ((Number)userId).longValue();
         }else{
             throw new IllegalArgumentException("JWT토큰에서 userId를 찾을 수 없습니다.");
         }
+    }
+
+    // 관리페이지가 없거나 이전 형식의 토큰이면 null
+    public Long getDashboardId(Claims claims){
+        Object dashboardId = claims.get(DASHBOARD_ID_CLAIM);
+        return dashboardId instanceof Number number ? number.longValue() : null;
+    }
+
+    public Long getDepartmentId(Claims claims){
+        Object departmentId = claims.get(DEPARTMENT_ID_CLAIM);
+        return departmentId instanceof Number number ? number.longValue() : null;
+    }
+
+    // 패밀리 도입 전에 발급된 refreshToken이면 null
+    public String getFamilyId(Claims claims){
+        Object familyId = claims.get(FAMILY_ID_CLAIM);
+        return familyId instanceof String id ? id : null;
+    }
 
+    public ApprovalStatus getApprovalStatus(Claims claims){
+        Object approvalStatus = claims.get(APPROVAL_STATUS_CLAIM);
+        return approvalStatus instanceof String status ? ApprovalStatus.valueOf(status) : null;
     }
 
     public boolean validateAccessToken(String token) {
         try {
-            Jwts.parser().setSigningKey(accessSecret).parseClaimsJws(token); // 유효한 JWT인지 확인
+            accessParser.parseClaimsJws(token); // 유효한 JWT인지 확인
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false; // 예외 발생 시 토큰이 유효하지 않음
@@ -183,7 +212,7 @@ public class JwtTokenizer {
 
     public boolean validateRefreshToken(String token) {
         try {
-            Jwts.parser().setSigningKey(refreshSecret).parseClaimsJws(token); // 유효한 JWT인지 확인
+            refreshParser.parseClaimsJws(token); // 유효한 JWT인지 확인
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false; // 예외 발생 시 토큰이 유효하지 않음
@@ -192,10 +221,10 @@ public class JwtTokenizer {
 
     public Claims parseTokenWithUnknownType(String token) {
         try {
-            return parseToken(token, accessSecret); // 시도 1
+            return parseToken(token, accessParser); // 시도 1
         } catch (JwtException e1) {
             try {
-                return parseToken(token, refreshSecret); // 시도 2
+                return parseToken(token, refreshParser); // 시도 2
             } catch (JwtException e2) {
                 throw new IllegalArgumentException("Access/Refresh 둘 다 아님: 유효하지 않은 토큰입니다.");
             }
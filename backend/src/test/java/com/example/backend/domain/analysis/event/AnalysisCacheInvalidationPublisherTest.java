@@ -0,0 +1,88 @@
+package com.example.backend.domain.analysis.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.backend.enums.AnalysisCacheType;
+import com.example.backend.global.redis.CounterCacheWriter;
+import com.example.backend.support.EmbeddedRedisSupport;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class AnalysisCacheInvalidationPublisherTest extends EmbeddedRedisSupport {
+
+    private static final String COUNTER_KEY = "test:outbound_count:1";
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void invalidationRunsAfterCounterDeltasEvenWhenRegisteredFirst() {
+        CounterCacheWriter writer = new CounterCacheWriter(redisTemplate);
+        writer.replaceHash(COUNTER_KEY, 0L, Duration.ofMinutes(5), Map.of("ACTIVE", "1"));
+
+        // 이벤트를 받는 시점의 카운터 값을 기록 (무효화 후 다시 만드는 스냅샷이 읽을 값)
+        List<String> countersSeenOnInvalidation = new ArrayList<>();
+        ApplicationEventPublisher eventPublisher = event ->
+                countersSeenOnInvalidation.add((String) redisTemplate.opsForHash().get(COUNTER_KEY, "ACTIVE"));
+        AnalysisCacheInvalidationPublisher publisher = new AnalysisCacheInvalidationPublisher(eventPublisher);
+
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.invalidate(1L, AnalysisCacheType.SNAPSHOT);
+        writer.incrementHash(COUNTER_KEY, Map.of("ACTIVE", 1L), false);
+
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        assertThat(countersSeenOnInvalidation).isEmpty();
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(countersSeenOnInvalidation).containsExactly("2");
+    }
+
+    @Test
+    void publishesOneEventPerDashboardAfterCommit() {
+        List<AnalysisCacheInvalidationEvent> events = new ArrayList<>();
+        AnalysisCacheInvalidationPublisher publisher =
+                new AnalysisCacheInvalidationPublisher(event -> events.add((AnalysisCacheInvalidationEvent) event));
+
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.invalidate(1L, AnalysisCacheType.SNAPSHOT);
+        publisher.invalidate(1L, AnalysisCacheType.CATEGORY_SUMMARY, AnalysisCacheType.SNAPSHOT);
+        publisher.invalidate(2L, AnalysisCacheType.SNAPSHOT);
+        assertThat(events).isEmpty();
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getManagementDashboardId()).isEqualTo(1L);
+        assertThat(events.get(0).getCacheTypes())
+                .isEqualTo(EnumSet.of(AnalysisCacheType.CATEGORY_SUMMARY, AnalysisCacheType.SNAPSHOT));
+        assertThat(events.get(1).getManagementDashboardId()).isEqualTo(2L);
+    }
+
+    @Test
+    void rolledBackTransactionPublishesNothing() {
+        List<Object> events = new ArrayList<>();
+        AnalysisCacheInvalidationPublisher publisher = new AnalysisCacheInvalidationPublisher(events::add);
+
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.invalidate(1L, AnalysisCacheType.SNAPSHOT);
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(events).isEmpty();
+    }
+}
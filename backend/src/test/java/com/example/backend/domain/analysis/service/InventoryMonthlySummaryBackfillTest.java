@@ -0,0 +1,64 @@
+package com.example.backend.domain.analysis.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.backend.global.redis.RedisLockService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InventoryMonthlySummaryBackfillTest {
+
+    private InventoryMonthlySummaryService monthlySummaryService;
+    private InventoryMonthlySummaryBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        monthlySummaryService = mock(InventoryMonthlySummaryService.class);
+        RedisLockService redisLockService = mock(RedisLockService.class);
+        when(redisLockService.runWithLock(any(), any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return true;
+        });
+        backfill = new InventoryMonthlySummaryBackfill(monthlySummaryService, redisLockService);
+
+        when(monthlySummaryService.findManagementIdsWithHistory()).thenReturn(List.of(1L, 2L));
+        when(monthlySummaryService.findManagementIdsToBackfill()).thenReturn(List.of(2L));
+    }
+
+    @Test
+    void rebuildsEveryDashboardOnceLegacyKeyIsDropped() {
+        // 이전 유니크 키로 쌓인 행은 카테고리가 섞였을 수 있음
+        when(monthlySummaryService.dropLegacyUniqueKey()).thenReturn(true);
+
+        backfill.backfill();
+
+        verify(monthlySummaryService).rebuild(1L);
+        verify(monthlySummaryService).rebuild(2L);
+    }
+
+    @Test
+    void rebuildsOnlyDashboardsWithoutSummaryOtherwise() {
+        when(monthlySummaryService.dropLegacyUniqueKey()).thenReturn(false);
+
+        backfill.backfill();
+
+        verify(monthlySummaryService).rebuild(2L);
+        verify(monthlySummaryService, never()).rebuild(1L);
+    }
+
+    @Test
+    void failureOfOneDashboardDoesNotStopTheRest() {
+        when(monthlySummaryService.dropLegacyUniqueKey()).thenReturn(true);
+        when(monthlySummaryService.rebuild(1L)).thenThrow(new IllegalStateException("lock wait timeout"));
+
+        backfill.backfill();
+
+        verify(monthlySummaryService).rebuild(2L);
+        verify(monthlySummaryService, never()).findManagementIdsToBackfill();
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.backend.domain.chat.chatMessage.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.backend.domain.chat.chatMessage.dto.request.ChatMessageRequestDto;
+import com.example.backend.domain.chat.chatMessage.dto.response.ChatMessageCursorResponseDto;
+import com.example.backend.domain.chat.chatMessage.dto.response.ChatMessageProjection;
+import com.example.backend.domain.chat.chatMessage.dto.response.ChatResponseDto;
+import com.example.backend.domain.chat.chatMessage.entity.ChatMessage;
+import com.example.backend.domain.chat.chatMessage.repository.ChatMessageRepository;
+import com.example.backend.domain.chat.chatUser.entity.ChatUser;
+import com.example.backend.domain.chat.chatUser.repository.ChatUserRepository;
+import com.example.backend.domain.chat.chatroom.entity.ChatRoom;
+import com.example.backend.domain.chat.chatroom.repository.ChatRoomRepository;
+import com.example.backend.domain.chat.chatroom.service.ChatRoomService;
+import com.example.backend.domain.user.entity.User;
+import com.example.backend.domain.user.service.UserService;
+import com.example.backend.enums.ChatMessageStatus;
+import com.example.backend.enums.ChatRoomType;
+import com.example.backend.enums.ChatStatus;
+import com.example.backend.global.exception.BusinessLogicException;
+import com.example.backend.global.exception.ExceptionCode;
+import com.example.backend.global.redis.RedisService;
+import com.example.backend.global.security.jwt.service.TokenService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+// 커서 기반 메시지 조회 (before : 이전 메시지, since : 재연결 후 누락된 메시지), 메시지 전송 시 채팅방 상태 갱신
+class ChatMessageServiceTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long USER_ID = 7L;
+
+    private ChatMessageRepository chatMessageRepository;
+    private ChatUserRepository chatUserRepository;
+    private ChatRoomRepository chatRoomRepository;
+    private UserService userService;
+    private ChatMessageService chatMessageService;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageRepository = mock(ChatMessageRepository.class);
+        chatUserRepository = mock(ChatUserRepository.class);
+        chatRoomRepository = mock(ChatRoomRepository.class);
+        userService = mock(UserService.class);
+        TokenService tokenService = mock(TokenService.class);
+        ChatRoomService chatRoomService = new ChatRoomService(chatRoomRepository, chatUserRepository,
+                chatMessageRepository, mock(RedisService.class), tokenService, userService);
+        chatMessageService = new ChatMessageService(chatMessageRepository, chatUserRepository, userService,
+                chatRoomService, mock(SimpMessagingTemplate.class), tokenService, mock(ApplicationEventPublisher.class));
+
+        when(tokenService.getIdFromToken()).thenReturn(USER_ID);
+        when(chatUserRepository.existsByUserIdAndChatRoomId(USER_ID, ROOM_ID)).thenReturn(true);
+    }
+
+    @Test
+    void beforeReturnsPageAndNextCursorWhenMoreMessagesExist() {
+        // limit + 1 개가 조회되면 다음 페이지가 있음
+        List<ChatMessageProjection> found = messages(99, 98, 97, 96);
+        when(chatMessageRepository.findByRoomIdBefore(ROOM_ID, 100L, PageRequest.of(0, 4))).thenReturn(found);
+
+        ChatMessageCursorResponseDto response = chatMessageService.getChatMessageBefore(ROOM_ID, 100L, 3);
+
+        assertThat(messageIds(response)).containsExactly(99L, 98L, 97L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo(97L);
+    }
+
+    @Test
+    void beforeWithoutCursorStartsFromLatestAndEndsOnLastPage() {
+        List<ChatMessageProjection> found = messages(3, 2, 1);
+        when(chatMessageRepository.findLatestByRoomId(ROOM_ID, PageRequest.of(0, 4))).thenReturn(found);
+
+        ChatMessageCursorResponseDto response = chatMessageService.getChatMessageBefore(ROOM_ID, null, 3);
+
+        assertThat(messageIds(response)).containsExactly(3L, 2L, 1L);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isEqualTo(1L);
+    }
+
+    @Test
+    void sinceReturnsOlderFirstAndKeepsCursorWhenNothingIsMissed() {
+        List<ChatMessageProjection> found = messages(11, 12, 13);
+        when(chatMessageRepository.findByRoomIdAfter(ROOM_ID, 10L, PageRequest.of(0, 3))).thenReturn(found);
+
+        ChatMessageCursorResponseDto response = chatMessageService.getChatMessageSince(ROOM_ID, 10L, 2);
+
+        assertThat(messageIds(response)).containsExactly(11L, 12L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo(12L);
+
+        when(chatMessageRepository.findByRoomIdAfter(ROOM_ID, 13L, PageRequest.of(0, 3))).thenReturn(List.of());
+
+        ChatMessageCursorResponseDto empty = chatMessageService.getChatMessageSince(ROOM_ID, 13L, 2);
+
+        assertThat(empty.getMessages()).isEmpty();
+        assertThat(empty.isHasNext()).isFalse();
+        assertThat(empty.getNextCursor()).isNull();
+    }
+
+    @Test
+    void limitIsClampedBetweenOneAndMaximum() {
+        when(chatMessageRepository.findLatestByRoomId(eq(ROOM_ID), any())).thenReturn(List.of());
+        when(chatMessageRepository.findByRoomIdAfter(eq(ROOM_ID), eq(0L), any())).thenReturn(List.of());
+
+        chatMessageService.getChatMessageBefore(ROOM_ID, null, 10_000);
+        chatMessageService.getChatMessageBefore(ROOM_ID, null, 0);
+        chatMessageService.getChatMessageSince(ROOM_ID, 0L, -5);
+
+        verify(chatMessageRepository).findLatestByRoomId(ROOM_ID, PageRequest.of(0, 101));
+        verify(chatMessageRepository).findLatestByRoomId(ROOM_ID, PageRequest.of(0, 2));
+        verify(chatMessageRepository).findByRoomIdAfter(ROOM_ID, 0L, PageRequest.of(0, 2));
+    }
+
+    @Test
+    void nonMemberIsRejectedBeforeQueryingMessages() {
+        when(chatUserRepository.existsByUserIdAndChatRoomId(USER_ID, ROOM_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> chatMessageService.getChatMessageBefore(ROOM_ID, 100L, 20))
+                .isInstanceOfSatisfying(BusinessLogicException.class,
+                        e -> assertThat(e.getCode()).isEqualTo(ExceptionCode.NOT_ENTER_CHAT_ROOM));
+        assertThatThrownBy(() -> chatMessageService.getChatMessageSince(ROOM_ID, 100L, 20))
+                .isInstanceOfSatisfying(BusinessLogicException.class,
+                        e -> assertThat(e.getCode()).isEqualTo(ExceptionCode.NOT_ENTER_CHAT_ROOM));
+
+        verifyNoInteractions(chatMessageRepository);
+    }
+
+    @Test
+    void talkAppliesEnterMessageOfInvitedUserAndTalkToRoomState() {
+        // 초대된 상태에서 처음 메시지를 보내면 입장 메시지와 대화 메시지가 모두 채팅방 상태에 반영되어야 함
+        User sender = User.builder().id(USER_ID).name("sender").build();
+        ChatRoom room = ChatRoom.builder().id(ROOM_ID).roomType(ChatRoomType.GROUP).build();
+        ChatUser invited = ChatUser.builder().id(3L).user(sender).chatRoom(room).chatStatus(ChatStatus.INVITED).build();
+        when(userService.findById(USER_ID)).thenReturn(sender);
+        when(chatRoomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room));
+        when(chatUserRepository.findByUserAndChatRoom(sender, room)).thenReturn(Optional.of(invited));
+        when(chatUserRepository.findByChatRoom(room)).thenReturn(List.of(invited));
+        AtomicLong ids = new AtomicLong();
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenAnswer(invocation -> {
+            ChatMessage saved = invocation.getArgument(0);
+            saved.setId(ids.incrementAndGet());
+            return saved;
+        });
+
+        ChatMessage talk = chatMessageService.sendMessage(
+                new ChatMessageRequestDto(ChatMessageStatus.TALK, USER_ID, ROOM_ID, "hello"));
+
+        assertThat(talk.getId()).isEqualTo(2L);
+        assertThat(invited.getChatStatus()).isEqualTo(ChatStatus.ENTER);
+        verify(chatRoomRepository).updateLastMessage(eq(ROOM_ID), eq(1L), any());
+        verify(chatRoomRepository).updateLastMessage(eq(ROOM_ID), eq(2L), any());
+        verify(chatUserRepository, times(2)).increaseUnreadCount(ROOM_ID, USER_ID);
+    }
+
+    private static List<ChatMessageProjection> messages(long... ids) {
+        List<ChatMessageProjection> messages = new ArrayList<>();
+        for (long id : ids) {
+            ChatMessageProjection message = mock(ChatMessageProjection.class);
+            when(message.getId()).thenReturn(id);
+            when(message.getRoomId()).thenReturn(ROOM_ID);
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    private static List<Long> messageIds(ChatMessageCursorResponseDto response) {
+        return response.getMessages().stream().map(ChatResponseDto::getMessageId).toList();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.backend.domain.chat.chatroom.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.backend.domain.chat.chatMessage.repository.ChatMessageRepository;
+import com.example.backend.domain.chat.chatUser.entity.ChatUser;
+import com.example.backend.domain.chat.chatUser.repository.ChatUserRepository;
+import com.example.backend.domain.chat.chatroom.entity.ChatRoom;
+import com.example.backend.domain.chat.chatroom.repository.ChatRoomRepository;
+import com.example.backend.domain.user.entity.User;
+import com.example.backend.domain.user.service.UserService;
+import com.example.backend.enums.ChatRoomType;
+import com.example.backend.enums.ChatStatus;
+import com.example.backend.global.exception.BusinessLogicException;
+import com.example.backend.global.exception.ExceptionCode;
+import com.example.backend.global.redis.RedisService;
+import com.example.backend.global.security.jwt.service.TokenService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+// 1:1, 고객센터 채팅방 pair_key (중복 생성 방지, 나가면 해제), 안읽은 메시지 수 초기화
+class ChatRoomServiceTest {
+
+    private ChatRoomRepository chatRoomRepository;
+    private ChatUserRepository chatUserRepository;
+    private RedisService redisService;
+    private TokenService tokenService;
+    private UserService userService;
+    private ChatRoomService chatRoomService;
+
+    private final User first = User.builder().id(1L).name("first").build();
+    private final User second = User.builder().id(2L).name("second").build();
+
+    @BeforeEach
+    void setUp() {
+        chatRoomRepository = mock(ChatRoomRepository.class);
+        chatUserRepository = mock(ChatUserRepository.class);
+        redisService = mock(RedisService.class);
+        tokenService = mock(TokenService.class);
+        userService = mock(UserService.class);
+        chatRoomService = new ChatRoomService(chatRoomRepository, chatUserRepository,
+                mock(ChatMessageRepository.class), redisService, tokenService, userService);
+    }
+
+    @Test
+    void pairKeyDoesNotDependOnUserOrderButOnRoomType() {
+        assertThat(ChatRoom.createPairKey(ChatRoomType.ONE_TO_ONE, 2L, 1L))
+                .isEqualTo(ChatRoom.createPairKey(ChatRoomType.ONE_TO_ONE, 1L, 2L))
+                .isEqualTo("ONE_TO_ONE:1:2");
+        assertThat(ChatRoom.createPairKey(ChatRoomType.SUPPORT, 1L, 2L)).isEqualTo("SUPPORT:1:2");
+    }
+
+    @Test
+    void oneToOneRoomIsSavedWithPairKeyAndGroupRoomWithout() {
+        ChatRoom oneToOne = chatRoomService.createRoomBase(List.of(second, first), "room", ChatRoomType.ONE_TO_ONE);
+        ChatRoom group = chatRoomService.createRoomBase(List.of(first, second), "group", ChatRoomType.GROUP);
+
+        assertThat(oneToOne.getPairKey()).isEqualTo("ONE_TO_ONE:1:2");
+        assertThat(group.getPairKey()).isNull();
+    }
+
+    @Test
+    void concurrentCreationConflictIsReportedAsAlreadyExists() {
+        // 다른 요청이 같은 pair_key로 먼저 저장한 경우 유니크 제약 위반
+        when(chatRoomRepository.saveAndFlush(any(ChatRoom.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_chat_rooms_pair_key"));
+
+        assertThatThrownBy(() -> chatRoomService.createRoomBase(List.of(first, second), "room", ChatRoomType.ONE_TO_ONE))
+                .isInstanceOfSatisfying(BusinessLogicException.class,
+                        e -> assertThat(e.getCode()).isEqualTo(ExceptionCode.CHAT_ROOM_ALREADY_EXISTS));
+
+        verify(chatUserRepository, never()).save(any());
+    }
+
+    @Test
+    void leavingClearsPairKeySoSamePairCanCreateNewRoom() {
+        ChatRoom room = givenJoinedRoom();
+        ChatUser remaining = ChatUser.builder().id(11L).user(second).chatRoom(room).chatStatus(ChatStatus.ENTER).build();
+        when(chatUserRepository.findByChatRoom(room)).thenReturn(List.of(remaining));
+
+        chatRoomService.leaveChatRoom(room.getId());
+
+        assertThat(room.getPairKey()).isNull();
+        verify(chatUserRepository).deleteById(10L);
+        verify(redisService, never()).scheduleRoomDeletion(any(), any());
+    }
+
+    @Test
+    void lastUserLeavingSchedulesRoomDeletion() {
+        ChatRoom room = givenJoinedRoom();
+        when(chatUserRepository.findByChatRoom(room)).thenReturn(List.of());
+
+        chatRoomService.leaveChatRoom(room.getId());
+
+        assertThat(room.getPairKey()).isNull();
+        verify(redisService).scheduleRoomDeletion(eq(room.getId()), any(Duration.class));
+    }
+
+    @Test
+    void enteringRoomResetsOnlyOwnUnreadCount() {
+        ChatRoom room = givenJoinedRoom();
+        when(userService.findUserByToken()).thenReturn(first);
+
+        chatRoomService.updateLastEnterTime(room.getId());
+
+        verify(chatUserRepository).resetUnreadCount(eq(10L), any(LocalDateTime.class));
+    }
+
+    private ChatRoom givenJoinedRoom() {
+        ChatRoom room = ChatRoom.builder()
+                .id(100L)
+                .roomType(ChatRoomType.ONE_TO_ONE)
+                .pairKey(ChatRoom.createPairKey(ChatRoomType.ONE_TO_ONE, 1L, 2L))
+                .build();
+        ChatUser chatUser = ChatUser.builder().id(10L).user(first).chatRoom(room).chatStatus(ChatStatus.ENTER).build();
+
+        when(tokenService.getIdFromToken()).thenReturn(first.getId());
+        when(userService.findById(first.getId())).thenReturn(first);
+        when(chatRoomRepository.findById(room.getId())).thenReturn(Optional.of(room));
+        when(chatUserRepository.findByUserAndChatRoom(first, room)).thenReturn(Optional.of(chatUser));
+        return room;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.backend.domain.chat.handler;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.backend.domain.chat.chatroom.service.ChatRoomService;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+class ChatRoomBackfillTest {
+
+    @Test
+    void pairKeyBackfillRunsEvenWhenLastMessageBackfillFails() {
+        ChatRoomService chatRoomService = mock(ChatRoomService.class);
+        when(chatRoomService.backfillLastMessage()).thenThrow(new QueryTimeoutException("timeout"));
+
+        // 서버 시작을 막지 않고 다음 작업을 계속 진행
+        new ChatRoomBackfill(chatRoomService).backfill();
+
+        verify(chatRoomService).backfillPairKey();
+    }
+}
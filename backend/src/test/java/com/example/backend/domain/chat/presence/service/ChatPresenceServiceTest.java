@@ -0,0 +1,72 @@
+package com.example.backend.domain.chat.presence.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.backend.support.EmbeddedRedisSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// 채팅방 접속 상태 (ZSET, score = 만료 시각)
+class ChatPresenceServiceTest extends EmbeddedRedisSupport {
+
+    private static final Long ROOM_ID = 1L;
+    private static final String PRESENCE_KEY = "chat:presence:room:" + ROOM_ID;
+
+    private ChatPresenceService presenceService;
+
+    @BeforeEach
+    void setUp() {
+        presenceService = new ChatPresenceService(redisTemplate);
+    }
+
+    @Test
+    void subscribingToChatRoomMarksUserAsViewing() {
+        presenceService.connect("session", 10L);
+        presenceService.subscribe("session", 10L, "sub-1", "/sub/chat/" + ROOM_ID);
+        // 채팅방 구독이 아닌 경로는 무시
+        presenceService.subscribe("session", 10L, "sub-2", "/sub/notification/10");
+
+        assertThat(presenceService.isViewingRoom(ROOM_ID, 10L)).isTrue();
+        assertThat(presenceService.getOnlineUserIds(ROOM_ID)).containsExactly(10L);
+        assertThat(redisTemplate.getExpire(PRESENCE_KEY)).isPositive();
+    }
+
+    @Test
+    void expiredEntryIsIgnoredOnReadAndPrunedByHeartbeat() {
+        presenceService.subscribe("session", 10L, "sub-1", "/sub/chat/" + ROOM_ID);
+        // 다른 서버가 갱신하지 못하고 종료된 접속
+        redisTemplate.opsForZSet().add(PRESENCE_KEY, "20", System.currentTimeMillis() - 1_000);
+
+        assertThat(presenceService.isViewingRoom(ROOM_ID, 20L)).isFalse();
+        assertThat(presenceService.getOnlineUserIds(ROOM_ID)).containsExactly(10L);
+        // 조회 경로에서는 삭제하지 않음
+        assertThat(redisTemplate.opsForZSet().score(PRESENCE_KEY, "20")).isNotNull();
+
+        presenceService.heartbeat();
+
+        assertThat(redisTemplate.opsForZSet().score(PRESENCE_KEY, "20")).isNull();
+        assertThat(presenceService.isViewingRoom(ROOM_ID, 10L)).isTrue();
+    }
+
+    @Test
+    void heartbeatExtendsExpiryOfLocalSubscriptions() {
+        presenceService.subscribe("session", 10L, "sub-1", "/sub/chat/" + ROOM_ID);
+        redisTemplate.opsForZSet().add(PRESENCE_KEY, "10", System.currentTimeMillis() - 1_000);
+
+        presenceService.heartbeat();
+
+        assertThat(presenceService.isViewingRoom(ROOM_ID, 10L)).isTrue();
+    }
+
+    @Test
+    void userStaysViewingUntilLastTabLeaves() {
+        presenceService.subscribe("tab-1", 10L, "sub-1", "/sub/chat/" + ROOM_ID);
+        presenceService.subscribe("tab-2", 10L, "sub-1", "/sub/chat/" + ROOM_ID);
+
+        presenceService.unsubscribe("tab-1", "sub-1");
+        assertThat(presenceService.isViewingRoom(ROOM_ID, 10L)).isTrue();
+
+        presenceService.disconnect("tab-2");
+        assertThat(presenceService.isViewingRoom(ROOM_ID, 10L)).isFalse();
+    }
+}
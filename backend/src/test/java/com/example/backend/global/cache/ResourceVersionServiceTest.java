@@ -0,0 +1,136 @@
+package com.example.backend.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.example.backend.enums.VersionedResource;
+import com.example.backend.support.EmbeddedRedisSupport;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class ResourceVersionServiceTest extends EmbeddedRedisSupport {
+
+    private ResourceVersionService resourceVersionService;
+
+    @BeforeEach
+    void setUp() {
+        resourceVersionService = new ResourceVersionService(redisTemplate);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void etagChangesOnlyWhenVersionIsBumped() {
+        String etag = resourceVersionService.weakETag(VersionedResource.ITEMS, 1L, null);
+
+        assertThat(etag).startsWith("W/\"items-1-");
+        assertThat(resourceVersionService.weakETag(VersionedResource.ITEMS, 1L, null)).isEqualTo(etag);
+        assertThat(resourceVersionService.weakETag(VersionedResource.ITEMS, 1L, "page=1")).isNotEqualTo(etag);
+
+        resourceVersionService.bump(VersionedResource.ITEMS, 1L);
+
+        assertThat(resourceVersionService.weakETag(VersionedResource.ITEMS, 1L, null)).isNotEqualTo(etag);
+        assertThat(resourceVersionService.weakETag(VersionedResource.CATEGORIES, 1L, null))
+                .isEqualTo(resourceVersionService.weakETag(VersionedResource.CATEGORIES, 1L, null));
+    }
+
+    @Test
+    void bumpInTransactionIsAppliedOnceAfterCommit() {
+        long version = resourceVersionService.getVersion(VersionedResource.ITEMS, 1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        resourceVersionService.bump(VersionedResource.ITEMS, 1L);
+        resourceVersionService.bump(VersionedResource.ITEMS, 1L);
+        assertThat(resourceVersionService.getVersion(VersionedResource.ITEMS, 1L)).isEqualTo(version);
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(resourceVersionService.getVersion(VersionedResource.ITEMS, 1L)).isEqualTo(version + 1);
+    }
+
+    @Test
+    void rolledBackTransactionKeepsVersion() {
+        long version = resourceVersionService.getVersion(VersionedResource.ITEMS, 1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        resourceVersionService.bump(VersionedResource.ITEMS, 1L);
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(resourceVersionService.getVersion(VersionedResource.ITEMS, 1L)).isEqualTo(version);
+    }
+
+    @Test
+    void matchingIfNoneMatchReturns304WithoutBuildingBody() {
+        String etag = resourceVersionService.weakETag(VersionedResource.ITEMS, 1L, null);
+        AtomicInteger bodyCalls = new AtomicInteger();
+
+        ResponseEntity<List<String>> response = resourceVersionService.conditionalGet(etag, etag, () -> {
+            bodyCalls.incrementAndGet();
+            return List.of("item");
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getBody()).isNull();
+        assertThat(bodyCalls).hasValue(0);
+    }
+
+    @Test
+    void staleIfNoneMatchReturns200WithNewEtag() {
+        String oldEtag = resourceVersionService.weakETag(VersionedResource.ITEMS, 1L, null);
+        resourceVersionService.bump(VersionedResource.ITEMS, 1L);
+        String etag = resourceVersionService.weakETag(VersionedResource.ITEMS, 1L, null);
+
+        ResponseEntity<List<String>> response = resourceVersionService.conditionalGet(oldEtag, etag, () -> List.of("item"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getHeaders().getCacheControl()).contains("no-cache");
+        assertThat(response.getBody()).containsExactly("item");
+    }
+
+    @Test
+    void redisFailureServesBodyWithoutEtag() {
+        StringRedisTemplate failingTemplate = mock(StringRedisTemplate.class, invocation -> {
+            throw new RedisConnectionFailureException("down");
+        });
+        ResourceVersionService service = new ResourceVersionService(failingTemplate);
+
+        String etag = service.weakETag(VersionedResource.ITEMS, 1L, null);
+        ResponseEntity<List<String>> response = service.conditionalGet("W/\"items-1-1\"", etag, () -> List.of("item"));
+
+        assertThat(etag).isNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNull();
+        assertThat(response.getBody()).containsExactly("item");
+    }
+
+    @Test
+    void matchesUsesWeakComparison() {
+        String etag = "W/\"abc\"";
+
+        assertThat(ResourceVersionService.matches("\"abc\"", etag)).isTrue();
+        assertThat(ResourceVersionService.matches("W/\"abc\"", "\"abc\"")).isTrue();
+        assertThat(ResourceVersionService.matches("\"x\", W/\"abc\"", etag)).isTrue();
+        assertThat(ResourceVersionService.matches("*", etag)).isTrue();
+        assertThat(ResourceVersionService.matches("\"abcd\"", etag)).isFalse();
+        assertThat(ResourceVersionService.matches(null, etag)).isFalse();
+        assertThat(ResourceVersionService.matches(" ", etag)).isFalse();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.backend.global.datasource;
+
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// readOnly 커넥션은 복제본, PrimaryReads 안의 readOnly 커넥션과 쓰기 커넥션은 주 DB
+class ReadReplicaDataSourceConfigTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(HikariDataSource.class);
+        replica = mock(HikariDataSource.class);
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+        when(replica.getConnection()).thenReturn(mock(Connection.class));
+        dataSource = new ReadReplicaDataSourceConfig().dataSource(primary, replica);
+
+        // 첫 커넥션 요청 때 주 DB에서 기본 autoCommit/격리 수준을 한 번 읽어 둠
+        dataSource.getConnection().close();
+        clearInvocations(primary, replica);
+    }
+
+    @Test
+    void readOnlyConnectionUsesReplica() throws SQLException {
+        query(true);
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void writeConnectionUsesPrimary() throws SQLException {
+        query(false);
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void readOnlyConnectionInsidePrimaryReadsUsesPrimary() throws SQLException {
+        PrimaryReads.run(() -> {
+            try {
+                query(true);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void primaryReadsIsClearedAfterNestedCalls() throws SQLException {
+        PrimaryReads.call(() -> PrimaryReads.call(PrimaryReads::isActive));
+
+        query(true);
+
+        verify(replica).getConnection();
+    }
+
+    // 트랜잭션 매니저처럼 커넥션을 얻은 뒤 readOnly 표시 후 첫 쿼리 실행
+    private void query(boolean readOnly) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(readOnly);
+            connection.createStatement();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.backend.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.backend.global.ratelimit.RateLimitService.Bucket;
+import com.example.backend.global.redis.RedisKeyNamespace;
+import com.example.backend.support.EmbeddedRedisSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class RateLimitServiceTest extends EmbeddedRedisSupport {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitService rateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getRemoteAddr()).thenReturn("10.0.0.1");
+        rateLimitService = new RateLimitService(redisTemplate, request, meterRegistry);
+    }
+
+    @Test
+    void rejectsAfterCapacityWithRetryAfter() {
+        long capacity = RateLimitPolicy.USER_EXPORT.getCapacity();
+        for (int i = 0; i < capacity; i++) {
+            rateLimitService.consume(RateLimitPolicy.USER_EXPORT, "1");
+        }
+
+        assertThatThrownBy(() -> rateLimitService.consume(RateLimitPolicy.USER_EXPORT, "1"))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, e -> {
+                    assertThat(e.getPolicy()).isEqualTo(RateLimitPolicy.USER_EXPORT);
+                    assertThat(e.getRetryAfterSeconds()).isPositive();
+                });
+        assertThat(count(RateLimitPolicy.USER_EXPORT, "allowed")).isEqualTo(capacity);
+        assertThat(count(RateLimitPolicy.USER_EXPORT, "rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void tenantRejectionDoesNotConsumeUserTokens() {
+        for (int i = 0; i < RateLimitPolicy.TENANT_EXPORT.getCapacity(); i++) {
+            rateLimitService.consume(RateLimitPolicy.TENANT_EXPORT, "dashboard");
+        }
+        List<Bucket> buckets = List.of(
+                new Bucket(RateLimitPolicy.USER_EXPORT, "1"),
+                new Bucket(RateLimitPolicy.TENANT_EXPORT, "dashboard"));
+
+        assertThatThrownBy(() -> rateLimitService.consume(buckets))
+                .isInstanceOfSatisfying(RateLimitExceededException.class,
+                        e -> assertThat(e.getPolicy()).isEqualTo(RateLimitPolicy.TENANT_EXPORT));
+
+        // 관리페이지 버킷에서 거절됐으므로 사용자 버킷은 그대로
+        assertThat(redisTemplate.hasKey(RedisKeyNamespace.RATE_LIMIT.key("user_export:1"))).isFalse();
+        for (int i = 0; i < RateLimitPolicy.USER_EXPORT.getCapacity(); i++) {
+            rateLimitService.consume(RateLimitPolicy.USER_EXPORT, "1");
+        }
+    }
+
+    @Test
+    void checksLoginByIpAndCaseInsensitiveAccount() {
+        for (int i = 0; i < RateLimitPolicy.LOGIN_ACCOUNT.getCapacity(); i++) {
+            rateLimitService.checkLogin(i % 2 == 0 ? "User@Example.com" : "user@example.com");
+        }
+
+        assertThatThrownBy(() -> rateLimitService.checkLogin("USER@example.com"))
+                .isInstanceOfSatisfying(RateLimitExceededException.class,
+                        e -> assertThat(e.getPolicy()).isEqualTo(RateLimitPolicy.LOGIN_ACCOUNT));
+        assertThatCode(() -> rateLimitService.checkLogin("other@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void allowsRequestWhenRedisIsUnavailable() {
+        StringRedisTemplate failingTemplate = mock(StringRedisTemplate.class, invocation -> {
+            throw new RedisConnectionFailureException("down");
+        });
+        RateLimitService service = new RateLimitService(failingTemplate, mock(HttpServletRequest.class), meterRegistry);
+
+        assertThatCode(() -> service.consume(RateLimitPolicy.USER_EXPORT, "1")).doesNotThrowAnyException();
+        assertThat(count(RateLimitPolicy.USER_EXPORT, "error")).isEqualTo(1);
+    }
+
+    private double count(RateLimitPolicy policy, String result) {
+        return meterRegistry.get("rate_limit.requests")
+                .tag("policy", policy.getName())
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.backend.global.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.backend.support.EmbeddedRedisSupport;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class CounterCacheWriterTest extends EmbeddedRedisSupport {
+
+    private static final String KEY = "test:counter";
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private CounterCacheWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new CounterCacheWriter(redisTemplate);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void hashDeltaIsAppliedOnlyWhenHashExists() {
+        writer.incrementHash(KEY, Map.of("ACTIVE", 1L), false);
+
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+        assertThat(writer.generation(KEY)).isEqualTo(1L);
+
+        assertThat(writer.replaceHash(KEY, writer.generation(KEY), TTL, Map.of("ACTIVE", "3"))).isTrue();
+        writer.incrementHash(KEY, Map.of("ACTIVE", 2L), false);
+
+        assertThat(redisTemplate.opsForHash().get(KEY, "ACTIVE")).isEqualTo("5");
+        assertThat(redisTemplate.getExpire(KEY)).isPositive();
+    }
+
+    @Test
+    void removesFieldGroupWhenLastFieldIsNoLongerPositive() {
+        writer.replaceHash(KEY, 0L, TTL, fields("total:비품", "2", "types:비품", "1", "total:기타", "4", "types:기타", "1"));
+
+        writer.incrementHash(KEY, deltas("total:비품", -2L, "types:비품", -1L), true);
+
+        assertThat(redisTemplate.<String, String>opsForHash().entries(KEY))
+                .containsOnlyKeys("total:기타", "types:기타");
+    }
+
+    @Test
+    void reloadIsDiscardedWhenDeltaWasAppliedDuringLoad() {
+        long generation = writer.generation(KEY);
+
+        writer.incrementHash(KEY, Map.of("ACTIVE", 1L), false);
+
+        assertThat(writer.replaceHash(KEY, generation, TTL, Map.of("ACTIVE", "0"))).isFalse();
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+    }
+
+    @Test
+    void deltaIsAppliedAfterCommitAndBlocksReloadUntilThen() {
+        writer.replaceHash(KEY, 0L, TTL, Map.of("ACTIVE", "1"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        writer.incrementHash(KEY, Map.of("ACTIVE", 1L), false);
+        writer.incrementHash(KEY, Map.of("ACTIVE", 1L), false);
+        assertThat(redisTemplate.opsForHash().get(KEY, "ACTIVE")).isEqualTo("1");
+
+        // 커밋 직전 ~ 반영 전 : DB에는 보이지만 캐시에는 없는 증감이 있으므로 재집계 결과를 저장하지 않음
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        assertThat(redisTemplate.opsForValue().get(KEY + ":pending")).isEqualTo("1");
+        assertThat(writer.replaceHash(KEY, writer.generation(KEY), TTL, Map.of("ACTIVE", "9"))).isFalse();
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        // 같은 키의 증감은 합쳐서 한 번에 반영
+        assertThat(redisTemplate.opsForHash().get(KEY, "ACTIVE")).isEqualTo("3");
+        assertThat(writer.generation(KEY)).isEqualTo(1L);
+        assertThat(redisTemplate.hasKey(KEY + ":pending")).isFalse();
+    }
+
+    @Test
+    void transactionWithSeveralFieldsReleasesOnlyItsOwnPendingMarker() throws Exception {
+        writer.replaceHash(KEY, 0L, TTL, fields("ACTIVE", "5", "LOST", "0"));
+
+        // 트랜잭션마다 스레드를 나눠 동기화 상태가 섞이지 않도록 함
+        ExecutorService first = Executors.newSingleThreadExecutor();
+        ExecutorService second = Executors.newSingleThreadExecutor();
+        try {
+            // 상태 변경처럼 같은 범위에 필드 두 개를 따로 증감하는 트랜잭션
+            run(first, () -> {
+                TransactionSynchronizationManager.initSynchronization();
+                writer.incrementHash(KEY, Map.of("ACTIVE", -1L), false);
+                writer.incrementHash(KEY, Map.of("LOST", 1L), false);
+                TransactionSynchronizationUtils.triggerBeforeCommit(false);
+            });
+            run(second, () -> {
+                TransactionSynchronizationManager.initSynchronization();
+                writer.incrementHash(KEY, Map.of("ACTIVE", 1L), false);
+                TransactionSynchronizationUtils.triggerBeforeCommit(false);
+            });
+            assertThat(redisTemplate.opsForValue().get(KEY + ":pending")).isEqualTo("2");
+
+            run(first, CounterCacheWriterTest::commit);
+
+            // 두 번째 트랜잭션의 증감은 아직 반영 전이므로 재집계 결과를 저장하지 않아야 함
+            assertThat(redisTemplate.opsForValue().get(KEY + ":pending")).isEqualTo("1");
+            assertThat(writer.replaceHash(KEY, writer.generation(KEY), TTL, fields("ACTIVE", "5", "LOST", "1"))).isFalse();
+
+            run(second, CounterCacheWriterTest::commit);
+        } finally {
+            first.shutdownNow();
+            second.shutdownNow();
+        }
+
+        assertThat(redisTemplate.hasKey(KEY + ":pending")).isFalse();
+        assertThat(redisTemplate.<String, String>opsForHash().entries(KEY))
+                .containsEntry("ACTIVE", "5")
+                .containsEntry("LOST", "1");
+    }
+
+    @Test
+    void rollbackReleasesPendingMarkerWithoutApplyingDelta() {
+        writer.replaceHash(KEY, 0L, TTL, Map.of("ACTIVE", "1"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        writer.incrementHash(KEY, Map.of("ACTIVE", 1L), false);
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(redisTemplate.opsForHash().get(KEY, "ACTIVE")).isEqualTo("1");
+        assertThat(redisTemplate.hasKey(KEY + ":pending")).isFalse();
+        assertThat(writer.replaceHash(KEY, writer.generation(KEY), TTL, Map.of("ACTIVE", "1"))).isTrue();
+    }
+
+    @Test
+    void evictDiscardsValueBuiltBeforeEviction() {
+        long generation = writer.generation(KEY);
+
+        writer.evict(KEY);
+
+        assertThat(writer.replaceValue(KEY, generation, TTL, "stale")).isFalse();
+        assertThat(writer.replaceValue(KEY, writer.generation(KEY), TTL, "fresh")).isTrue();
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("fresh");
+    }
+
+    @Test
+    void zsetReplaceRenamesTemporaryKeysOnlyWhenUnchanged() {
+        String scope = "test:usage";
+        String target = "test:usage:2024-01-01";
+
+        long generation = writer.generation(scope);
+        redisTemplate.opsForZSet().add("tmp:1", "10", 3);
+        assertThat(writer.replaceZSets(scope, generation, Map.of("tmp:1", target))).isTrue();
+        assertThat(redisTemplate.opsForZSet().score(target, "10")).isEqualTo(3.0);
+
+        // 재집계 도중 출고가 반영되면 임시 키만 지우고 기존 값 유지
+        long staleGeneration = writer.generation(scope);
+        redisTemplate.opsForZSet().add("tmp:2", "10", 100);
+        writer.incrementZSet(scope, target, "10", 2, TTL);
+        assertThat(writer.replaceZSets(scope, staleGeneration, Map.of("tmp:2", target))).isFalse();
+
+        assertThat(redisTemplate.hasKey("tmp:2")).isFalse();
+        assertThat(redisTemplate.opsForZSet().score(target, "10")).isEqualTo(5.0);
+    }
+
+    private static void commit() {
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static void run(ExecutorService executor, Runnable step) throws Exception {
+        executor.submit(step).get(10, TimeUnit.SECONDS);
+    }
+
+    private static Map<String, String> fields(String... pairs) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            fields.put(pairs[i], pairs[i + 1]);
+        }
+        return fields;
+    }
+
+    private static Map<String, Long> deltas(String firstField, long firstDelta, String secondField, long secondDelta) {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        deltas.put(firstField, firstDelta);
+        deltas.put(secondField, secondDelta);
+        return deltas;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.backend.global.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.backend.support.EmbeddedRedisSupport;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// 채팅방 삭제 예약 큐 (ZSET + 꺼내기 Lua 스크립트)
+class RedisServiceTest extends EmbeddedRedisSupport {
+
+    private static final String QUEUE = RedisKeyNamespace.CHAT_ROOM_DELETION.key("queue");
+    private static final String LEGACY_LIST = RedisKeyNamespace.CHAT_ROOM_DELETION.key("list");
+
+    private RedisService redisService;
+
+    @BeforeEach
+    void setUp() {
+        redisService = new RedisService(redisTemplate);
+    }
+
+    @Test
+    void popsOnlyDueRoomsInDueOrderAndRemovesThem() {
+        redisTemplate.opsForZSet().add(QUEUE, "2", 2_000);
+        redisTemplate.opsForZSet().add(QUEUE, "1", 1_000);
+        redisTemplate.opsForZSet().add(QUEUE, "3", 9_000);
+
+        assertThat(redisService.popDueDeletionRoomIds(5_000, 10)).containsExactly("1", "2");
+
+        assertThat(redisTemplate.opsForZSet().range(QUEUE, 0, -1)).containsExactly("3");
+        assertThat(redisService.popDueDeletionRoomIds(5_000, 10)).isEmpty();
+    }
+
+    @Test
+    void popIsLimitedToBatchSize() {
+        for (int i = 1; i <= 5; i++) {
+            redisTemplate.opsForZSet().add(QUEUE, String.valueOf(i), i);
+        }
+
+        assertThat(redisService.popDueDeletionRoomIds(10, 2)).containsExactly("1", "2");
+        assertThat(redisService.popDueDeletionRoomIds(10, 2)).containsExactly("3", "4");
+        assertThat(redisService.popDueDeletionRoomIds(10, 2)).containsExactly("5");
+    }
+
+    @Test
+    void concurrentPopsNeverReturnTheSameRoomTwice() throws Exception {
+        int rooms = 200;
+        for (int i = 0; i < rooms; i++) {
+            redisTemplate.opsForZSet().add(QUEUE, String.valueOf(i), i);
+        }
+
+        // 여러 서버의 스케줄러가 같은 큐를 동시에 꺼내는 상황
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<String> popped = new ArrayList<>();
+        try {
+            List<Callable<List<String>>> workers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                workers.add(() -> {
+                    List<String> mine = new ArrayList<>();
+                    List<String> batch;
+                    while (!(batch = redisService.popDueDeletionRoomIds(rooms, 7)).isEmpty()) {
+                        mine.addAll(batch);
+                    }
+                    return mine;
+                });
+            }
+            for (Future<List<String>> result : executor.invokeAll(workers, 10, TimeUnit.SECONDS)) {
+                popped.addAll(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(popped).hasSize(rooms).doesNotHaveDuplicates();
+        assertThat(redisTemplate.hasKey(QUEUE)).isFalse();
+    }
+
+    @Test
+    void scheduledRoomIsNotPoppedBeforeItsDelay() {
+        redisService.scheduleRoomDeletion(7L, Duration.ofMinutes(10));
+
+        assertThat(redisService.popDueDeletionRoomIds(System.currentTimeMillis(), 10)).isEmpty();
+        assertThat(redisService.popDueDeletionRoomIds(System.currentTimeMillis() + Duration.ofMinutes(11).toMillis(), 10))
+                .containsExactly("7");
+    }
+
+    @Test
+    void legacyListIsMovedIntoQueueWithoutPostponingExistingEntries() {
+        redisTemplate.opsForSet().add(LEGACY_LIST, "1", "2");
+        redisTemplate.opsForZSet().add(QUEUE, "2", 500);
+
+        redisService.migrateLegacyDeletionList();
+
+        assertThat(redisTemplate.hasKey(LEGACY_LIST)).isFalse();
+        // 이전 방식으로 예약된 방은 바로 삭제 대상, 이미 큐에 있던 방은 예정 시각 유지
+        assertThat(redisTemplate.opsForZSet().score(QUEUE, "1")).isPositive();
+        assertThat(redisTemplate.opsForZSet().score(QUEUE, "2")).isEqualTo(500.0);
+        assertThat(redisService.popDueDeletionRoomIds(System.currentTimeMillis(), 10)).containsExactly("2", "1");
+    }
+}
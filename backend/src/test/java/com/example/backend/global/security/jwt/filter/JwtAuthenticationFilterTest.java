@@ -0,0 +1,88 @@
+package com.example.backend.global.security.jwt.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.example.backend.domain.user.repository.UserRepository;
+import com.example.backend.global.exception.JwtExceptionCode;
+import com.example.backend.global.security.jwt.service.RefreshTokenService;
+import com.example.backend.global.security.jwt.service.TokenService;
+import com.example.backend.global.security.jwt.service.TokenVersionService;
+import com.example.backend.global.security.jwt.util.JwtTokenizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+// accessToken 없이 refreshToken만 들어온 요청
+class JwtAuthenticationFilterTest {
+
+    private static final String ACCESS_SECRET = "test-access-secret-key-for-jwt-filter-0123456789";
+    private static final String REFRESH_SECRET = "test-refresh-secret-key-for-jwt-filter-0123456789";
+
+    private JwtTokenizer jwtTokenizer;
+    private RefreshTokenService refreshTokenService;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+        jwtTokenizer = new JwtTokenizer(ACCESS_SECRET, REFRESH_SECRET, 60L, 30L);
+        refreshTokenService = mock(RefreshTokenService.class);
+        filter = new JwtAuthenticationFilter(jwtTokenizer, refreshTokenService, mock(TokenService.class),
+                mock(TokenVersionService.class), mock(UserRepository.class),
+                new FilterSkipPathMatcher(List.of("/skip/**")), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void malformedRefreshTokenIsRejectedAsBadCredentials() {
+        MockHttpServletRequest request = requestWithRefreshToken("not-a-jwt");
+        MockFilterChain chain = new MockFilterChain();
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), chain))
+                .isInstanceOf(BadCredentialsException.class);
+
+        assertThat(request.getAttribute("exception")).isEqualTo(JwtExceptionCode.INVALID_TOKEN.getCode());
+        assertThat(chain.getRequest()).isNull();
+        verifyNoInteractions(refreshTokenService);
+    }
+
+    @Test
+    void refreshTokenSignedWithAnotherKeyIsRejectedAsBadCredentials() {
+        // 서명 키가 다른 토큰 (accessToken을 refreshToken 쿠키에 넣은 경우 등)
+        JwtTokenizer otherTokenizer = new JwtTokenizer(REFRESH_SECRET, ACCESS_SECRET, 60L, 30L);
+        String forged = otherTokenizer.createRefreshToken(1L, "user@test.com", "user", "ROLE_USER", "family", "token");
+        MockHttpServletRequest request = requestWithRefreshToken(forged);
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain()))
+                .isInstanceOf(BadCredentialsException.class);
+
+        verifyNoInteractions(refreshTokenService);
+    }
+
+    @Test
+    void blankRefreshTokenPassesThroughUnauthenticated() throws Exception {
+        MockHttpServletRequest request = requestWithRefreshToken("");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(refreshTokenService);
+    }
+
+    private static MockHttpServletRequest requestWithRefreshToken(String refreshToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/items");
+        request.setCookies(new Cookie("refreshToken", refreshToken));
+        return request;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.backend.global.security.jwt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.backend.support.EmbeddedRedisSupport;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+// refreshToken 패밀리 Lua 스크립트 (교체, 유예 시간, 재사용 감지, 사용자별 개수 제한)
+class RefreshTokenScriptTest extends EmbeddedRedisSupport {
+
+    private static final String PREFIX = "refresh:1:";
+    private static final String FAMILIES = PREFIX + "families";
+    private static final long GRACE_MILLIS = 10_000;
+    private static final long TTL_SECONDS = 3_600;
+
+    @Test
+    void rotatesCurrentTokenAndAllowsPreviousWithinGracePeriod() {
+        issue("family", "token-1", 1_000, 5);
+
+        assertThat(rotate("family", "token-1", "token-2", 2_000)).isEqualTo(1L);
+        assertThat(redisTemplate.opsForHash().get(PREFIX + "family", "current")).isEqualTo("token-2");
+
+        // 같은 토큰으로 동시에 들어온 요청 : 유예 시간 안이면 패밀리 유지
+        assertThat(rotate("family", "token-1", "token-3", 2_000 + GRACE_MILLIS)).isEqualTo(2L);
+        assertThat(redisTemplate.opsForHash().get(PREFIX + "family", "current")).isEqualTo("token-2");
+        assertThat(rotate("family", "token-2", "token-3", 3_000)).isEqualTo(1L);
+    }
+
+    @Test
+    void reuseAfterGracePeriodRevokesFamily() {
+        issue("family", "token-1", 1_000, 5);
+        rotate("family", "token-1", "token-2", 2_000);
+
+        assertThat(rotate("family", "token-1", "token-3", 2_001 + GRACE_MILLIS)).isEqualTo(-1L);
+
+        assertThat(redisTemplate.hasKey(PREFIX + "family")).isFalse();
+        assertThat(redisTemplate.opsForZSet().score(FAMILIES, "family")).isNull();
+        // 폐기 이후에는 정상 토큰으로도 교체할 수 없음
+        assertThat(rotate("family", "token-2", "token-4", 20_000)).isZero();
+    }
+
+    @Test
+    void unknownTokenRevokesFamily() {
+        issue("family", "token-1", 1_000, 5);
+
+        assertThat(rotate("family", "forged", "token-2", 2_000)).isEqualTo(-1L);
+        assertThat(redisTemplate.hasKey(PREFIX + "family")).isFalse();
+    }
+
+    @Test
+    void issueRevokesLeastRecentlyUsedFamiliesOverLimit() {
+        issue("family-a", "a", 1_000, 2);
+        issue("family-b", "b", 2_000, 2);
+        // a를 다시 사용해서 b가 가장 오래 쓰지 않은 패밀리가 됨
+        rotate("family-a", "a", "a2", 3_000);
+
+        assertThat(issue("family-c", "c", 4_000, 2)).isEqualTo(1L);
+
+        assertThat(redisTemplate.hasKey(PREFIX + "family-b")).isFalse();
+        assertThat(redisTemplate.opsForZSet().range(FAMILIES, 0, -1)).containsExactly("family-a", "family-c");
+        assertThat(rotate("family-b", "b", "b2", 5_000)).isZero();
+    }
+
+    private Long issue(String familyId, String tokenId, long now, int maxFamilies) {
+        return redisTemplate.execute(RefreshTokenService.ISSUE_SCRIPT, List.of(PREFIX + familyId, FAMILIES),
+                tokenId, familyId, String.valueOf(now), String.valueOf(TTL_SECONDS), String.valueOf(maxFamilies), PREFIX);
+    }
+
+    private Long rotate(String familyId, String tokenId, String nextTokenId, long now) {
+        return redisTemplate.execute(RefreshTokenService.ROTATE_SCRIPT, List.of(PREFIX + familyId, FAMILIES),
+                tokenId, nextTokenId, String.valueOf(now), String.valueOf(GRACE_MILLIS), String.valueOf(TTL_SECONDS), familyId);
+    }
+}